@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+# Runs the same k6 load against the backend in platform-thread and virtual-thread
+# mode and prints throughput, p99, heap, platform thread count, Mongo pool wait and
+# pinning events side by side.
+#
+# Requires: k6, jq, curl, a running MongoDB with seed data, and a built jar.
+# Performance endpoints require authentication: export ADMIN_TOKEN=<JWT>.
+#
+# Usage: ./compare-thread-modes.sh [path/to/app.jar]
+set -euo pipefail
+
+JAR="${1:-build/libs/$(ls build/libs 2>/dev/null | grep -v plain | head -1)}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+RATE="${RATE:-200}"
+DURATION="${DURATION:-2m}"
+WARMUP="${WARMUP:-30s}"
+RESULTS_DIR="${RESULTS_DIR:-load-tests/results/$(date +%Y%m%d-%H%M%S)}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+AUTH_HEADER="Authorization: Bearer ${ADMIN_TOKEN:?ADMIN_TOKEN must be set}"
+
+mkdir -p "$RESULTS_DIR"
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  local out="$RESULTS_DIR/$mode"
+  mkdir -p "$out"
+
+  echo "==> Starting backend ($mode threads)"
+  VIRTUAL_THREADS_ENABLED="$virtual" \
+  APP_PERFORMANCE_VIRTUAL_THREADS_PINNING_MONITOR_ENABLED=true \
+    java -jar "$JAR" --server.port="$PORT" > "$out/app.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  for _ in $(seq 1 60); do
+    curl -sf "$BASE_URL/api/v1/projects?page=1&size=1" > /dev/null && break
+    sleep 2
+  done
+
+  echo "==> Warm-up ($WARMUP)"
+  k6 run -q -e BASE_URL="$BASE_URL" -e RATE="$RATE" -e DURATION="$WARMUP" "$SCRIPT_DIR/thread-modes.js" > /dev/null || true
+
+  echo "==> Measuring ($DURATION at $RATE req/s)"
+  k6 run -e BASE_URL="$BASE_URL" -e RATE="$RATE" -e DURATION="$DURATION" \
+    --summary-export "$out/k6-summary.json" "$SCRIPT_DIR/thread-modes.js" > "$out/k6.log" || true
+
+  curl -sf -H "$AUTH_HEADER" "$BASE_URL/api/v1/performance/mongo/pool" > "$out/mongo-pool.json" || echo '{}' > "$out/mongo-pool.json"
+  curl -sf -H "$AUTH_HEADER" "$BASE_URL/api/v1/performance/virtual-threads" > "$out/virtual-threads.json" || echo '{}' > "$out/virtual-threads.json"
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-28s %14s %14s\n' "metric" "platform" "virtual"
+row() {
+  local label="$1" file="$2" expr="$3"
+  printf '%-28s %14s %14s\n' "$label" \
+    "$(jq -r "$expr // \"n/a\"" "$RESULTS_DIR/platform/$file")" \
+    "$(jq -r "$expr // \"n/a\"" "$RESULTS_DIR/virtual/$file")"
+}
+row "throughput (req/s)"     k6-summary.json      '.metrics.http_reqs.rate | floor'
+row "p50 (ms)"               k6-summary.json      '.metrics.http_req_duration."p(50)" | . * 10 | floor / 10'
+row "p99 (ms)"               k6-summary.json      '.metrics.http_req_duration."p(99)" | . * 10 | floor / 10'
+row "failed rate"            k6-summary.json      '.metrics.http_req_failed.value'
+row "heap used (MB)"         virtual-threads.json '.data.heapUsedBytes / 1048576 | floor'
+row "platform threads"       virtual-threads.json '.data.platformThreads'
+row "pinned events"          virtual-threads.json '.data.pinnedEvents'
+row "mongo pool p99 wait (us)" mongo-pool.json    '.data.p99WaitMicros'
+row "mongo pool max wait (us)" mongo-pool.json    '.data.maxWaitMicros'
+echo
+echo "Raw results: $RESULTS_DIR"
@@ -0,0 +1,52 @@
+// k6 load test used to compare platform-thread and virtual-thread serving modes.
+// Drives a fixed arrival rate against the Mongo-bound public read endpoints so both
+// modes receive identical load; throughput and latency percentiles come from k6,
+// pool wait / pinning / heap figures from the backend's performance endpoints.
+//
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e RATE=200 -e DURATION=2m thread-modes.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    public_reads: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: Math.max(50, RATE),
+      maxVUs: RATE * 4,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const res = http.get(`${BASE_URL}/api/v1/projects?page=1&size=50`);
+  const body = res.json();
+  const ids = body && body.data && body.data.content ? body.data.content.map((p) => p.id) : [];
+  return { ids };
+}
+
+export default function (data) {
+  const roll = Math.random();
+  let res;
+  if (roll < 0.5) {
+    res = http.get(`${BASE_URL}/api/v1/projects?page=1&size=10`, { tags: { route: 'project-list' } });
+  } else if (roll < 0.8 && data.ids.length > 0) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    res = http.get(`${BASE_URL}/api/v1/projects/${id}`, { tags: { route: 'project-detail' } });
+  } else if (roll < 0.9) {
+    res = http.get(`${BASE_URL}/api/v1/techstacks`, { tags: { route: 'techstacks' } });
+  } else {
+    res = http.get(`${BASE_URL}/api/v1/academics`, { tags: { route: 'academics' } });
+  }
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,127 @@
+package com.mytechfolio.portfolio.config;
+
+import com.mytechfolio.portfolio.service.monitoring.ExecutorMetricsService;
+import com.mytechfolio.portfolio.util.ExecutorStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Asynchronous execution configuration.
+ * Defines one bounded executor per workload so that per-request metrics
+ * recording, SMTP sends and analytics rollups cannot starve each other:
+ * 
+ * - metricsExecutor: small platform pool, large queue, discards when full
+ *   (metrics are best-effort and must never block or slow a request)
+ * - emailExecutor: virtual threads for blocking SMTP I/O with bounded concurrency,
+ *   logs and drops when full so a mail backlog never fails a contact submission
+ * - analyticsExecutor: small platform pool for rollups, runs on the caller when
+ *   full to apply back-pressure to the scheduler
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+    
+    public static final String METRICS_EXECUTOR = "metricsExecutor";
+    public static final String EMAIL_EXECUTOR = "emailExecutor";
+    public static final String ANALYTICS_EXECUTOR = "analyticsExecutor";
+    
+    private final ExecutorMetricsService executorMetricsService;
+    
+    @Value("${app.async.metrics.pool-size:2}")
+    private int metricsPoolSize;
+    
+    @Value("${app.async.metrics.queue-capacity:10000}")
+    private int metricsQueueCapacity;
+    
+    @Value("${app.async.email.concurrency:4}")
+    private int emailConcurrency;
+    
+    @Value("${app.async.email.queue-capacity:500}")
+    private int emailQueueCapacity;
+    
+    @Value("${app.async.analytics.pool-size:2}")
+    private int analyticsPoolSize;
+    
+    @Value("${app.async.analytics.queue-capacity:100}")
+    private int analyticsQueueCapacity;
+    
+    /**
+     * Executor for per-request performance metrics recording.
+     */
+    @Bean(name = METRICS_EXECUTOR)
+    public ThreadPoolTaskExecutor metricsExecutor() {
+        return createExecutor(METRICS_EXECUTOR, metricsPoolSize, metricsQueueCapacity, false,
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+    
+    /**
+     * Executor for outgoing email. Virtual threads keep blocking SMTP calls cheap;
+     * the pool size still bounds concurrent connections to the mail server.
+     */
+    @Bean(name = EMAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor emailExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor(EMAIL_EXECUTOR, emailConcurrency, emailQueueCapacity, true,
+                (task, pool) -> log.error("Email executor saturated ({} queued), dropping email task", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+    
+    /**
+     * Executor for analytics and metrics rollups.
+     */
+    @Bean(name = ANALYTICS_EXECUTOR)
+    public ThreadPoolTaskExecutor analyticsExecutor() {
+        return createExecutor(ANALYTICS_EXECUTOR, analyticsPoolSize, analyticsQueueCapacity, false,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    /**
+     * Un-qualified @Async methods run on the bounded analytics executor instead of
+     * falling back to an unbounded thread-per-task executor.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return analyticsExecutor();
+    }
+    
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Async method {}.{} failed: {}", 
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
+    
+    private ThreadPoolTaskExecutor createExecutor(String name, int poolSize, int queueCapacity, boolean virtualThreads,
+                                                  RejectedExecutionHandler rejectionPolicy) {
+        ExecutorStats stats = new ExecutorStats(name);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        String threadNamePrefix = name.replace("Executor", "") + "-";
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (virtualThreads) {
+            // The pool size still bounds concurrency; each worker is a virtual thread
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        }
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(stats.taskDecorator());
+        executor.setRejectedExecutionHandler(stats.countingRejections(rejectionPolicy));
+        executor.initialize();
+        executorMetricsService.register(executor, stats);
+        return executor;
+    }
+}
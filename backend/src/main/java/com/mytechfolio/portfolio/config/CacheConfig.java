@@ -11,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Cache configuration using Caffeine for TTL and size-based eviction.
+ * All caches record statistics so hit ratios can be monitored.
  *
  * @author MyTechPortfolio Team
  * @since 1.0.0
@@ -19,16 +20,38 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String PROJECT_PAGES = "projectPages";
+    public static final String PROJECT_DETAILS = "projectDetails";
+    public static final String PAGE_COUNTS = "pageCounts";
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
             "techStacks",
-            "projects",
             "academics"
         );
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .expireAfterWrite(1, TimeUnit.HOURS)
-            .maximumSize(500));
+            .maximumSize(500)
+            .recordStats());
+        
+        // Project caches are invalidated on writes; the TTL only bounds view count staleness
+        cacheManager.registerCustomCache(PROJECT_PAGES, Caffeine.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .maximumSize(200)
+            .recordStats()
+            .build());
+        cacheManager.registerCustomCache(PROJECT_DETAILS, Caffeine.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .maximumSize(500)
+            .recordStats()
+            .build());
+        // Per-filter totals for CountMode.CACHED, evicted per collection on writes
+        cacheManager.registerCustomCache(PAGE_COUNTS, Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(1000)
+            .recordStats()
+            .build());
         return cacheManager;
     }
 }
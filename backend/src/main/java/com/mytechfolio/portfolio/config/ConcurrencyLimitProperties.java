@@ -0,0 +1,54 @@
+package com.mytechfolio.portfolio.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Adaptive concurrency limits per route class, bound from
+ * {@code app.performance.concurrency-limit.*}.
+ * Limits start at {@code initial-limit} and move between {@code min-limit} and
+ * {@code max-limit} as request latency changes.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.performance.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Value of the Retry-After header on shed requests.
+     */
+    private int retryAfterSeconds = 1;
+    
+    /**
+     * Completed requests per limit recalculation.
+     */
+    private int windowSize = 50;
+    
+    private ClassLimit publicRead = new ClassLimit(50, 5, 200);
+    
+    private ClassLimit engagementWrite = new ClassLimit(20, 5, 50);
+    
+    private ClassLimit auth = new ClassLimit(10, 2, 30);
+    
+    private ClassLimit admin = new ClassLimit(10, 2, 20);
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClassLimit {
+        
+        private int initialLimit;
+        
+        private int minLimit;
+        
+        private int maxLimit;
+    }
+}
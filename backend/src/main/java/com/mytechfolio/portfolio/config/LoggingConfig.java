@@ -1,10 +1,18 @@
 package com.mytechfolio.portfolio.config;
 
+import com.mytechfolio.portfolio.filter.ServerTimingResponseWrapper;
+import com.mytechfolio.portfolio.service.monitoring.TraceExporter;
+import com.mytechfolio.portfolio.util.RequestTimingContext;
+import com.mytechfolio.portfolio.util.TraceContext;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,23 +20,51 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Logging configuration for structured logging.
  * Adds request ID to MDC for correlation across log entries.
- * Also tracks response time and adds it to response headers.
+ * Also opens the request timing context and adds the response time and
+ * per-phase Server-Timing breakdown to response headers, and starts the
+ * request trace (trace ID derived from the request ID) for sampled requests.
  * 
  * @author MyTechPortfolio Team
  * @since 1.0.0
  */
 @Slf4j
 @Component
-@Order(0) // Execute first in filter chain
+@Order(Ordered.HIGHEST_PRECEDENCE) // Execute first in filter chain, ahead of Spring Security
+@RequiredArgsConstructor
 public class LoggingConfig extends OncePerRequestFilter {
 
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String RESPONSE_TIME_HEADER = "X-Response-Time";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
     private static final String REQUEST_ID_MDC_KEY = "requestId";
     private static final String REQUEST_START_TIME_KEY = "requestStartTime";
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private final TraceExporter traceExporter;
+
+    @Value("${app.performance.server-timing.enabled:true}")
+    private boolean serverTimingEnabled;
+
+    @Value("${app.tracing.enabled:true}")
+    private boolean tracingEnabled;
+
+    @Value("${app.tracing.head-sampling-rate:0.01}")
+    private double headSamplingRate;
+
+    @Value("${app.tracing.tail-sampling.enabled:true}")
+    private boolean tailSamplingEnabled;
+
+    @Value("${app.tracing.tail-sampling.threshold-ms:1000}")
+    private long tailSamplingThresholdMs;
+
+    @Value("${app.tracing.max-spans-per-trace:256}")
+    private int maxSpansPerTrace;
 
     @Override
     protected void doFilterInternal(
@@ -47,6 +83,11 @@ public class LoggingConfig extends OncePerRequestFilter {
         }
         
         long startTime = System.currentTimeMillis();
+        RequestTimingContext timing = RequestTimingContext.begin();
+        ServerTimingResponseWrapper timedResponse = new ServerTimingResponseWrapper(
+                response, () -> writeTimingHeaders(response, timing));
+        
+        TraceContext trace = null;
         
         try {
             // Generate or use existing request ID
@@ -59,15 +100,92 @@ public class LoggingConfig extends OncePerRequestFilter {
             // Add to response header for frontend correlation
             response.setHeader(REQUEST_ID_HEADER, requestId);
             
-            filterChain.doFilter(request, response);
+            trace = beginTrace(requestId);
+            if (trace != null && trace.isHeadSampled()) {
+                MDC.put(TRACE_ID_MDC_KEY, trace.getTraceId());
+            }
+            
+            filterChain.doFilter(request, timedResponse);
         } finally {
-            // Calculate and add response time header
-            long responseTime = System.currentTimeMillis() - startTime;
-            response.setHeader("X-Response-Time", String.valueOf(responseTime));
+            // Add timing headers now if nothing committed the response yet (e.g. 204)
+            timedResponse.fireBeforeCommit();
+            if (trace != null) {
+                finishTrace(trace, request, response, timing.getElapsedMs());
+            }
+            RequestTimingContext.end();
             
             // Clean up MDC
             MDC.remove(REQUEST_ID_MDC_KEY);
             MDC.remove(REQUEST_START_TIME_KEY);
+            MDC.remove(TRACE_ID_MDC_KEY);
+        }
+    }
+    
+    /**
+     * Starts a trace if the request is head-sampled or may be kept by tail sampling.
+     * Tail candidates are deferred: they record no spans until they reach the tail
+     * threshold, so fast unsampled requests only pay for the clock reads.
+     * 
+     * @param requestId Request ID the trace ID is derived from
+     * @return Trace context, or null if the request is not traced
+     */
+    private TraceContext beginTrace(String requestId) {
+        if (!tracingEnabled) {
+            return null;
+        }
+        boolean headSampled = headSamplingRate > 0 && ThreadLocalRandom.current().nextDouble() < headSamplingRate;
+        if (!headSampled && !tailSamplingEnabled) {
+            return null;
+        }
+        return TraceContext.begin(requestId, headSampled,
+                TimeUnit.MILLISECONDS.toNanos(tailSamplingThresholdMs), maxSpansPerTrace);
+    }
+    
+    /**
+     * Ends the root span and exports the trace if it was head-sampled or slow.
+     * Traces that are not exported are dropped without building their root span.
+     */
+    private void finishTrace(TraceContext trace, HttpServletRequest request, HttpServletResponse response,
+                             long elapsedMs) {
+        boolean export = trace.isHeadSampled() || elapsedMs >= tailSamplingThresholdMs;
+        try {
+            if (export) {
+                TraceContext.Span rootSpan = trace.getRootSpan()
+                        .setName(request.getMethod() + " " + request.getRequestURI())
+                        .setAttribute("http.request.method", request.getMethod())
+                        .setAttribute("url.path", request.getRequestURI())
+                        .setAttribute("request.id", MDC.get(REQUEST_ID_MDC_KEY));
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    rootSpan.setName(request.getMethod() + " " + pattern)
+                            .setAttribute("http.route", pattern.toString());
+                }
+                rootSpan.setAttribute("http.response.status_code", response.getStatus());
+                if (response.getStatus() >= 500) {
+                    rootSpan.setError("HTTP " + response.getStatus());
+                }
+                rootSpan.end();
+            }
+        } finally {
+            TraceContext.end();
+        }
+        if (export) {
+            traceExporter.export(trace);
+        }
+    }
+    
+    /**
+     * Writes response time headers. Invoked just before the response commits,
+     * which is the last moment headers can still be added.
+     * 
+     * @param response HTTP response
+     * @param timing Request timing context
+     */
+    private void writeTimingHeaders(HttpServletResponse response, RequestTimingContext timing) {
+        timing.markSerializationEnd();
+        response.setHeader(RESPONSE_TIME_HEADER, String.valueOf(timing.getElapsedMs()));
+        if (serverTimingEnabled) {
+            response.setHeader(SERVER_TIMING_HEADER, timing.toServerTimingHeader());
         }
     }
     
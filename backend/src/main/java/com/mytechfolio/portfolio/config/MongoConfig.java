@@ -1,9 +1,31 @@
 package com.mytechfolio.portfolio.config;
 
+import com.mytechfolio.portfolio.service.monitoring.MongoCommandMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.MongoPoolMetricsService;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 // Rely on Spring Boot auto-configuration for MongoDB so that spring.data.mongodb.uri is respected
 @Configuration
 @EnableMongoRepositories(basePackages = "com.mytechfolio.portfolio.repository")
-public class MongoConfig { }
+public class MongoConfig {
+
+    /**
+     * Registers command-level instrumentation on the auto-configured client.
+     * A customizer keeps URI/pool settings from properties intact.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer commandMetricsCustomizer(MongoCommandMetricsService commandMetrics) {
+        return builder -> builder.addCommandListener(commandMetrics);
+    }
+
+    /**
+     * Registers connection pool instrumentation (checkout wait time and pool usage).
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer poolMetricsCustomizer(MongoPoolMetricsService poolMetrics) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolMetrics));
+    }
+}
@@ -1,29 +1,227 @@
 package com.mytechfolio.portfolio.config;
 
+import lombok.Getter;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Performance optimization configuration.
- * Configures MongoDB indexes and query optimizations.
- * 
+ * Declares the compound MongoDB indexes backing repository queries.
+ * Sort and filter fields accepted from clients ({@code ResourceQueryFields}) must map to one of these.
+ *
+ * Indexes serving client-selectable sorts end with {@code _id}, the keyset pagination
+ * tie-breaker, so cursor pages are read in index order without an in-memory sort.
+ *
+ * Compound, unique and TTL indexes are declared here, per collection and next to the
+ * query or retention they serve, and are created at startup by {@code IndexManagementService}
+ * whether or not {@code spring.data.mongodb.auto-index-creation} is enabled (it is off in prod).
+ *
  * @author MyTechPortfolio Team
  * @since 1.0.0
  */
 @Configuration
 public class PerformanceConfig {
-    
+
+    private static final List<ManagedIndex> MANAGED_INDEXES = List.of(
+        // ProjectRepository.findByTechStackIds / findByFilter(techStackIds) (default sort endDate desc)
+        ManagedIndex.on("projects", "tech_stacks_end_date_id_idx").asc("techStackIds").desc("endDate").desc("_id"),
+        // ProjectRepository.findByFilter(status)
+        ManagedIndex.on("projects", "status_end_date_id_idx").asc("status").desc("endDate").desc("_id"),
+        // ProjectRepository.findByFilter(featured)
+        ManagedIndex.on("projects", "featured_end_date_id_idx").asc("isFeatured").desc("endDate").desc("_id"),
+        // ProjectRepository.findByFilter(techStackIds/status/featured) under sort=startDate|createdAt|viewCount
+        ManagedIndex.on("projects", "tech_stacks_start_date_id_idx").asc("techStackIds").asc("startDate").asc("_id"),
+        ManagedIndex.on("projects", "tech_stacks_created_at_id_idx").asc("techStackIds").desc("createdAt").desc("_id"),
+        ManagedIndex.on("projects", "tech_stacks_view_count_id_idx").asc("techStackIds").desc("viewCount").desc("_id"),
+        ManagedIndex.on("projects", "status_start_date_id_idx").asc("status").asc("startDate").asc("_id"),
+        // also ProjectRepository.findByStatus / countByStatus
+        ManagedIndex.on("projects", "status_created_at_id_idx").asc("status").desc("createdAt").desc("_id"),
+        ManagedIndex.on("projects", "status_view_count_id_idx").asc("status").desc("viewCount").desc("_id"),
+        ManagedIndex.on("projects", "featured_start_date_id_idx").asc("isFeatured").asc("startDate").asc("_id"),
+        // also ProjectRepository.findByIsFeaturedTrue
+        ManagedIndex.on("projects", "featured_created_at_id_idx").asc("isFeatured").desc("createdAt").desc("_id"),
+        ManagedIndex.on("projects", "featured_view_count_id_idx").asc("isFeatured").desc("viewCount").desc("_id"),
+        // ProjectRepository.findByFilter(text), title matches rank above summary matches
+        ManagedIndex.on("projects", "project_text_idx").text("title", 3).text("summary", 1),
+        // ProjectRepository.findAll(Pageable), default project list sort
+        ManagedIndex.on("projects", "end_date_id_idx").desc("endDate").desc("_id"),
+        // ProjectRepository.findByYear / findByDateRange / findByFilter(startDate range), sort=startDate
+        ManagedIndex.on("projects", "start_date_id_idx").asc("startDate").asc("_id"),
+        // ProjectRepository.findRecentProjects, sort=createdAt
+        ManagedIndex.on("projects", "created_at_id_idx").desc("createdAt").desc("_id"),
+        // ProjectRepository.findMostViewedProjects
+        ManagedIndex.on("projects", "view_count_id_idx").desc("viewCount").desc("_id"),
+        // ProjectRepository.findByRepositoryName
+        ManagedIndex.on("projects", "repository_name_idx").asc("repositoryName").sparse(),
+        // ProjectRepository.findByRelatedAcademicIds
+        ManagedIndex.on("projects", "related_academics_idx").asc("relatedAcademicIds"),
+        // ProjectTechStackRefService.propagate, projects embedding a renamed or deleted tech stack
+        ManagedIndex.on("projects", "tech_stack_refs_idx").asc("techStackRefs.techStackId"),
+
+        // AcademicRepository.findSummariesBySemesterContaining, default academic list sort
+        ManagedIndex.on("academics", "semester_id_idx").asc("semester").asc("_id"),
+        // AcademicRepository.findByStatus
+        ManagedIndex.on("academics", "status_created_idx").asc("status").desc("createdAt"),
+        // AcademicRepository.findByGradeIsNotNullOrderByMarksDesc / findSubjectsWithMarksAbove
+        ManagedIndex.on("academics", "marks_idx").desc("marks"),
+
+        // TechStackRepository.findByType / findAllByOrderByTypeAscNameAsc
+        ManagedIndex.on("tech_stacks", "type_name_idx").asc("type").asc("name"),
+        // TechStackRepository.findPopularTechStacks
+        ManagedIndex.on("tech_stacks", "usage_count_idx").desc("usageCount"),
+        // TechStackRepository.findAllByOrderByProficiencyLevelDescUsageCountDesc
+        ManagedIndex.on("tech_stacks", "proficiency_usage_idx").desc("proficiencyLevel").desc("usageCount"),
+
+        // ValidationService: per-IP submission rate check and stored submission times
+        ManagedIndex.on("contacts", "ip_created_idx").asc("ipAddress").desc("createdAt"),
+        // ValidationService: recent duplicate check
+        ManagedIndex.on("contacts", "email_created_idx").asc("email").desc("createdAt"),
+
+        // ProjectMediaRepository.findByProjectId*OrderByDisplayOrderAsc
+        ManagedIndex.on("project_media", "project_display_order_idx").asc("projectId").asc("displayOrder"),
+
+        // TestimonialRepository.findSummariesByIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc
+        ManagedIndex.on("testimonials", "active_approved_order_idx")
+                .asc("isActive").asc("isApproved").asc("displayOrder"),
+
+        // ProjectEngagementRepository.findByProjectId / findBySessionId
+        ManagedIndex.on("project_engagement", "project_idx").asc("projectId"),
+        // ProjectEngagementService.scrollProjectEngagements (keyset, viewedAt desc)
+        ManagedIndex.on("project_engagement", "project_viewed_at_id_idx")
+                .asc("projectId").desc("viewedAt").desc("_id"),
+        ManagedIndex.on("project_engagement", "session_idx").asc("sessionId"),
+
+        // UserRepository.findByOauthProviderAndOauthId*
+        ManagedIndex.on("users", "oauth_provider_id_idx").asc("oauthProvider").asc("oauthId"),
+
+        // PerformanceSnapshotRepository.findByResolutionAndWindowStart* (history reads, hour rollup)
+        ManagedIndex.on("performance_snapshots", "resolution_window_idx").asc("resolution").asc("windowStart"),
+        // MetricsHistoryService.save, one window per instance, resolution and start
+        ManagedIndex.on("performance_snapshots", "instance_resolution_window_idx")
+                .asc("instanceId").asc("resolution").asc("windowStart").unique(),
+        // Minute and hour windows expire at their stored expireAt
+        ManagedIndex.on("performance_snapshots", "expire_at_ttl_idx").asc("expireAt").expireAfter(Duration.ZERO),
+
+        // MongoRateLimitBackend, one counter per client, route class and minute, expired after its window
+        ManagedIndex.on("rate_limit_counters", "expire_at_ttl_idx").asc("expireAt").expireAfter(Duration.ZERO)
+    );
+
     /**
-     * Note: MongoDB indexes are defined using @Indexed annotations in domain entities.
-     * This class serves as a placeholder for future performance optimizations:
-     * 
-     * - Compound indexes for complex queries
-     * - Text indexes for full-text search
-     * - TTL indexes for time-based data expiration
-     * - Query result caching strategies
-     * - Connection pool tuning
+     * Gets the declared indexes.
+     *
+     * @return Managed index definitions
      */
-}
+    public List<ManagedIndex> getManagedIndexes() {
+        return MANAGED_INDEXES;
+    }
+
+    /**
+     * Declarative index definition for one collection.
+     */
+    @Getter
+    public static final class ManagedIndex {
+
+        private final String collection;
+        private final String name;
+        private final List<String> fields = new ArrayList<>();
+        private final List<Sort.Direction> directions = new ArrayList<>();
+        private final List<String> textFields = new ArrayList<>();
+        private final List<Float> textWeights = new ArrayList<>();
+        private boolean sparse;
+        private boolean unique;
+        private Duration expireAfter;
+
+        private ManagedIndex(String collection, String name) {
+            this.collection = collection;
+            this.name = name;
+        }
+
+        public static ManagedIndex on(String collection, String name) {
+            return new ManagedIndex(collection, name);
+        }
+
+        public ManagedIndex asc(String field) {
+            fields.add(field);
+            directions.add(Sort.Direction.ASC);
+            return this;
+        }
+
+        public ManagedIndex desc(String field) {
+            fields.add(field);
+            directions.add(Sort.Direction.DESC);
+            return this;
+        }
 
+        /**
+         * Adds a field to the collection's text index. A collection has at most one text index.
+         */
+        public ManagedIndex text(String field, float weight) {
+            textFields.add(field);
+            textWeights.add(weight);
+            return this;
+        }
+
+        public ManagedIndex sparse() {
+            this.sparse = true;
+            return this;
+        }
+
+        public ManagedIndex unique() {
+            this.unique = true;
+            return this;
+        }
+
+        /**
+         * Makes this a TTL index: documents are removed once the indexed date is older than {@code ttl}.
+         * A zero TTL expires each document at the date it stores.
+         */
+        public ManagedIndex expireAfter(Duration ttl) {
+            this.expireAfter = ttl;
+            return this;
+        }
+
+        public List<String> getFields() {
+            return Collections.unmodifiableList(fields);
+        }
+
+        public List<String> getTextFields() {
+            return Collections.unmodifiableList(textFields);
+        }
+
+        /**
+         * Converts the definition to a Spring Data index.
+         */
+        public IndexDefinition toIndex() {
+            if (!textFields.isEmpty()) {
+                TextIndexDefinition.TextIndexDefinitionBuilder text = TextIndexDefinition.builder()
+                        .named(name);
+                for (int i = 0; i < textFields.size(); i++) {
+                    text.onField(textFields.get(i), textWeights.get(i));
+                }
+                return text.build();
+            }
+            Index index = new Index().named(name);
+            for (int i = 0; i < fields.size(); i++) {
+                index.on(fields.get(i), directions.get(i));
+            }
+            if (sparse) {
+                index.sparse();
+            }
+            if (unique) {
+                index.unique();
+            }
+            if (expireAfter != null) {
+                index.expire(expireAfter);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mytechfolio.portfolio.config;
+
+import com.mytechfolio.portfolio.constants.SecurityConstants;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-client request rate limits, bound from {@code app.rate-limit.*}.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Where bucket state lives: "local" (per instance, in memory) or "mongo"
+     * (shared across instances, one database round trip per request).
+     */
+    private String backend = "local";
+    
+    private int requestsPerMinute = SecurityConstants.RATE_LIMIT_REQUESTS_PER_MINUTE;
+    
+    /**
+     * Limit for login, token refresh and 2FA endpoints.
+     */
+    private int authRequestsPerMinute = SecurityConstants.RATE_LIMIT_AUTH_REQUESTS_PER_MINUTE;
+    
+    /**
+     * Maximum number of tracked clients per route class for the local backend.
+     * Beyond this the least recently seen clients are evicted (and start with a full bucket).
+     */
+    private long maxClients = 100_000;
+}
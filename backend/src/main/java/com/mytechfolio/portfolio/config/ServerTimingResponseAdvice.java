@@ -0,0 +1,39 @@
+package com.mytechfolio.portfolio.config;
+
+import com.mytechfolio.portfolio.util.RequestTimingContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the start of response serialisation in the request timing context.
+ * Runs after the handler (or exception handler) returns and right before the
+ * message converter writes the body, so the "ser" Server-Timing phase covers
+ * serialisation up to the first byte written.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimingContext timing = RequestTimingContext.current();
+        if (timing != null) {
+            timing.markSerializationStart();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mytechfolio.portfolio.config;
+
+import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.util.TraceContext;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Wraps public methods of {@code @Service} beans and mappers in trace spans.
+ * Uses plain Spring AOP proxies (no AspectJ weaving). When the current request
+ * is not being traced the interceptor only performs a ThreadLocal lookup.
+ * Monitoring services are excluded so the tracer does not trace itself.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+public class ServiceTracingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+    
+    private static final String BASE_PACKAGE = "com.mytechfolio.portfolio";
+    private static final String MAPPER_PACKAGE = BASE_PACKAGE + ".mapper";
+    private static final String MONITORING_PACKAGE = BASE_PACKAGE + ".service.monitoring";
+    
+    public ServiceTracingPostProcessor() {
+        ClassFilter tracedClasses = clazz -> clazz.getPackageName().startsWith(BASE_PACKAGE)
+                && !clazz.getPackageName().startsWith(MONITORING_PACKAGE)
+                && clazz != PerformanceMonitoringService.class
+                && (AnnotatedElementUtils.hasAnnotation(clazz, Service.class)
+                        || clazz.getPackageName().equals(MAPPER_PACKAGE));
+        StaticMethodMatcher publicMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(tracedClasses, publicMethods), new TracingInterceptor());
+        setProxyTargetClass(true);
+    }
+    
+    /**
+     * Records one INTERNAL span per invocation of a traced method.
+     */
+    private static final class TracingInterceptor implements MethodInterceptor {
+        
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (TraceContext.recording() == null) {
+                return invocation.proceed();
+            }
+            Class<?> targetClass = invocation.getThis() != null 
+                    ? AopUtils.getTargetClass(invocation.getThis()) 
+                    : invocation.getMethod().getDeclaringClass();
+            TraceContext.Span span = TraceContext.startSpan(
+                    targetClass.getSimpleName() + "." + invocation.getMethod().getName(), TraceContext.Kind.INTERNAL);
+            span.setAttribute("code.namespace", targetClass.getName())
+                    .setAttribute("code.function", invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.setError(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
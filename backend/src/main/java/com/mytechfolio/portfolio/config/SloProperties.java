@@ -0,0 +1,77 @@
+package com.mytechfolio.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service level objectives per route, bound from {@code app.performance.slo.*}.
+ * Each objective defines a latency SLI (fraction of requests faster than a
+ * threshold) and an availability SLI (fraction of requests without a 5xx).
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.performance.slo")
+public class SloProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Minimum time between two alert events for the same objective, SLI and severity.
+     */
+    private Duration alertCooldown = Duration.ofMinutes(15);
+    
+    /**
+     * Burn rate that pages when exceeded over both the 1h and 5m windows
+     * (2% of a 30-day budget consumed in one hour).
+     */
+    private double fastBurnThreshold = 14.4;
+    
+    /**
+     * Burn rate that raises a ticket when exceeded over both the 6h and 30m windows
+     * (5% of a 30-day budget consumed in six hours).
+     */
+    private double slowBurnThreshold = 6.0;
+    
+    /**
+     * Minimum requests in the long window before a burn alert is raised,
+     * so a single failure on a quiet route does not page.
+     */
+    private long minRequests = 20;
+    
+    private List<Objective> objectives = new ArrayList<>();
+    
+    @Data
+    public static class Objective {
+        
+        private String name;
+        
+        /**
+         * Route key as reported by the monitoring filter (e.g. "GET /api/v1/projects"), or "*" for all routes.
+         */
+        private String route = "*";
+        
+        private long latencyThresholdMs = 300;
+        
+        /**
+         * Target fraction of requests faster than the latency threshold (0.95 = p95).
+         */
+        private double latencyObjective = 0.95;
+        
+        /**
+         * Target fraction of requests that do not fail with a server error.
+         */
+        private double availabilityObjective = 0.999;
+        
+        public boolean matches(String requestRoute) {
+            return "*".equals(route) || route.equals(requestRoute);
+        }
+    }
+}
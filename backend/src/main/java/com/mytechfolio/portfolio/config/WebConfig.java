@@ -46,6 +46,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(allowCredentials)
                 .maxAge(maxAge)
                 // Expose custom headers for frontend
-                .exposedHeaders("X-Request-ID", "X-Response-Time", "X-Rate-Limit-Remaining");
+                .exposedHeaders("X-Request-ID", "X-Response-Time", "Server-Timing", "X-Rate-Limit-Remaining",
+                        "X-Rate-Limit-Limit", "X-Rate-Limit-Retry-After-Seconds", "Retry-After");
     }
 }
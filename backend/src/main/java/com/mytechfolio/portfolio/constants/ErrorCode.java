@@ -18,11 +18,13 @@ public enum ErrorCode {
     INVALID_ID_FORMAT("INVALID_ID_FORMAT", "잘못된 ID 형식입니다"),
     MISSING_PARAMETER("MISSING_PARAMETER", "필수 파라미터가 누락되었습니다"),
     INVALID_PARAMETER_TYPE("INVALID_PARAMETER_TYPE", "잘못된 파라미터 타입입니다"),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS", "요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요"),
     
     // 5xx Server Errors
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다"),
     DATABASE_ERROR("DATABASE_ERROR", "데이터베이스 오류가 발생했습니다"),
     EXTERNAL_SERVICE_ERROR("EXTERNAL_SERVICE_ERROR", "외부 서비스 오류가 발생했습니다"),
+    SERVICE_OVERLOADED("SERVICE_OVERLOADED", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"),
     
     // Authentication & Authorization
     AUTHENTICATION_FAILED("AUTHENTICATION_FAILED", "인증에 실패했습니다"),
@@ -4,6 +4,7 @@ import com.mytechfolio.portfolio.constants.ApiConstants;
 import com.mytechfolio.portfolio.dto.request.ContactRequest;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.service.ContactService;
+import com.mytechfolio.portfolio.util.ClientIpResolver;
 import com.mytechfolio.portfolio.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -51,39 +52,12 @@ public class ContactController {
             @Valid @RequestBody ContactRequest request,
             HttpServletRequest httpRequest) {
         
-        String ipAddress = getClientIpAddress(httpRequest);
+        String ipAddress = ClientIpResolver.resolve(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
         
         contactService.submitContact(request, ipAddress, userAgent);
         
         return ResponseUtil.created(null, "Thank you for your message. I'll get back to you soon!");
     }
-    
-    /**
-     * Extracts client IP address from request.
-     * Handles proxy headers (X-Forwarded-For, etc.).
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        
-        // Handle comma-separated IPs (from proxies)
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        
-        return ip;
-    }
 }
 
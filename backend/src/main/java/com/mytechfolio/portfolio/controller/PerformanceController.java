@@ -1,8 +1,21 @@
 package com.mytechfolio.portfolio.controller;
 
 import com.mytechfolio.portfolio.constants.ApiConstants;
+import com.mytechfolio.portfolio.domain.PerformanceSnapshot;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.service.monitoring.CacheMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.ConcurrencyLimiterRegistry;
+import com.mytechfolio.portfolio.service.monitoring.ExecutorMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.IndexManagementService;
+import com.mytechfolio.portfolio.service.monitoring.JfrRecordingService;
+import com.mytechfolio.portfolio.service.monitoring.MetricsHistoryService;
+import com.mytechfolio.portfolio.service.monitoring.MongoCommandMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.MongoPoolMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.SloService;
+import com.mytechfolio.portfolio.service.monitoring.TraceExporter;
+import com.mytechfolio.portfolio.service.monitoring.VirtualThreadDiagnosticsService;
+import com.mytechfolio.portfolio.util.BucketHistogram;
 import com.mytechfolio.portfolio.util.PerformanceMetrics;
 import com.mytechfolio.portfolio.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,10 +23,19 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for performance monitoring.
@@ -29,6 +51,17 @@ import java.util.List;
 public class PerformanceController {
     
     private final PerformanceMonitoringService performanceMonitoringService;
+    private final MongoCommandMetricsService mongoCommandMetricsService;
+    private final MetricsHistoryService metricsHistoryService;
+    private final SloService sloService;
+    private final JfrRecordingService jfrRecordingService;
+    private final TraceExporter traceExporter;
+    private final ExecutorMetricsService executorMetricsService;
+    private final MongoPoolMetricsService mongoPoolMetricsService;
+    private final VirtualThreadDiagnosticsService virtualThreadDiagnosticsService;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final IndexManagementService indexManagementService;
+    private final CacheMetricsService cacheMetricsService;
     
     /**
      * Gets performance statistics.
@@ -100,5 +133,315 @@ public class PerformanceController {
         List<PerformanceMetrics> metrics = performanceMonitoringService.getRecentMetrics(count);
         return ResponseUtil.ok(metrics);
     }
+    
+    /**
+     * Gets latency and sampled CPU/allocation cost per route.
+     * 
+     * @param sortBy Ranking key (default: TOTAL_CPU)
+     * @param limit Maximum number of routes to return (default: 20)
+     * @return Routes ordered by the ranking key, highest first
+     */
+    @GetMapping("/routes")
+    @Operation(summary = "Get per-route cost statistics", 
+               description = "Returns latency, MongoDB time and sampled CPU time / heap allocation per route. "
+                       + "Totals are extrapolated from the sampled fraction of requests")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid sort key")
+    })
+    public ResponseEntity<ApiResponse<List<PerformanceMonitoringService.RouteStatistics>>> getRouteStatistics(
+            @Parameter(description = "Ranking key", example = "TOTAL_CPU")
+            @RequestParam(defaultValue = "TOTAL_CPU") PerformanceMonitoringService.RouteSortKey sortBy,
+            @Parameter(description = "Maximum number of routes to return", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        List<PerformanceMonitoringService.RouteStatistics> statistics = 
+                performanceMonitoringService.getRouteStatistics(sortBy, limit);
+        return ResponseUtil.ok(statistics);
+    }
+    
+    /**
+     * Gets payload size statistics per route.
+     * 
+     * @param limit Maximum number of routes to return (default: 20)
+     * @return Routes ordered by average response size, largest first
+     */
+    @GetMapping("/payload-sizes")
+    @Operation(summary = "Get payload size statistics", 
+               description = "Returns request/response size histograms per route, largest average response first. "
+                       + "Routes above the large-payload threshold are flagged as optimisation candidates")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<PerformanceMonitoringService.PayloadSizeStatistics>>> getPayloadSizes(
+            @Parameter(description = "Maximum number of routes to return", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        List<PerformanceMonitoringService.PayloadSizeStatistics> statistics = 
+                performanceMonitoringService.getPayloadSizeStatistics(limit);
+        return ResponseUtil.ok(statistics);
+    }
+    
+    /**
+     * Gets MongoDB command latency histograms.
+     * 
+     * @return Latency histograms (microseconds) grouped by collection and by command type
+     */
+    @GetMapping("/mongo/commands")
+    @Operation(summary = "Get MongoDB command latencies", 
+               description = "Returns command latency histograms in microseconds per collection and per command type")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<Map<String, Map<String, BucketHistogram.Snapshot>>>> getMongoCommandLatencies() {
+        Map<String, Map<String, BucketHistogram.Snapshot>> latencies = Map.of(
+                "byCollection", mongoCommandMetricsService.getCollectionLatencies(),
+                "byCommand", mongoCommandMetricsService.getCommandLatencies());
+        return ResponseUtil.ok(latencies);
+    }
+    
+    /**
+     * Gets normalised MongoDB query shapes.
+     * 
+     * @param limit Maximum number of shapes to return (default: 50)
+     * @return Query shapes ordered by total time spent
+     */
+    @GetMapping("/mongo/query-shapes")
+    @Operation(summary = "Get MongoDB query shapes", 
+               description = "Returns query shapes with literal values stripped, ordered by total execution time")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<MongoCommandMetricsService.QueryShapeStatistics>>> getMongoQueryShapes(
+            @Parameter(description = "Maximum number of shapes to return", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseUtil.ok(mongoCommandMetricsService.getQueryShapes(limit));
+    }
+    
+    /**
+     * Gets the MongoDB slow-command log.
+     * 
+     * @return Slow commands, newest first
+     */
+    @GetMapping("/mongo/slow-commands")
+    @Operation(summary = "Get slow MongoDB commands", 
+               description = "Returns the bounded log of MongoDB commands that exceeded the slow-command threshold")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<MongoCommandMetricsService.SlowCommand>>> getMongoSlowCommands() {
+        return ResponseUtil.ok(mongoCommandMetricsService.getSlowCommands());
+    }
+    
+    /**
+     * Gets persisted performance history.
+     * 
+     * @param resolution Window resolution (default: MINUTE)
+     * @param from Range start (default: 1 hour before 'to' for MINUTE, 24 hours for HOUR)
+     * @param to Range end (default: now)
+     * @param route Route to report, e.g. "GET /api/v1/projects/{id}" (default: all routes combined)
+     * @return One point per window, summed across instances, oldest first
+     */
+    @GetMapping("/history")
+    @Operation(summary = "Get performance history", 
+               description = "Returns persisted per-minute (last 24h) or per-hour (last 30 days) windows "
+                       + "that survive restarts and deploys")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid range")
+    })
+    public ResponseEntity<ApiResponse<List<MetricsHistoryService.HistoryPoint>>> getHistory(
+            @Parameter(description = "Window resolution", example = "MINUTE")
+            @RequestParam(defaultValue = "MINUTE") PerformanceSnapshot.Resolution resolution,
+            @Parameter(description = "Range start (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Route filter")
+            @RequestParam(required = false) String route) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from 
+                : resolution == PerformanceSnapshot.Resolution.MINUTE ? end.minusHours(1) : end.minusHours(24);
+        return ResponseUtil.ok(metricsHistoryService.getHistory(resolution, start, end, route));
+    }
+    
+    /**
+     * Gets service level objective status.
+     * 
+     * @return Compliance and burn rate per objective over the 5m, 30m, 1h and 6h windows
+     */
+    @GetMapping("/slo")
+    @Operation(summary = "Get SLO status", 
+               description = "Returns latency and availability compliance, error-budget burn rates and remaining budget "
+                       + "for each configured objective")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<SloService.SloStatus>>> getSloStatus() {
+        return ResponseUtil.ok(sloService.getStatus());
+    }
+    
+    /**
+     * Gets recent SLO burn-rate alerts.
+     * 
+     * @return Alerts, newest first
+     */
+    @GetMapping("/slo/alerts")
+    @Operation(summary = "Get SLO burn-rate alerts", 
+               description = "Returns recently emitted multi-window burn-rate alerts")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<SloService.SloAlert>>> getSloAlerts() {
+        return ResponseUtil.ok(sloService.getRecentAlerts());
+    }
+    
+    /**
+     * Gets MongoDB index diagnostics.
+     * 
+     * @return Query plans of repository queries, collection scans, blocking sorts and index usage
+     */
+    @GetMapping("/mongo/indexes")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get MongoDB index diagnostics", 
+               description = "Explains every repository query shape (query planner only) and reports "
+                       + "collection scans, in-memory sorts, and $indexStats usage including unused indexes")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Admin role required")
+    })
+    public ResponseEntity<ApiResponse<IndexManagementService.IndexReport>> getIndexReport() {
+        return ResponseUtil.ok(indexManagementService.getReport());
+    }
+    
+    /**
+     * Gets task executor statistics.
+     * 
+     * @return Pool, queue, rejection and task latency statistics per executor
+     */
+    @GetMapping("/executors")
+    @Operation(summary = "Get executor statistics", 
+               description = "Returns queue depth, active threads, rejections, queue wait and execution time "
+                       + "for each asynchronous executor")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<ExecutorMetricsService.ExecutorStatistics>>> getExecutorStatistics() {
+        return ResponseUtil.ok(executorMetricsService.getStatistics());
+    }
+    
+    /**
+     * Gets MongoDB connection pool statistics.
+     * 
+     * @return Checkout wait histogram (microseconds) and pool usage
+     */
+    @GetMapping("/mongo/pool")
+    @Operation(summary = "Get MongoDB connection pool statistics", 
+               description = "Returns connection checkout wait time, failures and current pool usage")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<MongoPoolMetricsService.PoolStatistics>> getMongoPoolStatistics() {
+        return ResponseUtil.ok(mongoPoolMetricsService.getStatistics());
+    }
+    
+    /**
+     * Gets adaptive concurrency limiter state.
+     * 
+     * @return Current limit, in-flight, accepted and shed counts per route class
+     */
+    @GetMapping("/concurrency-limits")
+    @Operation(summary = "Get concurrency limits", 
+               description = "Returns the adaptive concurrency limit, in-flight requests, shed request count "
+                       + "and latency baseline for each route class")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<ConcurrencyLimiterRegistry.LimiterStatistics>>> getConcurrencyLimits() {
+        return ResponseUtil.ok(concurrencyLimiterRegistry.getStatistics());
+    }
+    
+    /**
+     * Gets application cache statistics.
+     * 
+     * @return Hit ratio, hits, misses, evictions and size per cache
+     */
+    @GetMapping("/caches")
+    @Operation(summary = "Get cache statistics", 
+               description = "Returns hit ratio, hit and miss counts, evictions and current size for each cache, "
+                       + "including the project list and detail caches")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<List<CacheMetricsService.CacheStatistics>>> getCacheStatistics() {
+        return ResponseUtil.ok(cacheMetricsService.getStatistics());
+    }
+    
+    /**
+     * Gets virtual thread diagnostics.
+     * 
+     * @return Serving mode, pinning events by application frame, thread count and heap usage
+     */
+    @GetMapping("/virtual-threads")
+    @Operation(summary = "Get virtual thread diagnostics", 
+               description = "Returns whether requests run on virtual threads, JFR-detected carrier pinning "
+                       + "by code location, platform thread count and heap usage")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<VirtualThreadDiagnosticsService.VirtualThreadStatistics>> getVirtualThreadStatistics() {
+        return ResponseUtil.ok(virtualThreadDiagnosticsService.getStatistics());
+    }
+    
+    /**
+     * Gets trace exporter counters.
+     * 
+     * @return Exported, dropped and failed trace counts and queue depth
+     */
+    @GetMapping("/tracing")
+    @Operation(summary = "Get trace export statistics", 
+               description = "Returns counters of the in-process trace exporter (OTLP JSON lines)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success")
+    })
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getTracingStatistics() {
+        return ResponseUtil.ok(traceExporter.getStatistics());
+    }
+    
+    /**
+     * Lists JFR recordings captured on latency or error anomalies.
+     * 
+     * @return Recordings, newest first
+     */
+    @GetMapping("/jfr/recordings")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List JFR recordings", 
+               description = "Lists Java Flight Recorder recordings started automatically on latency or error-rate anomalies")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Admin role required")
+    })
+    public ResponseEntity<ApiResponse<List<JfrRecordingService.RecordingFile>>> getJfrRecordings() {
+        return ResponseUtil.ok(jfrRecordingService.listRecordings());
+    }
+    
+    /**
+     * Downloads a JFR recording.
+     * 
+     * @param name Recording file name
+     * @return Recording file as download
+     */
+    @GetMapping("/jfr/recordings/{name}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Download JFR recording", description = "Downloads a recording for analysis in JDK Mission Control")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recording file"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Admin role required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    public ResponseEntity<Resource> downloadJfrRecording(@PathVariable String name) {
+        Path file = jfrRecordingService.getRecording(name);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(new FileSystemResource(file));
+    }
 }
-
@@ -1,13 +1,18 @@
 package com.mytechfolio.portfolio.controller;
 
 import com.mytechfolio.portfolio.constants.ApiConstants;
+import com.mytechfolio.portfolio.domain.Project;
 import com.mytechfolio.portfolio.dto.request.ProjectCreateRequest;
 import com.mytechfolio.portfolio.dto.request.ProjectUpdateRequest;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectSummaryResponse;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
 import com.mytechfolio.portfolio.service.ProjectService;
+import com.mytechfolio.portfolio.service.ProjectTechStackRefService;
+import com.mytechfolio.portfolio.util.CacheKeys;
+import com.mytechfolio.portfolio.util.CountMode;
 import com.mytechfolio.portfolio.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,10 +21,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * REST controller for project management operations.
  * Provides CRUD operations for projects with pagination, filtering, and sorting.
@@ -33,10 +41,12 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectTechStackRefService techStackRefService;
 
     // Lombok @RequiredArgsConstructor가 작동하지 않는 경우를 대비한 수동 생성자
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectTechStackRefService techStackRefService) {
         this.projectService = projectService;
+        this.techStackRefService = techStackRefService;
     }
 
     @GetMapping
@@ -58,13 +68,96 @@ public class ProjectController {
             @Parameter(description = "기술 스택 필터 (쉼표로 구분)", example = "React,Spring Boot")
             @RequestParam(required = false) String techStacks,
             
+            @Parameter(description = "기술 스택 매칭 방식 (ANY: 하나 이상, ALL: 모두 포함)", example = "ANY")
+            @RequestParam(defaultValue = "ANY") ProjectFilter.TechStackMatch techStackMatch,
+            
             @Parameter(description = "연도 필터", example = "2024")
-            @RequestParam(required = false) Integer year
+            @RequestParam(required = false) Integer year,
+            
+            @Parameter(description = "시작일 범위 시작 (포함)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            
+            @Parameter(description = "시작일 범위 끝 (포함)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            
+            @Parameter(description = "상태 필터", example = "COMPLETED")
+            @RequestParam(required = false) Project.ProjectStatus status,
+            
+            @Parameter(description = "대표 프로젝트 여부 필터", example = "true")
+            @RequestParam(required = false) Boolean featured,
+            
+            @Parameter(description = "제목/요약 전문 검색어", example = "portfolio")
+            @RequestParam(required = false) String q,
+            
+            @Parameter(description = "전체 개수 계산 방식 (EXACT: 매번 계산, NONE: 생략, CACHED: 캐시/추정값)", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
-        PageResponse<ProjectSummaryResponse> response = projectService.getProjects(page, size, sort, techStacks, year);
+        ProjectFilter filter = buildFilter(techStacks, techStackMatch, year, startDateFrom, startDateTo, status, featured, q);
+        PageResponse<ProjectSummaryResponse> response = projectService.getProjects(page, size, sort, filter, countMode);
         return ResponseUtil.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "프로젝트 목록 커서 조회", description = "이전 응답의 nextCursor로 다음 프로젝트 목록을 조회합니다. 깊은 페이지도 일정한 비용으로 조회하며 전체 개수는 계산하지 않습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청")
+    })
+    public ResponseEntity<ApiResponse<PageResponse<ProjectSummaryResponse>>> scrollProjects(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "" + ApiConstants.DEFAULT_PAGE_SIZE) @Min(1) @Max(ApiConstants.MAX_PAGE_SIZE) int size,
+            
+            @Parameter(description = "정렬 기준 (field,direction), 커서와 같은 값이어야 함", example = "endDate,desc")
+            @RequestParam(required = false, defaultValue = ApiConstants.DEFAULT_SORT_FIELD + "," + ApiConstants.DEFAULT_SORT_DIRECTION) String sort,
+            
+            @Parameter(description = "기술 스택 필터 (쉼표로 구분)", example = "React,Spring Boot")
+            @RequestParam(required = false) String techStacks,
+            
+            @Parameter(description = "기술 스택 매칭 방식 (ANY: 하나 이상, ALL: 모두 포함)", example = "ANY")
+            @RequestParam(defaultValue = "ANY") ProjectFilter.TechStackMatch techStackMatch,
+            
+            @Parameter(description = "연도 필터", example = "2024")
+            @RequestParam(required = false) Integer year,
+            
+            @Parameter(description = "시작일 범위 시작 (포함)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            
+            @Parameter(description = "시작일 범위 끝 (포함)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            
+            @Parameter(description = "상태 필터", example = "COMPLETED")
+            @RequestParam(required = false) Project.ProjectStatus status,
+            
+            @Parameter(description = "대표 프로젝트 여부 필터", example = "true")
+            @RequestParam(required = false) Boolean featured,
+            
+            @Parameter(description = "제목/요약 전문 검색어", example = "portfolio")
+            @RequestParam(required = false) String q
+    ) {
+        ProjectFilter filter = buildFilter(techStacks, techStackMatch, year, startDateFrom, startDateTo, status, featured, q);
+        PageResponse<ProjectSummaryResponse> response = projectService.scrollProjects(cursor, size, sort, filter);
+        return ResponseUtil.ok(response);
+    }
+
+    private ProjectFilter buildFilter(String techStacks, ProjectFilter.TechStackMatch techStackMatch, Integer year,
+            LocalDate startDateFrom, LocalDate startDateTo, Project.ProjectStatus status, Boolean featured, String q) {
+        ProjectFilter filter = ProjectFilter.builder()
+                .techStackIds(CacheKeys.normalizeIds(techStacks))
+                .techStackMatch(techStackMatch)
+                .startDateFrom(startDateFrom)
+                .startDateTo(startDateTo)
+                .status(status)
+                .featured(featured)
+                .text(q != null && !q.isBlank() ? q.trim() : null)
+                .build()
+                .withinYear(year);
+        filter.validate();
+        return filter;
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "프로젝트 상세 조회", description = "프로젝트 ID로 상세 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -132,4 +225,26 @@ public class ProjectController {
         projectService.deleteProject(id);
         return ResponseUtil.noContent();
     }
+
+    @GetMapping("/tech-stack-refs/consistency")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "기술 스택 비정규화 정합성 검사", description = "프로젝트에 저장된 기술 스택 표시 정보와 기술 스택 컬렉션의 차이를 검사합니다. 데이터는 수정하지 않습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponse<ProjectTechStackRefService.ConsistencyReport>> checkTechStackRefs() {
+        return ResponseUtil.ok(techStackRefService.check());
+    }
+
+    @PostMapping("/tech-stack-refs/repair")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "기술 스택 비정규화 복구", description = "기술 스택 표시 정보가 어긋난 프로젝트를 일괄로 다시 기록합니다. 비정규화 이전에 저장된 프로젝트도 채워집니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponse<ProjectTechStackRefService.ConsistencyReport>> repairTechStackRefs() {
+        return ResponseUtil.ok(techStackRefService.repair(), "기술 스택 표시 정보가 복구되었습니다");
+    }
 }
@@ -3,17 +3,23 @@ package com.mytechfolio.portfolio.controller;
 import com.mytechfolio.portfolio.constants.ApiConstants;
 import com.mytechfolio.portfolio.domain.ProjectEngagement;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.service.ProjectEngagementService;
+import com.mytechfolio.portfolio.util.ClientIpResolver;
+import com.mytechfolio.portfolio.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -53,7 +59,7 @@ public class ProjectEngagementController {
             HttpServletRequest httpRequest) {
         
         // Enrich with request data
-        String ipAddress = getClientIpAddress(httpRequest);
+        String ipAddress = ClientIpResolver.resolve(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
         
         engagement.setIpAddress(hashIpAddress(ipAddress));
@@ -107,6 +113,34 @@ public class ProjectEngagementController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
     
+    /**
+     * Lists a project's engagement events, newest first.
+     * 
+     * @param projectId Project ID
+     * @param cursor Cursor from the previous page
+     * @param size Page size
+     * @return Engagement events with the next cursor
+     */
+    @GetMapping("/projects/{projectId}/events")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List project engagement events", 
+               description = "Lists engagement events of a project, newest first, using cursor pagination (no total count)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Success"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Admin role required")
+    })
+    public ResponseEntity<ApiResponse<PageResponse<ProjectEngagement>>> getProjectEngagementEvents(
+            @Parameter(description = "Project ID", required = true)
+            @PathVariable String projectId,
+            @Parameter(description = "nextCursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(ApiConstants.MAX_PAGE_SIZE) int size) {
+        
+        return ResponseUtil.ok(engagementService.scrollProjectEngagements(projectId, cursor, size));
+    }
+    
     /**
      * Gets most engaged projects.
      * 
@@ -123,23 +157,6 @@ public class ProjectEngagementController {
         return ResponseEntity.ok(ApiResponse.success(projects));
     }
     
-    /**
-     * Extracts client IP address from request.
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
-    }
-    
     /**
      * Hashes IP address for privacy.
      */
@@ -1,15 +1,20 @@
 package com.mytechfolio.portfolio.controller;
 
 import com.mytechfolio.portfolio.constants.ApiConstants;
+import com.mytechfolio.portfolio.dto.request.TechStackCreateRequest;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.dto.response.TechStackResponse;
 import com.mytechfolio.portfolio.service.TechStackService;
+import com.mytechfolio.portfolio.service.TechStackUsageService;
 import com.mytechfolio.portfolio.util.ResponseUtil;
+import com.mytechfolio.portfolio.validation.ValidMongoId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,10 +32,12 @@ import java.util.List;
 public class TechStackController {
 
     private final TechStackService techStackService;
+    private final TechStackUsageService techStackUsageService;
 
     // Lombok @RequiredArgsConstructor가 작동하지 않는 경우를 대비한 수동 생성자
-    public TechStackController(TechStackService techStackService) {
+    public TechStackController(TechStackService techStackService, TechStackUsageService techStackUsageService) {
         this.techStackService = techStackService;
+        this.techStackUsageService = techStackUsageService;
     }
 
     @GetMapping
@@ -82,4 +89,38 @@ public class TechStackController {
         List<TechStackResponse> response = techStackService.getPrimaryTechStacks();
         return ResponseUtil.ok(response);
     }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "기술 스택 수정",
+               description = "기존 기술 스택을 수정합니다. 이름 변경은 프로젝트 캐시와 프로젝트에 저장된 기술 스택 이름에 반영됩니다. 관리자 권한이 필요합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "기술 스택을 찾을 수 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 이름의 기술 스택이 존재함"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponse<TechStackResponse>> updateTechStack(
+            @Parameter(description = "기술 스택 ID (MongoDB ObjectId)", required = true, example = "507f1f77bcf86cd799439011")
+            @PathVariable
+            @ValidMongoId(message = "Invalid tech stack ID format")
+            String id,
+            @Valid @RequestBody TechStackCreateRequest request
+    ) {
+        TechStackResponse response = techStackService.updateTechStack(id, request);
+        return ResponseUtil.ok(response, "기술 스택이 성공적으로 수정되었습니다");
+    }
+
+    @PostMapping("/usage-counts/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "기술 스택 사용 횟수 재계산",
+               description = "프로젝트를 한 번 집계하여 모든 기술 스택의 사용 횟수를 다시 계산하고 어긋난 값을 보정합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<ApiResponse<TechStackUsageService.ReconciliationReport>> reconcileUsageCounts() {
+        return ResponseUtil.ok(techStackUsageService.reconcile(), "기술 스택 사용 횟수가 재계산되었습니다");
+    }
 }
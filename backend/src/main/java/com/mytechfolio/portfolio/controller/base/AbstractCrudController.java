@@ -4,6 +4,7 @@ import com.mytechfolio.portfolio.constants.ApiConstants;
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.service.BaseService;
+import com.mytechfolio.portfolio.util.CountMode;
 import com.mytechfolio.portfolio.util.ResponseUtil;
 import com.mytechfolio.portfolio.validation.ValidMongoId;
 import io.swagger.v3.oas.annotations.Operation;
@@ -57,9 +58,33 @@ public abstract class AbstractCrudController<T, ID, R, C, U> implements BaseCont
             @RequestParam(defaultValue = "" + ApiConstants.DEFAULT_PAGE_SIZE) @Min(1) @Max(ApiConstants.MAX_PAGE_SIZE) int size,
             
             @Parameter(description = "정렬 기준 (field,direction)", example = "createdAt,desc")
+            @RequestParam(required = false, defaultValue = ApiConstants.DEFAULT_SORT_FIELD + "," + ApiConstants.DEFAULT_SORT_DIRECTION) String sort,
+            
+            @Parameter(description = "전체 개수 계산 방식 (EXACT: 매번 계산, NONE: 생략, CACHED: 캐시/추정값)", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
+    ) {
+        PageResponse<R> response = service.findAll(page, size, sort, countMode);
+        return ResponseUtil.ok(response);
+    }
+    
+    @GetMapping("/scroll")
+    @Operation(summary = "커서 기반 목록 조회", description = "이전 응답의 nextCursor로 다음 목록을 조회합니다. 전체 개수는 계산하지 않습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청")
+    })
+    @Override
+    public ResponseEntity<ApiResponse<PageResponse<R>>> scroll(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "" + ApiConstants.DEFAULT_PAGE_SIZE) @Min(1) @Max(ApiConstants.MAX_PAGE_SIZE) int size,
+            
+            @Parameter(description = "정렬 기준 (field,direction), 커서와 같은 값이어야 함", example = "createdAt,desc")
             @RequestParam(required = false, defaultValue = ApiConstants.DEFAULT_SORT_FIELD + "," + ApiConstants.DEFAULT_SORT_DIRECTION) String sort
     ) {
-        PageResponse<R> response = service.findAll(page, size, sort);
+        PageResponse<R> response = service.findAll(cursor, size, sort);
         return ResponseUtil.ok(response);
     }
     
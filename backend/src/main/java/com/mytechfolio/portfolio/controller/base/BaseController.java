@@ -2,6 +2,7 @@ package com.mytechfolio.portfolio.controller.base;
 
 import com.mytechfolio.portfolio.dto.response.ApiResponse;
 import com.mytechfolio.portfolio.dto.response.PageResponse;
+import com.mytechfolio.portfolio.util.CountMode;
 import org.springframework.http.ResponseEntity;
 
 /**
@@ -24,9 +25,20 @@ public interface BaseController<R, C, U, ID> {
      * @param page Page number (1-based)
      * @param size Page size
      * @param sort Sort criteria (field,direction)
+     * @param countMode How the total is counted
      * @return Paginated response
      */
-    ResponseEntity<ApiResponse<PageResponse<R>>> findAll(int page, int size, String sort);
+    ResponseEntity<ApiResponse<PageResponse<R>>> findAll(int page, int size, String sort, CountMode countMode);
+    
+    /**
+     * Get resources after a cursor, without a total count.
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @param sort Sort criteria (field,direction)
+     * @return Page with the next cursor
+     */
+    ResponseEntity<ApiResponse<PageResponse<R>>> scroll(String cursor, int size, String sort);
     
     /**
      * Get resource by ID.
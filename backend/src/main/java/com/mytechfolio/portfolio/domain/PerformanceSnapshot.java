@@ -0,0 +1,114 @@
+package com.mytechfolio.portfolio.domain;
+
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Persisted per-route performance counters for one time window of one instance.
+ * Each document holds the deltas recorded during the window, so windows can be
+ * summed across instances and rolled up into coarser resolutions.
+ * Documents expire through a TTL index on {@code expireAt}, which bounds storage;
+ * it and the window indexes are declared in {@code PerformanceConfig}.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Document(collection = "performance_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceSnapshot {
+    
+    @Id
+    private String id;
+    
+    private Resolution resolution;
+    
+    private String instanceId; // Pod/host name of the instance that recorded the window
+    
+    private LocalDateTime windowStart;
+    
+    private LocalDateTime windowEnd;
+    
+    private boolean partial; // Window cut short by shutdown
+    
+    private List<RouteWindow> routes;
+    
+    private Date expireAt; // TTL, see PerformanceConfig
+    
+    public enum Resolution {
+        MINUTE, HOUR
+    }
+    
+    /**
+     * Counters and histograms recorded for one route during the window.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteWindow {
+        private String route;
+        private long requestCount;
+        private long errorCount;
+        private BucketHistogram.Snapshot latencies;
+        private BucketHistogram.Snapshot dbTimes;
+        private BucketHistogram.Snapshot responseSizes;
+        private BucketHistogram.Snapshot cpuTimes;
+        private BucketHistogram.Snapshot allocations;
+        
+        /**
+         * Computes the activity since an earlier cumulative window of the same route.
+         * 
+         * @param earlier Earlier cumulative window, or null
+         * @return Delta window
+         */
+        public RouteWindow minus(RouteWindow earlier) {
+            if (earlier == null) {
+                return this;
+            }
+            return RouteWindow.builder()
+                    .route(route)
+                    .requestCount(Math.max(0, requestCount - earlier.requestCount))
+                    .errorCount(Math.max(0, errorCount - earlier.errorCount))
+                    .latencies(latencies.minus(earlier.latencies))
+                    .dbTimes(dbTimes.minus(earlier.dbTimes))
+                    .responseSizes(responseSizes.minus(earlier.responseSizes))
+                    .cpuTimes(cpuTimes.minus(earlier.cpuTimes))
+                    .allocations(allocations.minus(earlier.allocations))
+                    .build();
+        }
+        
+        /**
+         * Merges another window of the same route.
+         * 
+         * @param other Window to add, may be null
+         * @return Combined window
+         */
+        public RouteWindow plus(RouteWindow other) {
+            if (other == null) {
+                return this;
+            }
+            return RouteWindow.builder()
+                    .route(route)
+                    .requestCount(requestCount + other.requestCount)
+                    .errorCount(errorCount + other.errorCount)
+                    .latencies(latencies.plus(other.latencies))
+                    .dbTimes(dbTimes.plus(other.dbTimes))
+                    .responseSizes(responseSizes.plus(other.responseSizes))
+                    .cpuTimes(cpuTimes.plus(other.cpuTimes))
+                    .allocations(allocations.plus(other.allocations))
+                    .build();
+        }
+    }
+}
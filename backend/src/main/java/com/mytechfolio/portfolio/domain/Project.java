@@ -54,6 +54,9 @@ public class Project {
     @Builder.Default
     private List<String> techStackIds = new ArrayList<>();
 
+    // 기술 스택 표시 정보 (쓰기 시점에 비정규화, null이면 미적용 문서)
+    private List<TechStackRef> techStackRefs;
+
     // 관련 학업 ID 목록
     @Builder.Default
     private List<String> relatedAcademicIds = new ArrayList<>();
@@ -68,6 +71,21 @@ public class Project {
         PLANNING, IN_PROGRESS, COMPLETED, ARCHIVED
     }
 
+    /**
+     * Tech stack display data embedded at write time, so reads need no tech stack lookup.
+     * Kept in sync with {@code tech_stacks} by {@code ProjectTechStackRefService}.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TechStackRef {
+        private String techStackId;
+        private String name;
+        private TechStack.TechType type;
+        private String logoUrl;
+    }
+
     // Helper methods
     public void addTechStack(String techStackId) {
         if (this.techStackIds == null) {
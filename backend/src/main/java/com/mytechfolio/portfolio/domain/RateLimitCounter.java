@@ -0,0 +1,32 @@
+package com.mytechfolio.portfolio.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Shared fixed-window request counter for one client, route class and minute.
+ * Used when rate limits must hold across several application instances.
+ * The id encodes the key and window, so a single upsert both creates and increments it.
+ * Counters expire through the TTL index on {@code expireAt} declared in {@code PerformanceConfig}.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Document(collection = "rate_limit_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitCounter {
+    
+    @Id
+    private String id; // "{routeClass}:{client}:{windowIndex}"
+    
+    private long count;
+    
+    private Date expireAt; // TTL, see PerformanceConfig
+}
@@ -1,5 +1,6 @@
 package com.mytechfolio.portfolio.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,16 +8,25 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+/**
+ * Page of results.
+ * Offset pages carry the page number and, unless counting was skipped, the total with
+ * {@code totalExact} stating whether it is exact or a cached/estimated value. Cursor pages
+ * carry {@code nextCursor} instead and leave the page number and totals out.
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
-    private int page;
+    private Integer page;
     private int size;
-    private long total;
-    private int totalPages;
+    private Long total;
+    private Integer totalPages;
+    private Boolean totalExact;
     private boolean hasNext;
-    private boolean hasPrevious;
+    private Boolean hasPrevious;
     private List<T> items;
+    private String nextCursor;
 }
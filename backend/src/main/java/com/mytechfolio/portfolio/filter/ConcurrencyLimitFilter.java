@@ -0,0 +1,98 @@
+package com.mytechfolio.portfolio.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mytechfolio.portfolio.config.ConcurrencyLimitProperties;
+import com.mytechfolio.portfolio.constants.ErrorCode;
+import com.mytechfolio.portfolio.dto.response.ApiResponse;
+import com.mytechfolio.portfolio.service.monitoring.ConcurrencyLimiterRegistry;
+import com.mytechfolio.portfolio.util.AdaptiveConcurrencyLimiter;
+import com.mytechfolio.portfolio.util.ResponseUtil;
+import com.mytechfolio.portfolio.util.RouteClass;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sheds load before it reaches MongoDB.
+ * Each route class has an adaptive concurrency limit; requests above it are
+ * rejected with 503 and Retry-After instead of queueing for a database connection.
+ * Runs after the monitoring filter so shed requests still appear in route metrics,
+ * and after the rate limiter so over-limit clients never occupy a slot.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3) // After RateLimitFilter, ahead of Spring Security
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter implements Filter {
+    
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        
+        if (!properties.isEnabled()
+                || !(request instanceof HttpServletRequest)
+                || !(response instanceof HttpServletResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        
+        String path = httpRequest.getRequestURI();
+        if (!path.startsWith("/api/")) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        RouteClass routeClass = RouteClass.classify(httpRequest.getMethod(), path);
+        AdaptiveConcurrencyLimiter limiter = limiterRegistry.get(routeClass);
+        if (!limiter.tryAcquire()) {
+            log.debug("Shedding {} {} ({} limit {} reached)",
+                    httpRequest.getMethod(), path, routeClass, limiter.getLimit());
+            writeOverloaded(httpResponse);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // Failed requests often return early and would drag the latency baseline down
+            limiter.release(System.nanoTime() - start, completed && httpResponse.getStatus() < 500);
+        }
+    }
+    
+    private void writeOverloaded(HttpServletResponse response) throws IOException {
+        ApiResponse<Void> body = ResponseUtil.enrichWithMetadata(ApiResponse.error(ErrorCode.SERVICE_OVERLOADED));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -1,7 +1,12 @@
 package com.mytechfolio.portfolio.filter;
 
 import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.service.monitoring.MongoCommandMetricsService;
+import com.mytechfolio.portfolio.service.monitoring.ResourceUsageSampler;
+import com.mytechfolio.portfolio.util.ClientIpResolver;
 import com.mytechfolio.portfolio.util.PerformanceMetrics;
+import com.mytechfolio.portfolio.util.RequestTimingContext;
+import com.mytechfolio.portfolio.util.TraceContext;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,26 +16,35 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 
 /**
  * Filter for monitoring API performance.
- * Tracks response times and collects performance metrics.
+ * Tracks response times, request/response payload sizes, MongoDB time per request,
+ * sampled CPU time and allocation, and collects performance metrics.
  * 
  * @author MyTechPortfolio Team
  * @since 1.0.0
  */
 @Slf4j
 @Component
-@Order(1) // Execute early in filter chain
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // Execute right after LoggingConfig, ahead of Spring Security
 @RequiredArgsConstructor
 public class PerformanceMonitoringFilter implements Filter {
     
+    // Path segments that look like identifiers are collapsed when no handler pattern is available
+    private static final Pattern ID_SEGMENT = Pattern.compile("/([0-9a-fA-F]{24}|\\d+|[0-9a-fA-F-]{36})(?=/|$)");
+    
     private final PerformanceMonitoringService performanceMonitoringService;
+    private final ResourceUsageSampler resourceUsageSampler;
     
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -54,22 +68,50 @@ public class PerformanceMonitoringFilter implements Filter {
             return;
         }
         
-        long startTime = System.currentTimeMillis();
+        // Reuse the timing context opened by LoggingConfig so the request is timed once
+        RequestTimingContext timing = RequestTimingContext.current();
+        boolean ownsTiming = timing == null;
+        if (ownsTiming) {
+            timing = RequestTimingContext.begin();
+        }
+        
+        // Count payload bytes as they stream through (no body buffering)
+        ByteCountingRequestWrapper countingRequest = new ByteCountingRequestWrapper(httpRequest);
+        ByteCountingResponseWrapper countingResponse = new ByteCountingResponseWrapper(httpResponse);
+        ResourceUsageSampler.Sample sample = resourceUsageSampler.start();
+        TraceContext.Span span = TraceContext.startSpan("filter chain", TraceContext.Kind.INTERNAL);
         
         try {
-            chain.doFilter(request, response);
+            chain.doFilter(countingRequest, countingResponse);
         } finally {
-            long endTime = System.currentTimeMillis();
-            long responseTime = endTime - startTime;
+            if (span != null) {
+                span.end();
+            }
+            long responseTime = timing.getElapsedMs();
+            if (sample != null) {
+                sample.stop();
+            }
+            if (ownsTiming) {
+                RequestTimingContext.end();
+            }
+            MDC.remove(MongoCommandMetricsService.DB_TIME_MDC_KEY);
+            MDC.remove(MongoCommandMetricsService.DB_COMMANDS_MDC_KEY);
             
             // Record metrics asynchronously
             PerformanceMetrics metrics = PerformanceMetrics.builder()
                     .endpoint(path)
+                    .route(resolveRoute(httpRequest, path))
                     .method(httpRequest.getMethod())
                     .responseTimeMs(responseTime)
                     .statusCode(httpResponse.getStatus())
                     .timestamp(LocalDateTime.now())
-                    .ipAddress(getClientIpAddress(httpRequest))
+                    .ipAddress(ClientIpResolver.resolve(httpRequest))
+                    .requestSize(countingRequest.getByteCount())
+                    .responseSize(countingResponse.getByteCount())
+                    .dbTimeMs(timing.getDbTimeMs())
+                    .dbCommandCount(timing.getDbCommandCount())
+                    .cpuTimeNanos(sample != null && sample.getCpuTimeNanos() >= 0 ? sample.getCpuTimeNanos() : null)
+                    .allocatedBytes(sample != null && sample.getAllocatedBytes() >= 0 ? sample.getAllocatedBytes() : null)
                     .build();
             
             performanceMonitoringService.recordMetrics(metrics);
@@ -77,18 +119,15 @@ public class PerformanceMonitoringFilter implements Filter {
     }
     
     /**
-     * Gets client IP address from request.
+     * Resolves the route key used for per-route aggregation.
+     * Prefers the handler's path pattern so that "/projects/{id}" is one route,
+     * not one route per project.
      */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
+    private String resolveRoute(HttpServletRequest request, String path) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String routePath = pattern != null
+                ? pattern.toString()
+                : ID_SEGMENT.matcher(path).replaceAll("/{id}");
+        return request.getMethod() + " " + routePath;
     }
 }
-
@@ -0,0 +1,104 @@
+package com.mytechfolio.portfolio.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mytechfolio.portfolio.config.RateLimitProperties;
+import com.mytechfolio.portfolio.constants.ErrorCode;
+import com.mytechfolio.portfolio.dto.response.ApiResponse;
+import com.mytechfolio.portfolio.service.ratelimit.RateLimitBackend;
+import com.mytechfolio.portfolio.service.ratelimit.RateLimitDecision;
+import com.mytechfolio.portfolio.util.ClientIpResolver;
+import com.mytechfolio.portfolio.util.ResponseUtil;
+import com.mytechfolio.portfolio.util.RouteClass;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Per-client request rate limiting.
+ * Enforces {@code app.rate-limit.*} per client IP and route class, with a
+ * stricter limit on authentication endpoints, and reports the client's budget
+ * in {@code X-Rate-Limit-*} headers. Exhausted clients receive 429 with Retry-After.
+ * Runs before the concurrency limiter so abusive clients cannot take its slots.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2) // After PerformanceMonitoringFilter, ahead of ConcurrencyLimitFilter
+@RequiredArgsConstructor
+public class RateLimitFilter implements Filter {
+    
+    public static final String LIMIT_HEADER = "X-Rate-Limit-Limit";
+    public static final String REMAINING_HEADER = "X-Rate-Limit-Remaining";
+    public static final String RETRY_AFTER_SECONDS_HEADER = "X-Rate-Limit-Retry-After-Seconds";
+    
+    private final RateLimitBackend rateLimitBackend;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        
+        if (!properties.isEnabled()
+                || !(request instanceof HttpServletRequest)
+                || !(response instanceof HttpServletResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        
+        // CORS preflights are sent by the browser, not the client code, and must not use its budget
+        String path = httpRequest.getRequestURI();
+        if (!path.startsWith("/api/") || "OPTIONS".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        RouteClass routeClass = RouteClass.classify(httpRequest.getMethod(), path);
+        int limit = routeClass == RouteClass.AUTH
+                ? properties.getAuthRequestsPerMinute()
+                : properties.getRequestsPerMinute();
+        String client = ClientIpResolver.resolve(httpRequest);
+        RateLimitDecision decision = rateLimitBackend.tryAcquire(routeClass, client, limit);
+        
+        httpResponse.setHeader(LIMIT_HEADER, String.valueOf(decision.getLimit()));
+        httpResponse.setHeader(REMAINING_HEADER, String.valueOf(decision.getRemaining()));
+        if (decision.isAllowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        log.debug("Rate limit exceeded for {} on {} {} ({})", client, httpRequest.getMethod(), path, routeClass);
+        writeTooManyRequests(httpResponse, decision);
+    }
+    
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        ApiResponse<Void> body = ResponseUtil.enrichWithMetadata(ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS));
+        String retryAfter = String.valueOf(decision.getRetryAfterSeconds());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setHeader(RETRY_AFTER_SECONDS_HEADER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,164 @@
+package com.mytechfolio.portfolio.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Response wrapper that runs a callback exactly once, just before the response
+ * is committed (first body byte, flush, error or redirect).
+ * Headers derived from request timing can only be set at that point, because
+ * the body is streamed and the response is usually committed before the
+ * filter chain unwinds.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable beforeCommit;
+    private boolean fired;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public ServerTimingResponseWrapper(HttpServletResponse response, Runnable beforeCommit) {
+        super(response);
+        this.beforeCommit = beforeCommit;
+    }
+
+    /**
+     * Runs the callback if it has not run yet and the response is still open.
+     */
+    public void fireBeforeCommit() {
+        if (!fired) {
+            fired = true;
+            if (!isCommitted()) {
+                beforeCommit.run();
+            }
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new HookedOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new HookedWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        fireBeforeCommit();
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        fireBeforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        fireBeforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        fireBeforeCommit();
+        super.sendRedirect(location);
+    }
+
+    private final class HookedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private HookedOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            fireBeforeCommit();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            fireBeforeCommit();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            fireBeforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            fireBeforeCommit();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private final class HookedWriter extends Writer {
+
+        private final Writer delegate;
+
+        private HookedWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            fireBeforeCommit();
+            delegate.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            fireBeforeCommit();
+            delegate.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            fireBeforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            fireBeforeCommit();
+            delegate.close();
+        }
+    }
+}
@@ -1,16 +1,16 @@
 package com.mytechfolio.portfolio.mapper;
 
 import com.mytechfolio.portfolio.domain.Project;
-import com.mytechfolio.portfolio.domain.TechStack;
 import com.mytechfolio.portfolio.dto.request.ProjectCreateRequest;
 import com.mytechfolio.portfolio.dto.request.ProjectUpdateRequest;
 import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectSummaryResponse;
 import com.mytechfolio.portfolio.repository.AcademicRepository;
-import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.service.TechStackCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
 public class ProjectMapper
         extends EntityMapper<Project, ProjectDetailResponse, ProjectCreateRequest, ProjectUpdateRequest> {
 
-    private final TechStackRepository techStackRepository;
+    private final TechStackCatalog techStackCatalog;
     private final AcademicRepository academicRepository;
 
     @Override
@@ -37,14 +37,8 @@ public class ProjectMapper
             return null;
         }
 
-        // Fetch related entities for detailed response
-        List<TechStack> techStacks = project.getTechStackIds() != null && !project.getTechStackIds().isEmpty()
-                ? techStackRepository.findByIdIn(project.getTechStackIds())
-                : List.of();
-
-        List<String> techStackNames = techStacks.stream()
-                .map(TechStack::getName)
-                .collect(Collectors.toList());
+        // Tech stack names come from the in-memory snapshot; academics are fetched
+        List<String> techStackNames = resolveTechStackNames(project);
 
         List<String> academicNames = project.getRelatedAcademicIds() != null
                 && !project.getRelatedAcademicIds().isEmpty()
@@ -74,6 +68,7 @@ public class ProjectMapper
     /**
      * Converts Project to ProjectSummaryResponse using pre-fetched TechStack map.
      * Avoids N+1 queries when converting lists of projects.
+     * Embedded tech stack data takes precedence; the map is only used for projects written before it.
      *
      * @param project   Project entity
      * @param techStackMap Pre-fetched map of TechStack ID -> TechStack name
@@ -84,7 +79,9 @@ public class ProjectMapper
             return null;
         }
 
-        List<String> techStackNames = project.getTechStackIds() != null
+        List<String> techStackNames = project.getTechStackRefs() != null
+                ? embeddedTechStackNames(project)
+                : project.getTechStackIds() != null
                 ? project.getTechStackIds().stream()
                     .map(id -> techStackMap.getOrDefault(id, "Unknown"))
                     .collect(Collectors.toList())
@@ -105,7 +102,8 @@ public class ProjectMapper
 
     /**
      * Converts Project to ProjectSummaryResponse.
-     * Note: For list operations, prefer the overload with pre-fetched techStackMap.
+     * Tech stack names come from the embedded data, or from {@link TechStackCatalog} for projects
+     * written before it; unknown IDs are left out.
      *
      * @param project Project entity
      * @return ProjectSummaryResponse
@@ -115,13 +113,7 @@ public class ProjectMapper
             return null;
         }
 
-        List<TechStack> techStacks = project.getTechStackIds() != null && !project.getTechStackIds().isEmpty()
-                ? techStackRepository.findByIdIn(project.getTechStackIds())
-                : List.of();
-
-        List<String> techStackNames = techStacks.stream()
-                .map(TechStack::getName)
-                .collect(Collectors.toList());
+        List<String> techStackNames = resolveTechStackNames(project);
 
         return ProjectSummaryResponse.builder()
                 .id(project.getId())
@@ -136,6 +128,19 @@ public class ProjectMapper
                 .build();
     }
 
+    private List<String> resolveTechStackNames(Project project) {
+        if (project.getTechStackRefs() != null) {
+            return embeddedTechStackNames(project);
+        }
+        return new ArrayList<>(techStackCatalog.namesById(project.getTechStackIds()).values());
+    }
+
+    private List<String> embeddedTechStackNames(Project project) {
+        return project.getTechStackRefs().stream()
+                .map(Project.TechStackRef::getName)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Project toEntity(ProjectCreateRequest createRequest) {
         if (createRequest == null) {
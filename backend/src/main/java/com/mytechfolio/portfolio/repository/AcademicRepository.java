@@ -19,6 +19,10 @@ public interface AcademicRepository extends MongoRepository<Academic, String> {
     // Find by semester (alias for compatibility)
     Page<Academic> findBySemesterContaining(String semester, Pageable pageable);
     
+    // Find by semester, list view fields only (partial entities, read-only)
+    @Query(fields = SummaryProjections.ACADEMIC)
+    Page<Academic> findSummariesBySemesterContaining(String semester, Pageable pageable);
+    
     // Find by status
     Page<Academic> findByStatus(Academic.AcademicStatus status, Pageable pageable);
     
@@ -20,6 +20,11 @@ public interface ContactRepository extends MongoRepository<Contact, String> {
      */
     long countByIpAddressAndCreatedAtAfter(String ipAddress, LocalDateTime after);
     
+    /**
+     * Finds the three most recent contacts from same IP within time period.
+     */
+    java.util.List<Contact> findTop3ByIpAddressAndCreatedAtAfterOrderByCreatedAtDesc(String ipAddress, LocalDateTime after);
+    
     /**
      * Checks for duplicate submissions.
      */
@@ -0,0 +1,24 @@
+package com.mytechfolio.portfolio.repository;
+
+import com.mytechfolio.portfolio.domain.PerformanceSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for persisted performance history windows.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Repository
+public interface PerformanceSnapshotRepository extends MongoRepository<PerformanceSnapshot, String> {
+    
+    /**
+     * Finds windows of all instances whose start lies in [from, to).
+     */
+    List<PerformanceSnapshot> findByResolutionAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc(
+            PerformanceSnapshot.Resolution resolution, LocalDateTime from, LocalDateTime to);
+}
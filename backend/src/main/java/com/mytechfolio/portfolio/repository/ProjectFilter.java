@@ -0,0 +1,220 @@
+package com.mytechfolio.portfolio.repository;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.util.ResourceQueryFields;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combined project list filter, translated into a single MongoDB query.
+ * All given filters are ANDed. The query is pinned to the compound index that starts
+ * with its most selective equality filter (tech stacks, then status, featured) and
+ * continues with the sort field, so pages are read in sort order; the remaining filters
+ * are applied to the documents fetched from that index. A start date range alone is
+ * served by the start date index only when sorting by start date, otherwise the query
+ * walks the sort index. Text queries always run on the text index, which MongoDB does
+ * not allow to be hinted.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Value
+@Builder(toBuilder = true)
+public class ProjectFilter {
+
+    public static final int MAX_TEXT_LENGTH = 100;
+
+    /**
+     * How multiple tech stack IDs are matched.
+     */
+    public enum TechStackMatch {
+        /** Project uses at least one of the tech stacks */
+        ANY,
+        /** Project uses every tech stack */
+        ALL
+    }
+
+    private static final ProjectFilter NONE = ProjectFilter.builder().build();
+
+    /** Tech stack IDs, already normalised (see {@code CacheKeys.normalizeIds}) */
+    List<String> techStackIds;
+
+    @Builder.Default
+    TechStackMatch techStackMatch = TechStackMatch.ANY;
+
+    /** Earliest start date, inclusive */
+    LocalDate startDateFrom;
+
+    /** Latest start date, inclusive */
+    LocalDate startDateTo;
+
+    Project.ProjectStatus status;
+
+    Boolean featured;
+
+    /** Full-text search over title and summary */
+    String text;
+
+    /**
+     * Gets a filter matching every project.
+     */
+    public static ProjectFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Narrows the start date range to one calendar year.
+     *
+     * @param year Year, or null to keep the current range
+     * @return Filter with the intersected range
+     */
+    public ProjectFilter withinYear(Integer year) {
+        if (year == null) {
+            return this;
+        }
+        LocalDate yearStart = LocalDate.of(year, 1, 1);
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        return toBuilder()
+                .startDateFrom(startDateFrom == null || startDateFrom.isBefore(yearStart) ? yearStart : startDateFrom)
+                .startDateTo(startDateTo == null || startDateTo.isAfter(yearEnd) ? yearEnd : startDateTo)
+                .build();
+    }
+
+    /**
+     * Checks the filter values.
+     *
+     * @throws IllegalArgumentException if the date range is inverted or the search text is too long
+     */
+    public void validate() {
+        if (startDateFrom != null && startDateTo != null && startDateFrom.isAfter(startDateTo)) {
+            throw new IllegalArgumentException(
+                    "Start date range is empty: " + startDateFrom + " is after " + startDateTo);
+        }
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private boolean hasTechStacks() {
+        return techStackIds != null && !techStackIds.isEmpty();
+    }
+
+    private boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+    private boolean hasDateRange() {
+        return startDateFrom != null || startDateTo != null;
+    }
+
+    /**
+     * Builds the MongoDB query for this filter under the default sort, without sort or paging.
+     *
+     * @return Query with criteria and index hint
+     */
+    public Query toQuery() {
+        return toQuery(ResourceQueryFields.PROJECT.getDefaultSort());
+    }
+
+    /**
+     * Builds the MongoDB query for this filter, without sort or paging.
+     * The sort is not applied; it only selects the index hint.
+     *
+     * @param sort Sort the query will be run with
+     * @return Query with criteria and index hint
+     */
+    public Query toQuery(Sort sort) {
+        validate();
+        Query query = hasText()
+                ? TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text.trim()))
+                : new Query();
+
+        for (Criteria criteria : toCriteria()) {
+            query.addCriteria(criteria);
+        }
+
+        String hint = indexHint(sort);
+        if (hint != null) {
+            query.withHint(hint);
+        }
+        return query;
+    }
+
+    /**
+     * Builds one criteria per given filter, excluding the text search.
+     */
+    List<Criteria> toCriteria() {
+        List<Criteria> criteria = new ArrayList<>();
+        if (hasTechStacks()) {
+            Criteria techStacks = Criteria.where("techStackIds");
+            criteria.add(techStackMatch == TechStackMatch.ALL ? techStacks.all(techStackIds) : techStacks.in(techStackIds));
+        }
+        if (status != null) {
+            criteria.add(Criteria.where("status").is(status));
+        }
+        if (featured != null) {
+            criteria.add(Criteria.where("isFeatured").is(featured));
+        }
+        if (hasDateRange()) {
+            Criteria startDate = Criteria.where("startDate");
+            if (startDateFrom != null) {
+                startDate = startDate.gte(startDateFrom);
+            }
+            if (startDateTo != null) {
+                startDate = startDate.lte(startDateTo);
+            }
+            criteria.add(startDate);
+        }
+        return criteria;
+    }
+
+    /**
+     * Gets the index the query is pinned to under a sort.
+     *
+     * @param sort Sort the query will be run with; unsorted means the default sort
+     * @return Index name, or null if the planner chooses (text search, or no index serves the sort)
+     */
+    public String indexHint(Sort sort) {
+        if (hasText()) {
+            return null;
+        }
+        ResourceQueryFields fields = ResourceQueryFields.PROJECT;
+        String sortField = (sort == null || sort.isUnsorted() ? fields.getDefaultSort() : sort)
+                .iterator().next().getProperty();
+        if (hasTechStacks()) {
+            return fields.getFilterIndex("techStackIds", sortField);
+        }
+        if (status != null) {
+            return fields.getFilterIndex("status", sortField);
+        }
+        if (featured != null) {
+            return fields.getFilterIndex("isFeatured", sortField);
+        }
+        if (hasDateRange()) {
+            String rangeIndex = fields.getFilterIndex("startDate", sortField);
+            if (rangeIndex != null) {
+                return rangeIndex;
+            }
+        }
+        // No filter index serves the sort: walk the sort index, checking the range per document
+        return fields.getSortIndex(sortField);
+    }
+
+    /**
+     * Gets a stable representation for cache keys; tech stack order is irrelevant to the result.
+     */
+    public String cacheKey() {
+        List<String> ids = hasTechStacks() ? techStackIds.stream().sorted().distinct().toList() : List.of();
+        return String.join(",", ids) + "|" + techStackMatch + "|" + startDateFrom + "|" + startDateTo
+                + "|" + status + "|" + featured + "|" + (hasText() ? text.trim().toLowerCase() : null);
+    }
+}
@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends MongoRepository<Project, String> {
+public interface ProjectRepository extends MongoRepository<Project, String>, ProjectRepositoryCustom {
     
     // Find featured projects
     Page<Project> findByIsFeaturedTrue(Pageable pageable);
@@ -47,7 +47,7 @@ public interface ProjectRepository extends MongoRepository<Project, String> {
     @Query("{'demoUrl': {$ne: null, $ne: ''}}")
     List<Project> findProjectsWithDemoUrl();
     
-    // Find most viewed projects
+    // Find most viewed projects (viewCount is written by ProjectViewCounter, at most one flush interval behind)
     @Query(value = "{}", sort = "{'viewCount': -1}")
     Page<Project> findMostViewedProjects(Pageable pageable);
     
@@ -66,17 +66,13 @@ public interface ProjectRepository extends MongoRepository<Project, String> {
     @Query("{'_id': ?0}")
     Optional<Project> findByIdForViewCount(String id);
     
-    // Find projects with filters (compatibility method)
+    // Find projects with filters (compatibility method, both filters are applied)
     default Page<Project> findProjectsWithFilters(List<String> techStackIds, Integer year, Pageable pageable) {
-        if (year != null) {
-            LocalDate yearStart = LocalDate.of(year, 1, 1);
-            LocalDate yearEnd = LocalDate.of(year, 12, 31);
-            return findByYear(yearStart, yearEnd, pageable);
-        }
-        if (techStackIds != null && !techStackIds.isEmpty()) {
-            return findByTechStackIds(techStackIds, pageable);
-        }
-        return findAll(pageable);
+        ProjectFilter filter = ProjectFilter.builder()
+                .techStackIds(techStackIds)
+                .build()
+                .withinYear(year);
+        return findByFilter(filter, pageable);
     }
     
     // Find by ID with details (compatibility method - just use findById)
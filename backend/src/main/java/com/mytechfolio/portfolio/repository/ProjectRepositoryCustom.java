@@ -0,0 +1,42 @@
+package com.mytechfolio.portfolio.repository;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+/**
+ * Project queries built with {@code MongoTemplate} instead of derived or {@code @Query} methods.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public interface ProjectRepositoryCustom {
+
+    /**
+     * Finds projects matching every given filter in one query.
+     *
+     * @param filter Combined filter
+     * @param pageable Page and sort
+     * @return Page of matching projects
+     */
+    Page<Project> findByFilter(ProjectFilter filter, Pageable pageable);
+
+    /**
+     * Reads a project detail with tech stack and academic names resolved in one aggregation.
+     *
+     * @param id Project ID
+     * @return Detail response, empty if the project does not exist or the ID is not an ObjectId
+     */
+    Optional<ProjectDetailResponse> findDetailById(String id);
+
+    /**
+     * Deletes a project atomically and returns its references, so callers can update the documents they count.
+     *
+     * @param id Project ID
+     * @return Deleted project with only its ID and reference fields, empty if it did not exist
+     */
+    Optional<Project> removeById(String id);
+}
@@ -0,0 +1,121 @@
+package com.mytechfolio.portfolio.repository;
+
+import com.mytechfolio.portfolio.domain.Academic;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ProjectRepositoryCustom} implementation, picked up by Spring Data through the {@code Impl} suffix.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    // ProjectDetailResponse fields copied from the project document as they are
+    private static final List<String> DETAIL_FIELDS = List.of("title", "summary", "description", "startDate",
+            "endDate", "githubUrl", "demoUrl", "repositoryName", "isFeatured", "status", "viewCount");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Project> findByFilter(ProjectFilter filter, Pageable pageable) {
+        Query query = filter.toQuery(pageable.getSort()).with(pageable);
+        List<Project> content = mongoTemplate.find(query, Project.class);
+        // Count only when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Project.class));
+    }
+
+    @Override
+    public Optional<ProjectDetailResponse> findDetailById(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+        // Projects with embedded tech stack data skip the tech stack lookup
+        Document hasTechStackRefs = new Document("$isArray", "$techStackRefs");
+        // techStackIds and relatedAcademicIds are stored as strings; the _id lookups need ObjectIds
+        Document referenceIds = new Document()
+                .append("techStackObjectIds", new Document("$cond",
+                        List.of(hasTechStackRefs, List.of(), toObjectIds("$techStackIds"))))
+                .append("academicObjectIds", toObjectIds("$relatedAcademicIds"));
+        Document detail = new Document();
+        DETAIL_FIELDS.forEach(field -> detail.append(field, 1));
+        detail.append("techStacks", new Document("$cond",
+                        List.of(hasTechStackRefs, "$techStackRefs.name", namesInIdOrder())))
+                .append("relatedAcademics", "$academicDocs.name");
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("_id").is(new ObjectId(id))),
+                stage("$addFields", referenceIds),
+                Aggregation.lookup(mongoTemplate.getCollectionName(TechStack.class),
+                        "techStackObjectIds", "_id", "techStackDocs"),
+                Aggregation.lookup(mongoTemplate.getCollectionName(Academic.class),
+                        "academicObjectIds", "_id", "academicDocs"),
+                stage("$project", detail));
+
+        return Optional.ofNullable(mongoTemplate.aggregate(aggregation,
+                mongoTemplate.getCollectionName(Project.class), ProjectDetailResponse.class).getUniqueMappedResult());
+    }
+
+    @Override
+    public Optional<Project> removeById(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("techStackIds").include("relatedAcademicIds");
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Project.class));
+    }
+
+    /**
+     * Converts an array of ID strings to ObjectIds; invalid IDs become null and match nothing.
+     */
+    private static Document toObjectIds(String arrayField) {
+        Document toObjectId = new Document("input", "$$id")
+                .append("to", "objectId")
+                .append("onError", null)
+                .append("onNull", null);
+        return new Document("$map", new Document("input", new Document("$ifNull", List.of(arrayField, List.of())))
+                .append("as", "id")
+                .append("in", new Document("$convert", toObjectId)));
+    }
+
+    /**
+     * Picks the looked-up tech stack names in {@code techStackIds} order, as the mapper does;
+     * {@code $lookup} returns matches in collection order. Unknown and repeated IDs are skipped.
+     */
+    private static Document namesInIdOrder() {
+        Document position = new Document("$indexOfArray", List.of("$techStackDocs._id", "$$this"));
+        Document append = new Document("$cond", List.of(
+                new Document("$and", List.of(
+                        new Document("$gte", List.of("$$i", 0)),
+                        new Document("$not", List.of(new Document("$in", List.of("$$i", "$$value")))))),
+                new Document("$concatArrays", List.of("$$value", List.of("$$i"))),
+                "$$value"));
+        Document positions = new Document("$reduce", new Document("input", "$techStackObjectIds")
+                .append("initialValue", List.of())
+                .append("in", new Document("$let", new Document("vars", new Document("i", position))
+                        .append("in", append))));
+        return new Document("$map", new Document("input", positions)
+                .append("as", "i")
+                .append("in", new Document("$arrayElemAt", List.of("$techStackDocs.name", "$$i"))));
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+        return context -> new Document(operator, body);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mytechfolio.portfolio.repository;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Field projections for list endpoints.
+ * List views only read the fields their response DTO shows, so large fields
+ * (project markdown descriptions, moderation notes) are never sent by MongoDB
+ * nor deserialised. Entities loaded with a projection are partial and must not be saved.
+ *
+ * Projections are JSON so they can be used both in {@code @Query(fields = ...)}
+ * on repository methods and on Criteria queries through {@link #apply}.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class SummaryProjections {
+
+    /**
+     * ProjectSummaryResponse fields, plus every sortable field (keyset cursors read the sort value).
+     */
+    public static final String PROJECT = "{'title': 1, 'summary': 1, 'startDate': 1, 'endDate': 1, "
+            + "'techStackIds': 1, 'techStackRefs': 1, 'isFeatured': 1, 'status': 1, 'createdAt': 1, 'viewCount': 1}";
+
+    /**
+     * AcademicResponse fields.
+     */
+    public static final String ACADEMIC = "{'name': 1, 'semester': 1, 'grade': 1, 'description': 1}";
+
+    /**
+     * TestimonialResponse fields; excludes contact details and moderation notes.
+     */
+    public static final String TESTIMONIAL = "{'authorName': 1, 'authorTitle': 1, 'authorCompany': 1, "
+            + "'authorLinkedInUrl': 1, 'content': 1, 'rating': 1, 'type': 1, 'source': 1, 'isFeatured': 1, "
+            + "'displayOrder': 1, 'projectId': 1, 'testimonialDate': 1, 'createdAt': 1, 'updatedAt': 1}";
+
+    private SummaryProjections() {
+    }
+
+    /**
+     * Restricts a query to the fields of a projection.
+     *
+     * @param query      Query to restrict
+     * @param projection One of the projections above
+     * @return The same query
+     */
+    public static Query apply(Query query, String projection) {
+        for (String field : Document.parse(projection).keySet()) {
+            query.fields().include(field);
+        }
+        return query;
+    }
+}
@@ -35,7 +35,7 @@ public interface TechStackRepository extends MongoRepository<TechStack, String>
     @Query("{'category': ?0}")
     List<TechStack> findByCategory(String category);
     
-    // Find popular tech stacks (those used in many projects)
+    // Find popular tech stacks (usageCount is maintained by TechStackUsageService)
     @Query(value = "{}", sort = "{'usageCount': -1}")
     List<TechStack> findPopularTechStacks();
     
@@ -2,6 +2,7 @@ package com.mytechfolio.portfolio.repository;
 
 import com.mytechfolio.portfolio.domain.Testimonial;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -51,6 +52,32 @@ public interface TestimonialRepository extends MongoRepository<Testimonial, Stri
      */
     Optional<Testimonial> findByLinkedInRecommendationId(String linkedInRecommendationId);
     
+    /**
+     * Finds active and approved testimonials with list view fields only, ordered by display order.
+     * Returned entities are partial and must not be saved.
+     */
+    @Query(fields = SummaryProjections.TESTIMONIAL)
+    List<Testimonial> findSummariesByIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
+    
+    /**
+     * Finds featured testimonials with list view fields only.
+     */
+    @Query(fields = SummaryProjections.TESTIMONIAL)
+    List<Testimonial> findSummariesByIsFeaturedTrueAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
+    
+    /**
+     * Finds testimonials by type with list view fields only.
+     */
+    @Query(fields = SummaryProjections.TESTIMONIAL)
+    List<Testimonial> findSummariesByTypeAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc(
+            Testimonial.TestimonialType type);
+    
+    /**
+     * Finds testimonials by minimum rating with list view fields only.
+     */
+    @Query(fields = SummaryProjections.TESTIMONIAL)
+    List<Testimonial> findSummariesByRatingGreaterThanEqualAndIsActiveTrueAndIsApprovedTrue(Integer minRating);
+    
     /**
      * Counts active testimonials.
      */
@@ -2,6 +2,8 @@ package com.mytechfolio.portfolio.security.filter;
 
 import com.mytechfolio.portfolio.security.util.JwtUtil;
 import com.mytechfolio.portfolio.service.AuthService;
+import com.mytechfolio.portfolio.util.RequestTimingContext;
+import com.mytechfolio.portfolio.util.TraceContext;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,6 +35,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 		String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 		if (authHeader != null && authHeader.startsWith("Bearer ")) {
+			RequestTimingContext timing = RequestTimingContext.current();
+			long dbNanosBefore = timing != null ? timing.getPhaseNanos(RequestTimingContext.Phase.DB) : 0;
+			long authStart = System.nanoTime();
+			TraceContext.Span span = TraceContext.startSpan("JwtAuthenticationFilter.authenticate", TraceContext.Kind.INTERNAL);
 			String token = authHeader.substring(7);
 			try {
 				if (jwtUtil.isTokenValid(token) && !authService.isTokenBlacklisted(token)) {
@@ -45,6 +51,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			} catch (Exception e) {
 				log.debug("JWT validation failed", e);
 			}
+			if (timing != null) {
+				// The blacklist lookup is a MongoDB query, already counted in the db phase
+				long blacklistNanos = timing.getPhaseNanos(RequestTimingContext.Phase.DB) - dbNanosBefore;
+				timing.addPhase(RequestTimingContext.Phase.AUTH, Math.max(0, System.nanoTime() - authStart - blacklistNanos));
+			}
+			if (span != null) {
+				span.end();
+			}
 		}
 		filterChain.doFilter(request, response);
 	}
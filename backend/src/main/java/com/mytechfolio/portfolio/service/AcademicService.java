@@ -9,14 +9,16 @@ import com.mytechfolio.portfolio.exception.ResourceNotFoundException;
 import com.mytechfolio.portfolio.mapper.AcademicMapper;
 import com.mytechfolio.portfolio.repository.AcademicRepository;
 import com.mytechfolio.portfolio.util.PaginationUtil;
+import com.mytechfolio.portfolio.util.ResourceQueryFields;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 /**
  * Service for managing academic information.
  * Handles CRUD operations for academic records with pagination and filtering.
@@ -32,6 +34,7 @@ public class AcademicService {
 
     private final AcademicRepository academicRepository;
     private final AcademicMapper academicMapper;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
 
     /**
      * Retrieves a paginated list of academic records.
@@ -43,8 +46,8 @@ public class AcademicService {
      */
     public PageResponse<AcademicResponse> getAcademics(int page, int size, String semester) {
         log.debug("Fetching academics - page: {}, size: {}, semester: {}", page, size, semester);
-        Pageable pageable = PaginationUtil.createPageable(page, size, Sort.by("semester"));
-        Page<Academic> academicPage = academicRepository.findBySemesterContaining(semester, pageable);
+        Pageable pageable = PaginationUtil.createPageable(page, size, ResourceQueryFields.ACADEMIC.getDefaultSort());
+        Page<Academic> academicPage = academicRepository.findSummariesBySemesterContaining(semester, pageable);
 
         return PaginationUtil.toPageResponse(academicPage, academicMapper::toResponse, page);
     }
@@ -80,9 +83,14 @@ public class AcademicService {
                     return new ResourceNotFoundException("Academic", id);
                 });
         
+        String previousName = academic.getName();
         academicMapper.updateEntity(academic, request);
         
         Academic savedAcademic = academicRepository.save(academic);
+        // Project details show academic names; other fields do not affect cached projects
+        if (!Objects.equals(previousName, savedAcademic.getName())) {
+            projectCacheInvalidator.onAcademicChanged(id);
+        }
         log.info("Academic updated successfully with ID: {}", savedAcademic.getId());
         return academicMapper.toResponse(savedAcademic);
     }
@@ -101,6 +109,7 @@ public class AcademicService {
             throw new ResourceNotFoundException("Academic", id);
         }
         academicRepository.deleteById(id);
+        projectCacheInvalidator.onAcademicChanged(id);
         log.info("Academic deleted successfully with ID: {}", id);
     }
     
@@ -113,6 +122,7 @@ public class AcademicService {
         log.warn("Deleting all academics - this is a destructive operation");
         long count = academicRepository.count();
         academicRepository.deleteAll();
+        projectCacheInvalidator.evictAll();
         log.info("Deleted {} academic records", count);
     }
     
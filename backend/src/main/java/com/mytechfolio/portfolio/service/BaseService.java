@@ -17,6 +17,19 @@ public interface BaseService<T, ID, R, C, U> {
      */
     com.mytechfolio.portfolio.dto.response.PageResponse<R> findAll(int page, int size, String sort);
     
+    /**
+     * Get all entities with pagination, choosing how the total is counted.
+     */
+    com.mytechfolio.portfolio.dto.response.PageResponse<R> findAll(int page, int size, String sort,
+            com.mytechfolio.portfolio.util.CountMode countMode);
+    
+    /**
+     * Get entities after a cursor (keyset pagination, no total count).
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     */
+    com.mytechfolio.portfolio.dto.response.PageResponse<R> findAll(String cursor, int size, String sort);
+    
     /**
      * Get entity by ID.
      */
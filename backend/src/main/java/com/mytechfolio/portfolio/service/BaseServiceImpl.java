@@ -3,10 +3,16 @@ package com.mytechfolio.portfolio.service;
 import com.mytechfolio.portfolio.constants.ApiConstants;
 import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.exception.ResourceNotFoundException;
+import com.mytechfolio.portfolio.util.CountMode;
+import com.mytechfolio.portfolio.util.KeysetPaginator;
+import com.mytechfolio.portfolio.util.OffsetPaginator;
 import com.mytechfolio.portfolio.util.PaginationUtil;
-import org.springframework.data.domain.Page;
+import com.mytechfolio.portfolio.util.ResourceQueryFields;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
@@ -29,10 +35,23 @@ public abstract class BaseServiceImpl<T, ID, R, C, U> implements BaseService<T,
     
     protected final MongoRepository<T, ID> repository;
     
+    private KeysetPaginator keysetPaginator;
+    private OffsetPaginator offsetPaginator;
+    
     protected BaseServiceImpl(MongoRepository<T, ID> repository) {
         this.repository = repository;
     }
     
+    @Autowired
+    public void setKeysetPaginator(KeysetPaginator keysetPaginator) {
+        this.keysetPaginator = keysetPaginator;
+    }
+    
+    @Autowired
+    public void setOffsetPaginator(OffsetPaginator offsetPaginator) {
+        this.offsetPaginator = offsetPaginator;
+    }
+    
     /**
      * Convert entity to response DTO.
      */
@@ -69,12 +88,62 @@ public abstract class BaseServiceImpl<T, ID, R, C, U> implements BaseService<T,
         return Sort.Direction.valueOf(ApiConstants.DEFAULT_SORT_DIRECTION);
     }
     
+    /**
+     * Get the sortable/filterable field registry of this resource.
+     * Without one, client-supplied sort parameters are ignored and the default sort is used,
+     * because an arbitrary field could force an unindexed in-memory sort.
+     */
+    protected ResourceQueryFields getQueryFields() {
+        return null;
+    }
+    
+    /**
+     * Get the entity type, resolved from the subclass's type arguments.
+     * Override if the subclass is itself generic.
+     */
+    @SuppressWarnings("unchecked")
+    protected Class<T> getEntityClass() {
+        Class<?>[] typeArguments = GenericTypeResolver.resolveTypeArguments(getClass(), BaseServiceImpl.class);
+        if (typeArguments == null || typeArguments[0] == null) {
+            throw new IllegalStateException("Cannot resolve entity type of " + getClass().getName());
+        }
+        return (Class<T>) typeArguments[0];
+    }
+    
+    private Sort resolveSort(String sort) {
+        ResourceQueryFields queryFields = getQueryFields();
+        return queryFields != null
+                ? PaginationUtil.parseSort(queryFields, sort)
+                : Sort.by(getDefaultSortDirection(), getDefaultSortField());
+    }
+    
     @Override
     public PageResponse<R> findAll(int page, int size, String sort) {
-        Sort sortBy = PaginationUtil.parseSort(sort, getDefaultSortField(), getDefaultSortDirection());
+        return findAll(page, size, sort, CountMode.EXACT);
+    }
+    
+    @Override
+    public PageResponse<R> findAll(int page, int size, String sort, CountMode countMode) {
+        Sort sortBy = resolveSort(sort);
         Pageable pageable = PaginationUtil.createPageable(page, size, sortBy);
-        Page<T> entityPage = repository.findAll(pageable);
-        return PaginationUtil.toPageResponse(entityPage, this::toResponse, page);
+        return offsetPaginator.page(getEntityClass(), sortIndexQuery(sortBy), pageable,
+                countMode != null ? countMode : CountMode.EXACT,
+                entities -> entities.stream().map(this::toResponse).toList(), page);
+    }
+    
+    @Override
+    public PageResponse<R> findAll(String cursor, int size, String sort) {
+        Sort sortBy = resolveSort(sort);
+        return keysetPaginator.scroll(getEntityClass(), sortIndexQuery(sortBy), sortBy, size, cursor, this::toResponse);
+    }
+    
+    private Query sortIndexQuery(Sort sortBy) {
+        Query query = new Query();
+        ResourceQueryFields queryFields = getQueryFields();
+        if (queryFields != null) {
+            query.withHint(queryFields.getSortIndex(sortBy.iterator().next().getProperty()));
+        }
+        return query;
     }
     
     @Override
@@ -88,6 +157,7 @@ public abstract class BaseServiceImpl<T, ID, R, C, U> implements BaseService<T,
     public R create(C createRequest) {
         T entity = toEntity(createRequest);
         T savedEntity = repository.save(entity);
+        offsetPaginator.evictCounts(getEntityClass());
         return toResponse(savedEntity);
     }
     
@@ -97,6 +167,7 @@ public abstract class BaseServiceImpl<T, ID, R, C, U> implements BaseService<T,
                 .orElseThrow(() -> new ResourceNotFoundException(getResourceName(), String.valueOf(id)));
         updateEntity(entity, updateRequest);
         T savedEntity = repository.save(entity);
+        offsetPaginator.evictCounts(getEntityClass());
         return toResponse(savedEntity);
     }
     
@@ -106,6 +177,7 @@ public abstract class BaseServiceImpl<T, ID, R, C, U> implements BaseService<T,
             throw new ResourceNotFoundException(getResourceName(), String.valueOf(id));
         }
         repository.deleteById(id);
+        offsetPaginator.evictCounts(getEntityClass());
     }
     
     @Override
@@ -84,6 +84,7 @@ public class ContactService {
         
         Contact savedContact = contactRepository.save(contact);
         log.info("Contact saved successfully with ID: {}", savedContact.getId());
+        validationService.recordContactSubmission(request.getEmail(), request.getMessage(), ipAddress);
         
         // Send email notifications asynchronously
         try {
@@ -1,5 +1,6 @@
 package com.mytechfolio.portfolio.service;
 
+import com.mytechfolio.portfolio.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -45,7 +46,7 @@ public class EmailService {
      * @param company Company name (optional)
      * @param jobTitle Job title (optional)
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendContactNotification(String contactName, String contactEmail, String message, 
                                        String company, String jobTitle) {
         if (!emailEnabled) {
@@ -91,7 +92,7 @@ public class EmailService {
      * @param contactEmail Contact email
      * @param contactName Contact name
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendContactAutoResponder(String contactEmail, String contactName) {
         if (!emailEnabled) {
             log.debug("Email notifications disabled, skipping auto-responder");
@@ -131,7 +132,7 @@ public class EmailService {
      * @param downloaderEmail Downloader email (if available)
      * @param downloaderIp Downloader IP address
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendResumeDownloadNotification(String resumeVersion, String downloaderEmail, String downloaderIp) {
         if (!emailEnabled) {
             log.debug("Email notifications disabled, skipping resume download notification");
@@ -168,7 +169,7 @@ public class EmailService {
      * @param milestone Milestone description (e.g., "1000 views")
      * @param viewCount Current view count
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendPortfolioViewMilestone(String milestone, long viewCount) {
         if (!emailEnabled) {
             log.debug("Email notifications disabled, skipping milestone notification");
@@ -203,7 +204,7 @@ public class EmailService {
      * 
      * @param summary Analytics summary data
      */
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendAnalyticsSummary(String summary) {
         if (!emailEnabled) {
             log.debug("Email notifications disabled, skipping analytics summary");
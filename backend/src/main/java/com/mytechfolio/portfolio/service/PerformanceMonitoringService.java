@@ -1,6 +1,10 @@
 package com.mytechfolio.portfolio.service;
 
+import com.mytechfolio.portfolio.config.AsyncConfig;
+import com.mytechfolio.portfolio.service.monitoring.SloService;
+import com.mytechfolio.portfolio.util.BucketHistogram;
 import com.mytechfolio.portfolio.util.PerformanceMetrics;
+import com.mytechfolio.portfolio.util.RouteMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,14 +12,20 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * Service for performance monitoring and metrics collection.
- * Tracks API response times, slow queries, and performance metrics.
+ * Tracks API response times, slow queries, payload sizes, sampled CPU/allocation
+ * cost and performance metrics.
  * 
  * @author MyTechPortfolio Team
  * @since 1.0.0
@@ -25,9 +35,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PerformanceMonitoringService {
     
+    // Routes beyond the tracking limit (e.g. 404 scans) are folded into this bucket
+    private static final String OTHER_ROUTE = "OTHER";
+    
     // In-memory storage for metrics (in production, use time-series database)
     private final ConcurrentLinkedQueue<PerformanceMetrics> metricsQueue = new ConcurrentLinkedQueue<>();
     private final ConcurrentHashMap<String, Long> endpointAverageTimes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RouteMetrics> routeMetrics = new ConcurrentHashMap<>();
+    
+    // Per-minute budget for slow-request warnings; the excess is summarised instead of logged
+    private final AtomicLong slowLogMinute = new AtomicLong();
+    private final AtomicInteger slowLogCount = new AtomicInteger();
+    private final AtomicInteger slowLogSuppressed = new AtomicInteger();
+    
+    private final SloService sloService;
     
     @Value("${app.performance.slow-query-threshold-ms:1000}")
     private long slowQueryThresholdMs;
@@ -35,12 +56,21 @@ public class PerformanceMonitoringService {
     @Value("${app.performance.metrics-retention-count:1000}")
     private int metricsRetentionCount;
     
+    @Value("${app.performance.max-tracked-routes:500}")
+    private int maxTrackedRoutes;
+    
+    @Value("${app.performance.large-payload-threshold-bytes:102400}")
+    private long largePayloadThresholdBytes;
+    
+    @Value("${app.performance.slow-query-log-limit-per-minute:20}")
+    private int slowQueryLogLimitPerMinute;
+    
     /**
      * Records performance metrics for an API endpoint.
      * 
      * @param metrics Performance metrics
      */
-    @Async
+    @Async(AsyncConfig.METRICS_EXECUTOR)
     public void recordMetrics(PerformanceMetrics metrics) {
         try {
             // Add to queue
@@ -54,8 +84,14 @@ public class PerformanceMonitoringService {
             // Update average response time for endpoint
             updateAverageResponseTime(metrics);
             
-            // Log slow queries
-            if (metrics.isSlow(slowQueryThresholdMs)) {
+            // Aggregate per-route histograms
+            getOrCreateRouteMetrics(metrics).record(metrics);
+            
+            // Count against service level objectives
+            sloService.record(metrics);
+            
+            // Log slow queries (rate limited; trends are covered by SLO burn alerts)
+            if (metrics.isSlow(slowQueryThresholdMs) && allowSlowQueryLog()) {
                 log.warn("Slow query detected: {} {} took {}ms (threshold: {}ms)", 
                     metrics.getMethod(), 
                     metrics.getEndpoint(), 
@@ -63,10 +99,12 @@ public class PerformanceMonitoringService {
                     slowQueryThresholdMs);
             }
             
-            log.debug("Performance metric recorded: {} {} - {}ms", 
+            log.debug("Performance metric recorded: {} {} - {}ms (db: {}ms in {} commands)", 
                 metrics.getMethod(), 
                 metrics.getEndpoint(), 
-                metrics.getResponseTimeMs());
+                metrics.getResponseTimeMs(),
+                metrics.getDbTimeMs(),
+                metrics.getDbCommandCount());
         } catch (Exception e) {
             log.error("Failed to record performance metrics: {}", e.getMessage(), e);
         }
@@ -149,6 +187,131 @@ public class PerformanceMonitoringService {
                 .build();
     }
     
+    /**
+     * Gets the live cumulative aggregates of all tracked routes.
+     * 
+     * @return Read-only view of route aggregates
+     */
+    public Collection<RouteMetrics> getRouteMetrics() {
+        return Collections.unmodifiableCollection(routeMetrics.values());
+    }
+    
+    /**
+     * Gets latency, database time and sampled CPU/allocation statistics per route.
+     * Estimated totals extrapolate the sampled averages to all requests, so routes
+     * can be ranked by their overall share of CPU and allocation.
+     * 
+     * @param sortBy Ranking key
+     * @param limit Maximum number of routes to return
+     * @return Route statistics, highest value of the ranking key first
+     */
+    public List<RouteStatistics> getRouteStatistics(RouteSortKey sortBy, int limit) {
+        return routeMetrics.values().stream()
+                .map(this::toRouteStatistics)
+                .sorted(sortBy.comparator().reversed())
+                .limit(Math.max(1, limit))
+                .collect(Collectors.toList());
+    }
+    
+    private RouteStatistics toRouteStatistics(RouteMetrics route) {
+        BucketHistogram.Snapshot latencies = route.getLatencies().snapshot();
+        BucketHistogram.Snapshot dbTimes = route.getDbTimes().snapshot();
+        BucketHistogram.Snapshot cpuTimes = route.getCpuTimes().snapshot();
+        BucketHistogram.Snapshot allocations = route.getAllocations().snapshot();
+        long requests = route.getRequestCount().sum();
+        return RouteStatistics.builder()
+                .route(route.getRoute())
+                .requestCount(requests)
+                .errorCount(route.getErrorCount().sum())
+                .averageResponseTimeMs(latencies.getMean())
+                .p95ResponseTimeMs(latencies.percentile(95))
+                .p99ResponseTimeMs(latencies.percentile(99))
+                .maxResponseTimeMs(latencies.getMax())
+                .averageDbTimeMs(dbTimes.getMean())
+                .sampledRequests(Math.max(cpuTimes.getCount(), allocations.getCount()))
+                .averageCpuMicros(cpuTimes.getMean())
+                .p95CpuMicros(cpuTimes.percentile(95))
+                .averageAllocatedBytes(allocations.getMean())
+                .p95AllocatedBytes(allocations.percentile(95))
+                .estimatedTotalCpuMs(cpuTimes.getMean() * requests / 1_000)
+                .estimatedTotalAllocatedBytes(allocations.getMean() * requests)
+                .latencyHistogram(latencies)
+                .cpuHistogram(cpuTimes)
+                .allocationHistogram(allocations)
+                .build();
+    }
+    
+    /**
+     * Gets payload size statistics per route, largest average response first.
+     * Routes whose average response exceeds the large-payload threshold are
+     * flagged as optimisation candidates.
+     * 
+     * @param limit Maximum number of routes to return
+     * @return Payload size statistics per route
+     */
+    public List<PayloadSizeStatistics> getPayloadSizeStatistics(int limit) {
+        return routeMetrics.values().stream()
+                .map(this::toPayloadSizeStatistics)
+                .sorted(Comparator.comparingDouble(PayloadSizeStatistics::getAverageResponseBytes).reversed())
+                .limit(Math.max(1, limit))
+                .collect(Collectors.toList());
+    }
+    
+    private PayloadSizeStatistics toPayloadSizeStatistics(RouteMetrics route) {
+        BucketHistogram.Snapshot requestSizes = route.getRequestSizes().snapshot();
+        BucketHistogram.Snapshot responseSizes = route.getResponseSizes().snapshot();
+        return PayloadSizeStatistics.builder()
+                .route(route.getRoute())
+                .requestCount(route.getRequestCount().sum())
+                .averageRequestBytes(requestSizes.getMean())
+                .maxRequestBytes(requestSizes.getMax())
+                .averageResponseBytes(responseSizes.getMean())
+                .p95ResponseBytes(responseSizes.percentile(95))
+                .maxResponseBytes(responseSizes.getMax())
+                .requestSizeHistogram(requestSizes)
+                .responseSizeHistogram(responseSizes)
+                .optimisationCandidate(responseSizes.getMean() > largePayloadThresholdBytes)
+                .build();
+    }
+    
+    /**
+     * Gets or creates the aggregate for a route, bounding route cardinality.
+     */
+    private RouteMetrics getOrCreateRouteMetrics(PerformanceMetrics metrics) {
+        String route = metrics.getRoute() != null
+                ? metrics.getRoute()
+                : metrics.getMethod() + " " + metrics.getEndpoint();
+        RouteMetrics existing = routeMetrics.get(route);
+        if (existing != null) {
+            return existing;
+        }
+        if (routeMetrics.size() >= maxTrackedRoutes) {
+            return routeMetrics.computeIfAbsent(OTHER_ROUTE, RouteMetrics::new);
+        }
+        return routeMetrics.computeIfAbsent(route, RouteMetrics::new);
+    }
+    
+    /**
+     * Checks the per-minute slow-query log budget.
+     * Reports how many warnings were suppressed in the previous minute when a new minute starts.
+     */
+    private boolean allowSlowQueryLog() {
+        long minute = System.currentTimeMillis() / 60_000;
+        long current = slowLogMinute.get();
+        if (current != minute && slowLogMinute.compareAndSet(current, minute)) {
+            slowLogCount.set(0);
+            int suppressed = slowLogSuppressed.getAndSet(0);
+            if (suppressed > 0) {
+                log.warn("Suppressed {} slow query warnings in the previous minute", suppressed);
+            }
+        }
+        if (slowLogCount.incrementAndGet() <= slowQueryLogLimitPerMinute) {
+            return true;
+        }
+        slowLogSuppressed.incrementAndGet();
+        return false;
+    }
+    
     /**
      * Updates average response time for an endpoint.
      */
@@ -190,5 +353,77 @@ public class PerformanceMonitoringService {
                     .build();
         }
     }
+    
+    /**
+     * Ranking keys for route statistics.
+     */
+    public enum RouteSortKey {
+        LATENCY(Comparator.comparingDouble(RouteStatistics::getAverageResponseTimeMs)),
+        P99(Comparator.comparingLong(RouteStatistics::getP99ResponseTimeMs)),
+        DB_TIME(Comparator.comparingDouble(RouteStatistics::getAverageDbTimeMs)),
+        CPU(Comparator.comparingDouble(RouteStatistics::getAverageCpuMicros)),
+        ALLOCATION(Comparator.comparingDouble(RouteStatistics::getAverageAllocatedBytes)),
+        TOTAL_CPU(Comparator.comparingDouble(RouteStatistics::getEstimatedTotalCpuMs)),
+        TOTAL_ALLOCATION(Comparator.comparingDouble(RouteStatistics::getEstimatedTotalAllocatedBytes)),
+        REQUESTS(Comparator.comparingLong(RouteStatistics::getRequestCount));
+        
+        private final Comparator<RouteStatistics> comparator;
+        
+        RouteSortKey(Comparator<RouteStatistics> comparator) {
+            this.comparator = comparator;
+        }
+        
+        public Comparator<RouteStatistics> comparator() {
+            return comparator;
+        }
+    }
+    
+    /**
+     * Latency and resource cost statistics for a single route.
+     * CPU and allocation figures are derived from sampled requests only.
+     */
+    @lombok.Data
+    @lombok.Builder
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class RouteStatistics {
+        private String route;
+        private long requestCount;
+        private long errorCount;
+        private double averageResponseTimeMs;
+        private long p95ResponseTimeMs;
+        private long p99ResponseTimeMs;
+        private long maxResponseTimeMs;
+        private double averageDbTimeMs;
+        private long sampledRequests;
+        private double averageCpuMicros;
+        private long p95CpuMicros;
+        private double averageAllocatedBytes;
+        private long p95AllocatedBytes;
+        private double estimatedTotalCpuMs;
+        private double estimatedTotalAllocatedBytes;
+        private BucketHistogram.Snapshot latencyHistogram;
+        private BucketHistogram.Snapshot cpuHistogram;
+        private BucketHistogram.Snapshot allocationHistogram;
+    }
+    
+    /**
+     * Payload size statistics for a single route.
+     */
+    @lombok.Data
+    @lombok.Builder
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class PayloadSizeStatistics {
+        private String route;
+        private long requestCount;
+        private double averageRequestBytes;
+        private long maxRequestBytes;
+        private double averageResponseBytes;
+        private long p95ResponseBytes;
+        private long maxResponseBytes;
+        private BucketHistogram.Snapshot requestSizeHistogram;
+        private BucketHistogram.Snapshot responseSizeHistogram;
+        private boolean optimisationCandidate;
+    }
 }
-
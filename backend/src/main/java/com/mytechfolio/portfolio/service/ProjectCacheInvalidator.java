@@ -0,0 +1,82 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.config.CacheConfig;
+import com.mytechfolio.portfolio.domain.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Invalidates cached project responses when a referenced entity changes.
+ * Project writes evict through annotations on {@link ProjectService}; tech stack and academic
+ * names are rendered into project responses, so their writes evict the affected entries here.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Evicts every list page and the details of projects referencing the tech stack.
+     * List pages show tech stack names, so all of them are evicted.
+     * 
+     * @param techStackId Changed or deleted tech stack ID
+     */
+    public void onTechStackChanged(String techStackId) {
+        int evicted = evictDetailsReferencing("techStackIds", techStackId);
+        clear(CacheConfig.PROJECT_PAGES);
+        log.debug("Evicted {} cached project details and all pages for tech stack {}", evicted, techStackId);
+    }
+
+    /**
+     * Evicts the details of projects referencing the academic.
+     * List pages do not show academics and are kept.
+     * 
+     * @param academicId Changed or deleted academic ID
+     */
+    public void onAcademicChanged(String academicId) {
+        int evicted = evictDetailsReferencing("relatedAcademicIds", academicId);
+        log.debug("Evicted {} cached project details for academic {}", evicted, academicId);
+    }
+
+    /**
+     * Evicts all cached project responses, e.g. after a bulk delete of a referenced collection.
+     */
+    public void evictAll() {
+        clear(CacheConfig.PROJECT_PAGES);
+        clear(CacheConfig.PROJECT_DETAILS);
+    }
+
+    private int evictDetailsReferencing(String field, String id) {
+        Cache details = cacheManager.getCache(CacheConfig.PROJECT_DETAILS);
+        if (details == null || id == null) {
+            return 0;
+        }
+        // Only the IDs are needed to compute the cache keys
+        Query query = new Query(Criteria.where(field).is(id));
+        query.fields().include("_id");
+        List<Project> projects = mongoTemplate.find(query, Project.class);
+        projects.forEach(project -> details.evict(project.getId()));
+        return projects.size();
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.mytechfolio.portfolio.service;
 
 import com.mytechfolio.portfolio.domain.ProjectEngagement;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.repository.ProjectEngagementRepository;
+import com.mytechfolio.portfolio.util.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,9 +33,13 @@ import java.util.stream.Collectors;
 public class ProjectEngagementService {
     
     private final ProjectEngagementRepository engagementRepository;
+    private final KeysetPaginator keysetPaginator;
+    private final ProjectViewCounter projectViewCounter;
+    
+    private static final String PROJECT_VIEWED_AT_INDEX = "project_viewed_at_id_idx";
     
     /**
-     * Records a project view engagement.
+     * Records a project view engagement and counts the view towards the project's viewCount.
      * 
      * @param engagement Engagement data
      * @return Saved engagement
@@ -38,7 +48,25 @@ public class ProjectEngagementService {
         log.debug("Recording engagement for project: {}", engagement.getProjectId());
         engagement.setViewedAt(LocalDateTime.now());
         engagement.setLastInteractionAt(LocalDateTime.now());
-        return engagementRepository.save(engagement);
+        ProjectEngagement saved = engagementRepository.save(engagement);
+        projectViewCounter.record(saved.getProjectId());
+        return saved;
+    }
+    
+    /**
+     * Lists a project's engagements, newest first, after a cursor.
+     * Engagements grow without bound, so this uses keyset pagination instead of skip/limit.
+     * 
+     * @param projectId Project ID
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size
+     * @return Engagements with the next cursor
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ProjectEngagement> scrollProjectEngagements(String projectId, String cursor, int size) {
+        Query query = new Query(Criteria.where("projectId").is(projectId)).withHint(PROJECT_VIEWED_AT_INDEX);
+        return keysetPaginator.scroll(ProjectEngagement.class, query, Sort.by(Sort.Direction.DESC, "viewedAt"),
+                size, cursor, Function.identity());
     }
     
     /**
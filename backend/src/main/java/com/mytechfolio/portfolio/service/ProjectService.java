@@ -1,8 +1,7 @@
 package com.mytechfolio.portfolio.service;
 
-import com.mytechfolio.portfolio.constants.ApiConstants;
+import com.mytechfolio.portfolio.config.CacheConfig;
 import com.mytechfolio.portfolio.domain.Project;
-import com.mytechfolio.portfolio.domain.TechStack;
 import com.mytechfolio.portfolio.dto.request.ProjectCreateRequest;
 import com.mytechfolio.portfolio.dto.request.ProjectUpdateRequest;
 import com.mytechfolio.portfolio.dto.response.PageResponse;
@@ -10,28 +9,40 @@ import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectSummaryResponse;
 import com.mytechfolio.portfolio.exception.ResourceNotFoundException;
 import com.mytechfolio.portfolio.mapper.ProjectMapper;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
 import com.mytechfolio.portfolio.repository.ProjectRepository;
-import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.repository.SummaryProjections;
+import com.mytechfolio.portfolio.util.CountMode;
+import com.mytechfolio.portfolio.util.KeysetPaginator;
+import com.mytechfolio.portfolio.util.OffsetPaginator;
 import com.mytechfolio.portfolio.util.PaginationUtil;
+import com.mytechfolio.portfolio.util.ResourceQueryFields;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for project management operations.
  * Handles business logic for projects including CRUD operations, filtering, and
  * pagination.
+ * List pages and details are cached and invalidated by the write methods below;
+ * changes to referenced tech stacks and academics go through {@link ProjectCacheInvalidator}.
  * 
  * @author MyTechPortfolio Team
  * @since 1.0.0
@@ -43,50 +54,87 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
-    private final TechStackRepository techStackRepository;
+    private final TechStackCatalog techStackCatalog;
+    private final ProjectTechStackRefService techStackRefService;
+    private final TechStackUsageService techStackUsageService;
     private final ProjectMapper projectMapper;
+    private final KeysetPaginator keysetPaginator;
+    private final OffsetPaginator offsetPaginator;
+
+    @Value("${app.projects.detail-aggregation.enabled:true}")
+    private boolean detailAggregationEnabled;
 
     /**
      * Retrieves a paginated list of projects with optional filtering and sorting.
      * 
-     * @param page       Page number (1-based)
-     * @param size       Page size
-     * @param sort       Sort criteria (field,direction)
-     * @param techStacks Comma-separated tech stack IDs for filtering
-     * @param year       Year filter
+     * @param page      Page number (1-based)
+     * @param size      Page size
+     * @param sort      Sort criteria (field,direction)
+     * @param filter    Combined filters (tech stacks, start date range, status, featured, text)
+     * @param countMode How the total is obtained (exact, skipped, or cached)
      * @return Paginated response with project summaries
      */
-    public PageResponse<ProjectSummaryResponse> getProjects(int page, int size, String sort, String techStacks,
-            Integer year) {
-        log.debug("Fetching projects - page: {}, size: {}, sort: {}, techStacks: {}, year: {}",
-                page, size, sort, techStacks, year);
-
-        // Use reusable pagination utility with default sort field
-        Sort sortBy = PaginationUtil.parseSort(sort, ApiConstants.DEFAULT_SORT_FIELD, Sort.Direction.DESC);
-
-        // Parse tech stacks filter
-        List<String> techStackList = null;
-        if (techStacks != null && !techStacks.isEmpty()) {
-            techStackList = Arrays.asList(techStacks.split(","));
-        }
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES,
+            key = "T(com.mytechfolio.portfolio.util.CacheKeys).projectPage(#page, #size, #sort, #filter) + ':' + #countMode")
+    public PageResponse<ProjectSummaryResponse> getProjects(int page, int size, String sort, ProjectFilter filter,
+            CountMode countMode) {
+        log.debug("Fetching projects - page: {}, size: {}, sort: {}, filter: {}, countMode: {}",
+                page, size, sort, filter, countMode);
+
+        // Only index-backed sort fields are accepted (default: endDate desc)
+        Sort sortBy = PaginationUtil.parseSort(ResourceQueryFields.PROJECT, sort);
 
         Pageable pageable = PaginationUtil.createPageable(page, size, sortBy);
-        Page<Project> projectPage = projectRepository.findProjectsWithFilters(techStackList, year, pageable);
+        // Summary fields only: the markdown description is not read for list views
+        Query query = SummaryProjections.apply((filter != null ? filter : ProjectFilter.none()).toQuery(sortBy),
+                SummaryProjections.PROJECT);
+
+        // Tech stack names are resolved from the in-memory snapshot (no per-page query)
+        return offsetPaginator.page(Project.class, query, pageable,
+                countMode != null ? countMode : CountMode.EXACT, this::toSummaries, page);
+    }
+
+    /**
+     * Retrieves the projects after a cursor (keyset pagination).
+     * Unlike {@link #getProjects}, the cost does not grow with depth and no total count is run.
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size   Page size
+     * @param sort   Sort criteria (field,direction); must be the same for every page of a cursor
+     * @param filter Combined filters
+     * @return Project summaries with the next cursor
+     */
+    public PageResponse<ProjectSummaryResponse> scrollProjects(String cursor, int size, String sort,
+            ProjectFilter filter) {
+        log.debug("Scrolling projects - size: {}, sort: {}, filter: {}", size, sort, filter);
+
+        Sort sortBy = PaginationUtil.parseSort(ResourceQueryFields.PROJECT, sort);
+        ProjectFilter effectiveFilter = filter != null ? filter : ProjectFilter.none();
+        // The hinted index ends with the sort field and the _id tie-breaker
+        Query query = SummaryProjections.apply(effectiveFilter.toQuery(sortBy), SummaryProjections.PROJECT);
 
-        // Batch fetch all tech stacks referenced by projects on this page (avoids N+1)
+        return keysetPaginator.scrollBatch(Project.class, query, sortBy, size, cursor, this::toSummaries);
+    }
+
+    /**
+     * Converts a page of projects; tech stack names come from the embedded data or,
+     * for projects written before it, from the in-memory snapshot, without queries.
+     */
+    private List<ProjectSummaryResponse> toSummaries(List<Project> projects) {
+        Map<String, String> techStackMap = fetchTechStackNames(projects);
+        return projects.stream()
+                .map(p -> projectMapper.toSummaryResponse(p, techStackMap))
+                .toList();
+    }
+
+    private Map<String, String> fetchTechStackNames(List<Project> projects) {
         Set<String> allTechStackIds = new HashSet<>();
-        for (Project p : projectPage.getContent()) {
-            if (p.getTechStackIds() != null) {
+        for (Project p : projects) {
+            if (p.getTechStackRefs() == null && p.getTechStackIds() != null) {
                 allTechStackIds.addAll(p.getTechStackIds());
             }
         }
-        Map<String, String> techStackMap = allTechStackIds.isEmpty()
-                ? Map.of()
-                : techStackRepository.findAllById(allTechStackIds).stream()
-                    .collect(Collectors.toMap(TechStack::getId, TechStack::getName));
-
-        // Use mapper with pre-fetched map for conversion (3 queries total instead of 1 + 10*N)
-        return PaginationUtil.toPageResponse(projectPage, p -> projectMapper.toSummaryResponse(p, techStackMap), page);
+        return techStackCatalog.namesById(allTechStackIds);
     }
 
     /**
@@ -96,14 +144,43 @@ public class ProjectService {
      * @return Project detail response
      * @throws ResourceNotFoundException if project not found
      */
+    @Cacheable(cacheNames = CacheConfig.PROJECT_DETAILS, key = "#id")
     public ProjectDetailResponse getProject(String id) {
         log.debug("Fetching project with ID: {}", id);
-        Project project = projectRepository.findByIdWithDetails(id)
-                .orElseThrow(() -> {
-                    log.warn("Project not found with ID: {}", id);
-                    return new ResourceNotFoundException("Project", id);
-                });
-        return projectMapper.toResponse(project);
+        return findDetail(id).orElseThrow(() -> {
+            log.warn("Project not found with ID: {}", id);
+            return new ResourceNotFoundException("Project", id);
+        });
+    }
+
+    /**
+     * Reads a project detail, falling back to the mapper (project, tech stack and academic queries)
+     * when the aggregation is disabled, fails or finds nothing.
+     */
+    private Optional<ProjectDetailResponse> findDetail(String id) {
+        return aggregateDetail(id).or(() -> projectRepository.findByIdWithDetails(id).map(projectMapper::toResponse));
+    }
+
+    /**
+     * Builds the detail response of a project just written.
+     */
+    private ProjectDetailResponse toDetail(Project savedProject) {
+        return aggregateDetail(savedProject.getId()).orElseGet(() -> projectMapper.toResponse(savedProject));
+    }
+
+    /**
+     * Reads a project detail in one round trip ($lookup of tech stack and academic names).
+     */
+    private Optional<ProjectDetailResponse> aggregateDetail(String id) {
+        if (!detailAggregationEnabled) {
+            return Optional.empty();
+        }
+        try {
+            return projectRepository.findDetailById(id);
+        } catch (DataAccessException e) {
+            log.warn("Project detail aggregation failed for ID {}, using mapper fallback: {}", id, e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -112,6 +189,10 @@ public class ProjectService {
      * @param request Project creation request
      * @return Created project detail response
      */
+    @Caching(
+        evict = @CacheEvict(cacheNames = CacheConfig.PROJECT_PAGES, allEntries = true),
+        put = @CachePut(cacheNames = CacheConfig.PROJECT_DETAILS, key = "#result.id")
+    )
     @Transactional
     public ProjectDetailResponse createProject(ProjectCreateRequest request) {
         log.info("Creating new project: {}", request.getTitle());
@@ -123,9 +204,12 @@ public class ProjectService {
                 techStackCount, academicCount);
 
         Project project = projectMapper.toEntity(request);
+        project.setTechStackRefs(techStackRefService.resolve(project.getTechStackIds()));
         Project savedProject = projectRepository.save(project);
+        techStackUsageService.applyChange(List.of(), savedProject.getTechStackIds());
+        offsetPaginator.evictCounts(ResourceQueryFields.PROJECT.getCollection());
         log.info("Project created successfully with ID: {}", savedProject.getId());
-        return projectMapper.toResponse(savedProject);
+        return toDetail(savedProject);
     }
 
     /**
@@ -136,6 +220,10 @@ public class ProjectService {
      * @return Updated project detail response
      * @throws ResourceNotFoundException if project not found
      */
+    @Caching(
+        evict = @CacheEvict(cacheNames = CacheConfig.PROJECT_PAGES, allEntries = true),
+        put = @CachePut(cacheNames = CacheConfig.PROJECT_DETAILS, key = "#id")
+    )
     @Transactional
     public ProjectDetailResponse updateProject(String id, ProjectUpdateRequest request) {
         log.info("Updating project with ID: {}", id);
@@ -145,12 +233,18 @@ public class ProjectService {
                     return new ResourceNotFoundException("Project", id);
                 });
 
+        List<String> previousTechStackIds = project.getTechStackIds() != null
+                ? List.copyOf(project.getTechStackIds()) : List.of();
+
         // Update project using mapper
         projectMapper.updateEntity(project, request);
+        project.setTechStackRefs(techStackRefService.resolve(project.getTechStackIds()));
 
         Project savedProject = projectRepository.save(project);
+        techStackUsageService.applyChange(previousTechStackIds, savedProject.getTechStackIds());
+        offsetPaginator.evictCounts(ResourceQueryFields.PROJECT.getCollection());
         log.info("Project updated successfully with ID: {}", savedProject.getId());
-        return projectMapper.toResponse(savedProject);
+        return toDetail(savedProject);
     }
 
     /**
@@ -159,14 +253,20 @@ public class ProjectService {
      * @param id Project ID
      * @throws ResourceNotFoundException if project not found
      */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PROJECT_PAGES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.PROJECT_DETAILS, key = "#id")
+    })
     @Transactional
     public void deleteProject(String id) {
         log.info("Deleting project with ID: {}", id);
-        if (!projectRepository.existsById(id)) {
-            log.warn("Project not found for deletion with ID: {}", id);
-            throw new ResourceNotFoundException("Project", id);
-        }
-        projectRepository.deleteById(id);
+        Project removed = projectRepository.removeById(id)
+                .orElseThrow(() -> {
+                    log.warn("Project not found for deletion with ID: {}", id);
+                    return new ResourceNotFoundException("Project", id);
+                });
+        techStackUsageService.applyChange(removed.getTechStackIds(), List.of());
+        offsetPaginator.evictCounts(ResourceQueryFields.PROJECT.getCollection());
         log.info("Project deleted successfully with ID: {}", id);
     }
 
@@ -174,11 +274,14 @@ public class ProjectService {
      * Deletes all projects.
      * WARNING: This is a destructive operation. Use with caution.
      */
+    @CacheEvict(cacheNames = {CacheConfig.PROJECT_PAGES, CacheConfig.PROJECT_DETAILS}, allEntries = true)
     @Transactional
     public void deleteAllProjects() {
         log.warn("Deleting all projects - this is a destructive operation");
         long count = projectRepository.count();
         projectRepository.deleteAll();
+        techStackUsageService.resetAll();
+        offsetPaginator.evictCounts(ResourceQueryFields.PROJECT.getCollection());
         log.info("Deleted {} projects", count);
     }
 }
@@ -0,0 +1,252 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.config.AsyncConfig;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the tech stack display data denormalized into projects ({@link Project#getTechStackRefs()}).
+ * Project writes embed the data through {@link #resolve}; tech stack renames and deletes are propagated
+ * to the affected projects in bulk on a background thread. {@link #check} reports drift between the
+ * embedded data and {@code tech_stacks}, and {@link #repair} rewrites the drifted projects.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectTechStackRefService {
+
+    private static final String REFS = "techStackRefs";
+    private static final int SAMPLE_SIZE = 20;
+    private static final int BULK_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final TechStackRepository techStackRepository;
+    private final TechStackCatalog techStackCatalog;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
+
+    /**
+     * Builds the embedded tech stack data for a project being written.
+     * Resolved from the in-memory snapshot; unknown IDs are left out.
+     *
+     * @param techStackIds Project tech stack IDs
+     * @return Embedded tech stack data, in ID order
+     */
+    public List<Project.TechStackRef> resolve(List<String> techStackIds) {
+        return techStackCatalog.findAllById(techStackIds).stream()
+                .map(techStack -> new Project.TechStackRef(
+                        techStack.id(), techStack.name(), techStack.type(), techStack.logoUrl()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Propagates a tech stack change to the projects embedding it.
+     * Bulk deletes resynchronise every project.
+     */
+    @Async(AsyncConfig.ANALYTICS_EXECUTOR)
+    @EventListener
+    public void onTechStackChanged(TechStackChangedEvent event) {
+        if (event.techStackId() == null) {
+            repair();
+        } else {
+            propagate(event.techStackId());
+        }
+    }
+
+    /**
+     * Rewrites the embedded data of one tech stack in every project referencing it.
+     *
+     * @param techStackId Changed or deleted tech stack ID
+     * @return Number of projects modified
+     */
+    public long propagate(String techStackId) {
+        TechStack techStack = techStackRepository.findById(techStackId).orElse(null);
+        long modified;
+        if (techStack == null) {
+            modified = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where(REFS + ".techStackId").is(techStackId)),
+                    new Update().pull(REFS, Query.query(Criteria.where("techStackId").is(techStackId))),
+                    Project.class).getModifiedCount();
+        } else {
+            modified = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where(REFS + ".techStackId").is(techStackId)),
+                    new Update()
+                            .set(REFS + ".$[ref].name", techStack.getName())
+                            .set(REFS + ".$[ref].type", techStack.getType())
+                            .set(REFS + ".$[ref].logoUrl", techStack.getLogoUrl())
+                            .filterArray(Criteria.where("ref.techStackId").is(techStackId)),
+                    Project.class).getModifiedCount();
+            // Projects written while this instance did not know the tech stack yet
+            Query missing = Query.query(new Criteria().andOperator(
+                    Criteria.where("techStackIds").is(techStackId),
+                    Criteria.where(REFS).exists(true),
+                    Criteria.where(REFS + ".techStackId").ne(techStackId)));
+            modified += rewrite(mongoTemplate.find(withReferenceFields(missing), Project.class), loadTechStacks());
+        }
+        if (modified > 0) {
+            projectCacheInvalidator.onTechStackChanged(techStackId);
+        }
+        log.info("Propagated tech stack {} to {} projects", techStackId, modified);
+        return modified;
+    }
+
+    /**
+     * Compares the embedded data of every project with {@code tech_stacks}.
+     *
+     * @return Drift report; nothing is modified
+     */
+    public ConsistencyReport check() {
+        return scan(false);
+    }
+
+    /**
+     * Rewrites the embedded data of every drifted project, including projects written before denormalization.
+     *
+     * @return Drift found and repaired
+     */
+    public ConsistencyReport repair() {
+        ConsistencyReport report = scan(true);
+        if (report.getRepairedProjects() > 0) {
+            projectCacheInvalidator.evictAll();
+        }
+        return report;
+    }
+
+    @Scheduled(cron = "${app.projects.tech-stack-refs.check-cron:0 30 3 * * *}")
+    public void checkPeriodically() {
+        ConsistencyReport report = check();
+        if (report.getDriftedProjects() > 0) {
+            log.warn("{} of {} projects have drifted tech stack data, e.g. {}; run the repair endpoint",
+                    report.getDriftedProjects(), report.getCheckedProjects(), report.getSampleProjectIds());
+        }
+    }
+
+    private ConsistencyReport scan(boolean repair) {
+        Map<String, TechStack> techStacks = loadTechStacks();
+        List<Project> batch = new ArrayList<>(BULK_BATCH_SIZE);
+        List<String> sampleIds = new ArrayList<>(SAMPLE_SIZE);
+        long checked = 0;
+        long drifted = 0;
+        long repaired = 0;
+        // Only the reference fields are read and drifted projects are rewritten in batches
+        // while streaming, so memory stays flat however many projects drifted
+        try (var projects = mongoTemplate.stream(withReferenceFields(new Query()), Project.class)) {
+            for (Project project : (Iterable<Project>) projects::iterator) {
+                checked++;
+                if (Objects.equals(project.getTechStackRefs(), expectedRefs(project.getTechStackIds(), techStacks))) {
+                    continue;
+                }
+                drifted++;
+                if (sampleIds.size() < SAMPLE_SIZE) {
+                    sampleIds.add(project.getId());
+                }
+                if (repair) {
+                    batch.add(project);
+                    if (batch.size() == BULK_BATCH_SIZE) {
+                        repaired += rewriteBatch(batch, techStacks);
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            repaired += rewriteBatch(batch, techStacks);
+        }
+        if (repair) {
+            log.info("Tech stack data repair: {} of {} projects drifted, {} rewritten", drifted, checked, repaired);
+        }
+        return ConsistencyReport.builder()
+                .checkedProjects(checked)
+                .driftedProjects(drifted)
+                .repairedProjects(repaired)
+                .sampleProjectIds(sampleIds)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private long rewrite(Collection<Project> projects, Map<String, TechStack> techStacks) {
+        long modified = 0;
+        List<Project> batch = new ArrayList<>(BULK_BATCH_SIZE);
+        for (Project project : projects) {
+            batch.add(project);
+            if (batch.size() == BULK_BATCH_SIZE) {
+                modified += rewriteBatch(batch, techStacks);
+                batch.clear();
+            }
+        }
+        return batch.isEmpty() ? modified : modified + rewriteBatch(batch, techStacks);
+    }
+
+    private long rewriteBatch(List<Project> projects, Map<String, TechStack> techStacks) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Project.class);
+        for (Project project : projects) {
+            // A project whose tech stacks changed since it was read already got fresh data from its own write
+            bulk.updateOne(Query.query(Criteria.where("_id").is(project.getId())
+                            .and("techStackIds").is(project.getTechStackIds())),
+                    Update.update(REFS, expectedRefs(project.getTechStackIds(), techStacks)));
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    private Map<String, TechStack> loadTechStacks() {
+        return techStackRepository.findAll().stream()
+                .collect(Collectors.toMap(TechStack::getId, Function.identity()));
+    }
+
+    private static List<Project.TechStackRef> expectedRefs(List<String> techStackIds, Map<String, TechStack> techStacks) {
+        List<Project.TechStackRef> refs = new ArrayList<>();
+        if (techStackIds != null) {
+            techStackIds.stream().distinct().map(techStacks::get).filter(Objects::nonNull)
+                    .forEach(techStack -> refs.add(new Project.TechStackRef(
+                            techStack.getId(), techStack.getName(), techStack.getType(), techStack.getLogoUrl())));
+        }
+        return refs;
+    }
+
+    private static Query withReferenceFields(Query query) {
+        query.fields().include("techStackIds").include(REFS);
+        return query;
+    }
+
+    /**
+     * Result of a consistency check or repair.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConsistencyReport {
+        private long checkedProjects;
+        private long driftedProjects;
+        private long repairedProjects;
+        private List<String> sampleProjectIds;
+        private LocalDateTime checkedAt;
+    }
+}
@@ -0,0 +1,173 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.domain.Project;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts project views in memory and writes them to {@code projects.viewCount} in batches.
+ * Views are added to a striped {@link LongAdder} per project, so concurrent viewers never contend
+ * on a lock or lose an increment; every few seconds and on shutdown the pending count of each
+ * viewed project is written with one {@code $inc}. Stored counts, and so
+ * {@code ProjectRepository.findMostViewedProjects}, lag by at most the flush interval.
+ *
+ * Each {@code $inc} is a findAndModify returning the new count, so the count before it is exact
+ * even while other instances flush the same project. When an update takes a project past one of
+ * the configured thresholds, the owner is notified through {@link EmailService#sendPortfolioViewMilestone};
+ * exactly one update, on one instance, crosses each threshold.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectViewCounter {
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailService emailService;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Serializes the scheduled flush and the shutdown flush without pinning a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Value("${app.projects.view-count.milestones:100,1000,10000}")
+    private List<Long> milestones = List.of(100L, 1000L, 10000L);
+
+    /**
+     * Counts one view of a project. Never touches MongoDB.
+     *
+     * @param projectId Project ID; malformed IDs are ignored
+     */
+    public void record(String projectId) {
+        if (projectId == null || !ObjectId.isValid(projectId)) {
+            return;
+        }
+        pending.computeIfAbsent(projectId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Gets the views of a project not yet written to MongoDB.
+     *
+     * @param projectId Project ID
+     * @return Pending views
+     */
+    public long pendingViews(String projectId) {
+        LongAdder adder = pending.get(projectId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Writes the pending views with {@code $inc} and sends milestone notifications.
+     * A failed write keeps its views, and those of the projects not yet written, pending for the next flush.
+     *
+     * @return Number of views written
+     */
+    @Scheduled(fixedDelayString = "${app.projects.view-count.flush-interval-ms:5000}")
+    public long flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<String, Long>> deltas = new ArrayList<>();
+            pending.forEach((projectId, adder) -> {
+                // sumThenReset keeps increments racing with the flush for the next one
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    deltas.add(Map.entry(projectId, delta));
+                }
+            });
+
+            long written = 0L;
+            int projects = 0;
+            for (int i = 0; i < deltas.size(); i++) {
+                String projectId = deltas.get(i).getKey();
+                long delta = deltas.get(i).getValue();
+                Project updated;
+                try {
+                    updated = increment(projectId, delta);
+                } catch (DataAccessException e) {
+                    List<Map.Entry<String, Long>> unwritten = deltas.subList(i, deltas.size());
+                    log.warn("Failed to write {} project view counts, retrying on next flush: {}",
+                            unwritten.size(), e.getMessage());
+                    unwritten.forEach(entry ->
+                            pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(entry.getValue()));
+                    break;
+                }
+                if (updated == null) {
+                    // Projects that no longer exist stop being tracked
+                    pending.remove(projectId);
+                    continue;
+                }
+                written += delta;
+                projects++;
+                checkMilestones(updated, delta);
+            }
+            if (written > 0) {
+                log.debug("Flushed {} views of {} projects", written, projects);
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        long written = flush();
+        if (written > 0) {
+            log.info("Flushed {} pending project views on shutdown", written);
+        }
+    }
+
+    /**
+     * Adds views to a project.
+     *
+     * @return Project title and view count after the update, or null if the project does not exist
+     */
+    private Project increment(String projectId, long delta) {
+        Query query = Query.query(Criteria.where("_id").is(projectId));
+        query.fields().include("title").include("viewCount");
+        return mongoTemplate.findAndModify(query, new Update().inc("viewCount", delta),
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+    }
+
+    private void checkMilestones(Project project, long delta) {
+        long after = project.getViewCount() != null ? project.getViewCount() : 0L;
+        // Exact: this update alone moved the count from before to after
+        long before = after - delta;
+        for (long milestone : milestones) {
+            if (before < milestone && after >= milestone) {
+                notifyMilestone(project, milestone, after);
+            }
+        }
+    }
+
+    private void notifyMilestone(Project project, long milestone, long viewCount) {
+        log.info("Project {} reached {} views", project.getId(), milestone);
+        try {
+            emailService.sendPortfolioViewMilestone(
+                    String.format("%,d views - %s", milestone, project.getTitle()), viewCount);
+        } catch (RuntimeException e) {
+            // e.g. the email executor rejecting work during shutdown
+            log.warn("Failed to send view milestone notification for project {}: {}", project.getId(), e.getMessage());
+        }
+    }
+}
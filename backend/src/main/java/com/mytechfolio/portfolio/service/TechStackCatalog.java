@@ -0,0 +1,216 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process snapshot of all tech stacks, used to resolve tech stack names without querying MongoDB.
+ * Tech stacks are small reference data that rarely change, so the whole collection is held in an
+ * immutable {@link Snapshot} that readers use without locking; changes build a new snapshot
+ * and swap it in atomically.
+ *
+ * The snapshot is reloaded on {@link TechStackChangedEvent}, periodically as a safety net for
+ * writes from other instances, and at most every few seconds when a lookup misses an ID.
+ * Reloads are serialized by a {@link ReentrantLock} rather than a monitor, so a virtual thread
+ * waiting on the query does not pin its carrier; callers that queued behind a reload which
+ * started after their request reuse its snapshot instead of querying again.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TechStackCatalog {
+
+    private final TechStackRepository techStackRepository;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Value("${app.tech-stacks.snapshot.miss-refresh-interval:PT5S}")
+    private Duration missRefreshInterval = Duration.ofSeconds(5);
+
+    /**
+     * Gets the current snapshot, loading it on first use.
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * Resolves tech stacks by ID.
+     * Unknown IDs are left out; if any is missing the snapshot is reloaded once, throttled.
+     *
+     * @param ids Tech stack IDs
+     * @return Known tech stacks, in the order of the given IDs, without duplicates
+     */
+    public List<TechStackRef> findAllById(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Snapshot snapshot = snapshot();
+        if (!snapshot.containsAll(ids)
+                && snapshot.loadedAt().plus(missRefreshInterval).isBefore(Instant.now())) {
+            snapshot = refresh();
+        }
+        Map<String, TechStackRef> found = new LinkedHashMap<>();
+        for (String id : ids) {
+            snapshot.findById(id).ifPresent(techStack -> found.putIfAbsent(id, techStack));
+        }
+        return List.copyOf(found.values());
+    }
+
+    /**
+     * Resolves tech stack names by ID, see {@link #findAllById}.
+     *
+     * @param ids Tech stack IDs
+     * @return Names by ID, in the order of the given IDs
+     */
+    public Map<String, String> namesById(Collection<String> ids) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (TechStackRef techStack : findAllById(ids)) {
+            names.put(techStack.id(), techStack.name());
+        }
+        return names;
+    }
+
+    /**
+     * Reloads all tech stacks and swaps the snapshot.
+     * If another thread swapped in a snapshot loaded after this call was made, that one is returned.
+     *
+     * @return Snapshot loaded no earlier than this call
+     */
+    public Snapshot refresh() {
+        Instant requestedAt = Instant.now();
+        refreshLock.lock();
+        try {
+            Snapshot latest = current.get();
+            if (latest != null && latest.loadedAt().isAfter(requestedAt)) {
+                return latest;
+            }
+            // Stamped before the query, so the snapshot never claims to be fresher than its data
+            Instant loadedAt = Instant.now();
+            Snapshot snapshot = Snapshot.of(techStackRepository.findAll(), loadedAt);
+            current.set(snapshot);
+            log.debug("Loaded tech stack snapshot with {} entries", snapshot.size());
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onTechStackChanged(TechStackChangedEvent event) {
+        log.debug("Tech stack {} changed, reloading snapshot", event.techStackId() != null ? event.techStackId() : "(all)");
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.tech-stacks.snapshot.refresh-interval-ms:300000}",
+            initialDelayString = "${app.tech-stacks.snapshot.refresh-interval-ms:300000}")
+    public void refreshPeriodically() {
+        refresh();
+    }
+
+    /**
+     * Immutable tech stack reference entry.
+     */
+    public record TechStackRef(String id, String name, TechStack.TechType type, String logoUrl) {
+    }
+
+    /**
+     * Immutable view of all tech stacks, indexed by ID, name (case-insensitive) and type.
+     */
+    public static final class Snapshot {
+
+        private final Map<String, TechStackRef> byId;
+        private final Map<String, TechStackRef> byName;
+        private final Map<TechStack.TechType, List<TechStackRef>> byType;
+        private final Instant loadedAt;
+
+        private Snapshot(Map<String, TechStackRef> byId, Map<String, TechStackRef> byName,
+                         Map<TechStack.TechType, List<TechStackRef>> byType, Instant loadedAt) {
+            this.byId = byId;
+            this.byName = byName;
+            this.byType = byType;
+            this.loadedAt = loadedAt;
+        }
+
+        static Snapshot of(List<TechStack> techStacks, Instant loadedAt) {
+            Map<String, TechStackRef> byId = new HashMap<>();
+            Map<String, TechStackRef> byName = new HashMap<>();
+            Map<TechStack.TechType, List<TechStackRef>> byType = new EnumMap<>(TechStack.TechType.class);
+            for (TechStack techStack : techStacks) {
+                TechStackRef ref = new TechStackRef(techStack.getId(), techStack.getName(), techStack.getType(),
+                        techStack.getLogoUrl());
+                byId.put(ref.id(), ref);
+                if (ref.name() != null) {
+                    byName.put(ref.name().toLowerCase(Locale.ROOT), ref);
+                }
+                if (ref.type() != null) {
+                    byType.computeIfAbsent(ref.type(), type -> new ArrayList<>()).add(ref);
+                }
+            }
+            Map<TechStack.TechType, List<TechStackRef>> sortedByType = new EnumMap<>(TechStack.TechType.class);
+            byType.forEach((type, refs) -> sortedByType.put(type, refs.stream()
+                    .sorted(Comparator.comparing(TechStackRef::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                    .toList()));
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName),
+                    Collections.unmodifiableMap(sortedByType), loadedAt);
+        }
+
+        public Optional<TechStackRef> findById(String id) {
+            return Optional.ofNullable(id != null ? byId.get(id) : null);
+        }
+
+        public Optional<TechStackRef> findByName(String name) {
+            return Optional.ofNullable(name != null ? byName.get(name.toLowerCase(Locale.ROOT)) : null);
+        }
+
+        /**
+         * Gets the tech stacks of a type, sorted by name.
+         */
+        public List<TechStackRef> findByType(TechStack.TechType type) {
+            return byType.getOrDefault(type, List.of());
+        }
+
+        /**
+         * Checks whether every non-null ID is known.
+         */
+        public boolean containsAll(Collection<String> ids) {
+            return ids.stream().allMatch(id -> id == null || byId.containsKey(id));
+        }
+
+        public int size() {
+            return byId.size();
+        }
+
+        public Instant loadedAt() {
+            return loadedAt;
+        }
+    }
+}
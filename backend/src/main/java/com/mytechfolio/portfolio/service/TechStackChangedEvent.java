@@ -0,0 +1,19 @@
+package com.mytechfolio.portfolio.service;
+
+/**
+ * Published after tech stacks are created, updated or deleted.
+ * Listeners holding tech stack reference data (see {@link TechStackCatalog}) reload it.
+ *
+ * @param techStackId Changed tech stack ID, or null when several or all changed
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public record TechStackChangedEvent(String techStackId) {
+
+    /**
+     * Creates an event for a bulk change.
+     */
+    public static TechStackChangedEvent all() {
+        return new TechStackChangedEvent(null);
+    }
+}
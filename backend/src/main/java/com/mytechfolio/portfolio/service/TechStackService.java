@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +32,8 @@ public class TechStackService {
 
     private final TechStackRepository techStackRepository;
     private final TechStackMapper techStackMapper;
+    private final ProjectCacheInvalidator projectCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all tech stacks, optionally filtered by type and proficiency level.
@@ -139,10 +142,45 @@ public class TechStackService {
         
         TechStack techStack = techStackMapper.toEntity(request);
         TechStack savedTechStack = techStackRepository.save(techStack);
+        eventPublisher.publishEvent(new TechStackChangedEvent(savedTechStack.getId()));
         log.info("Tech stack created successfully with ID: {}", savedTechStack.getId());
         return techStackMapper.toResponse(savedTechStack);
     }
     
+    /**
+     * Updates a tech stack.
+     * 
+     * @param id Tech stack ID
+     * @param request Tech stack values
+     * @return Updated tech stack response
+     * @throws ResourceNotFoundException if tech stack not found
+     * @throws DuplicateResourceException if another tech stack already has the name
+     */
+    @CacheEvict(value = "techStacks", allEntries = true)
+    @Transactional
+    public TechStackResponse updateTechStack(String id, TechStackCreateRequest request) {
+        log.info("Updating tech stack with ID: {}", id);
+        TechStack techStack = techStackRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Tech stack not found for update with ID: {}", id);
+                    return new ResourceNotFoundException("TechStack", id);
+                });
+        
+        techStackRepository.findByName(request.getName())
+                .filter(existing -> !existing.getId().equals(id))
+                .ifPresent(existing -> {
+                    log.warn("Tech stack already exists: {}", request.getName());
+                    throw new DuplicateResourceException("TechStack", "name", request.getName());
+                });
+        
+        techStackMapper.updateEntity(techStack, request);
+        TechStack savedTechStack = techStackRepository.save(techStack);
+        projectCacheInvalidator.onTechStackChanged(id);
+        eventPublisher.publishEvent(new TechStackChangedEvent(id));
+        log.info("Tech stack updated successfully with ID: {}", id);
+        return techStackMapper.toResponse(savedTechStack);
+    }
+    
     /**
      * Deletes a tech stack by ID.
      * 
@@ -158,6 +196,8 @@ public class TechStackService {
             throw new ResourceNotFoundException("TechStack", id);
         }
         techStackRepository.deleteById(id);
+        projectCacheInvalidator.onTechStackChanged(id);
+        eventPublisher.publishEvent(new TechStackChangedEvent(id));
         log.info("Tech stack deleted successfully with ID: {}", id);
     }
     
@@ -171,6 +211,8 @@ public class TechStackService {
         log.warn("Deleting all tech stacks - this is a destructive operation");
         long count = techStackRepository.count();
         techStackRepository.deleteAll();
+        projectCacheInvalidator.evictAll();
+        eventPublisher.publishEvent(TechStackChangedEvent.all());
         log.info("Deleted {} tech stacks", count);
     }
 }
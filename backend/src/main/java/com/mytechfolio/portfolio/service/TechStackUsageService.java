@@ -0,0 +1,173 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains {@link TechStack#getUsageCount()}, the number of projects using each tech stack.
+ * Project writes apply the difference between the old and new tech stack ID sets as {@code $inc}
+ * deltas in one bulk write, so popular tech stacks are read from an indexed field instead of
+ * counting projects. {@link #reconcile} recomputes every count with one aggregation over projects
+ * and corrects counts that drifted (concurrent updates, writes bypassing the service).
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TechStackUsageService {
+
+    private static final String USAGE_COUNT = "usageCount";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Applies the usage change of one project write.
+     * IDs only in {@code before} are decremented and IDs only in {@code after} incremented;
+     * duplicates and unchanged IDs are ignored.
+     *
+     * @param before Tech stack IDs before the write, null or empty for a new project
+     * @param after  Tech stack IDs after the write, null or empty for a deleted project
+     */
+    @CacheEvict(value = "techStacks", allEntries = true)
+    public void applyChange(Collection<String> before, Collection<String> after) {
+        Set<String> removed = distinct(before);
+        Set<String> added = distinct(after);
+        Set<String> unchanged = new LinkedHashSet<>(removed);
+        unchanged.retainAll(added);
+        removed.removeAll(unchanged);
+        added.removeAll(unchanged);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TechStack.class);
+        added.forEach(id -> bulk.updateOne(byId(id), new Update().inc(USAGE_COUNT, 1)));
+        removed.forEach(id -> bulk.updateOne(byId(id), new Update().inc(USAGE_COUNT, -1)));
+        bulk.execute();
+        log.debug("Updated tech stack usage counts: +{} -{}", added, removed);
+    }
+
+    /**
+     * Resets every count after all projects were deleted.
+     */
+    @CacheEvict(value = "techStacks", allEntries = true)
+    public void resetAll() {
+        mongoTemplate.updateMulti(new Query(), Update.update(USAGE_COUNT, 0L), TechStack.class);
+    }
+
+    /**
+     * Recomputes every count from the projects and corrects the ones that differ.
+     *
+     * @return Number of tech stacks checked and corrected
+     */
+    @CacheEvict(value = "techStacks", allEntries = true)
+    public ReconciliationReport reconcile() {
+        Map<String, Long> actual = countUsage();
+        Query current = new Query();
+        current.fields().include(USAGE_COUNT);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TechStack.class);
+        long checked = 0;
+        long corrected = 0;
+        for (TechStack techStack : mongoTemplate.find(current, TechStack.class)) {
+            checked++;
+            long count = actual.getOrDefault(techStack.getId(), 0L);
+            if (techStack.getUsageCount() == null || techStack.getUsageCount() != count) {
+                bulk.updateOne(byId(techStack.getId()), Update.update(USAGE_COUNT, count));
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            bulk.execute();
+            log.info("Corrected usage count of {} of {} tech stacks", corrected, checked);
+        }
+        return ReconciliationReport.builder()
+                .checkedTechStacks(checked)
+                .correctedTechStacks(corrected)
+                .reconciledAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Nightly reconciliation. Evicts here as well: the call to {@link #reconcile()} on {@code this}
+     * bypasses the proxy, so its own {@code @CacheEvict} does not apply.
+     */
+    @CacheEvict(value = "techStacks", allEntries = true)
+    @Scheduled(cron = "${app.tech-stacks.usage-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    /**
+     * Counts the projects per tech stack ID in one aggregation; a project listing an ID twice counts once.
+     */
+    private Map<String, Long> countUsage() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                stage("$project", new Document("techStackIds",
+                        new Document("$setUnion", List.of(new Document("$ifNull", List.of("$techStackIds", List.of())))))),
+                stage("$unwind", new Document("path", "$techStackIds")),
+                stage("$group", new Document("_id", "$techStackIds").append("count", new Document("$sum", 1))));
+
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Project.class), Document.class)
+                .forEach(result -> counts.put(String.valueOf(result.get("_id")), ((Number) result.get("count")).longValue()));
+        return counts;
+    }
+
+    private static Set<String> distinct(Collection<String> ids) {
+        Set<String> result = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(id -> id != null && ObjectId.isValid(id)).forEach(result::add);
+        }
+        return result;
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+        return context -> new Document(operator, body);
+    }
+
+    /**
+     * Result of a usage count reconciliation.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReconciliationReport {
+        private long checkedTechStacks;
+        private long correctedTechStacks;
+        private LocalDateTime reconciledAt;
+    }
+}
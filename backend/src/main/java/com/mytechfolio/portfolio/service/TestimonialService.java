@@ -37,7 +37,7 @@ public class TestimonialService {
      */
     public List<TestimonialResponse> getAllTestimonials() {
         log.debug("Fetching all active testimonials");
-        List<Testimonial> testimonials = testimonialRepository.findByIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
+        List<Testimonial> testimonials = testimonialRepository.findSummariesByIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
         return testimonials.stream()
                 .map(testimonialMapper::toResponse)
                 .collect(Collectors.toList());
@@ -50,7 +50,7 @@ public class TestimonialService {
      */
     public List<TestimonialResponse> getFeaturedTestimonials() {
         log.debug("Fetching featured testimonials");
-        List<Testimonial> testimonials = testimonialRepository.findByIsFeaturedTrueAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
+        List<Testimonial> testimonials = testimonialRepository.findSummariesByIsFeaturedTrueAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc();
         return testimonials.stream()
                 .map(testimonialMapper::toResponse)
                 .collect(Collectors.toList());
@@ -64,7 +64,7 @@ public class TestimonialService {
      */
     public List<TestimonialResponse> getTestimonialsByType(Testimonial.TestimonialType type) {
         log.debug("Fetching testimonials by type: {}", type);
-        List<Testimonial> testimonials = testimonialRepository.findByTypeAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc(type);
+        List<Testimonial> testimonials = testimonialRepository.findSummariesByTypeAndIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc(type);
         return testimonials.stream()
                 .map(testimonialMapper::toResponse)
                 .collect(Collectors.toList());
@@ -78,7 +78,7 @@ public class TestimonialService {
      */
     public List<TestimonialResponse> getTestimonialsByRating(Integer minRating) {
         log.debug("Fetching testimonials with rating >= {}", minRating);
-        List<Testimonial> testimonials = testimonialRepository.findByRatingGreaterThanEqualAndIsActiveTrueAndIsApprovedTrue(minRating);
+        List<Testimonial> testimonials = testimonialRepository.findSummariesByRatingGreaterThanEqualAndIsActiveTrueAndIsApprovedTrue(minRating);
         return testimonials.stream()
                 .map(testimonialMapper::toResponse)
                 .collect(Collectors.toList());
@@ -0,0 +1,72 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Reports hit ratio, eviction and size statistics of the application caches.
+ * Statistics are recorded by Caffeine ({@code recordStats()} in {@code CacheConfig}).
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheMetricsService {
+    
+    private final CacheManager cacheManager;
+    
+    /**
+     * Gets statistics for every Caffeine-backed cache, sorted by name.
+     * 
+     * @return Cache statistics
+     */
+    public List<CacheStatistics> getStatistics() {
+        List<CacheStatistics> result = new ArrayList<>();
+        for (String name : new TreeSet<>(cacheManager.getCacheNames())) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+            result.add(CacheStatistics.builder()
+                    .name(name)
+                    .size(nativeCache.estimatedSize())
+                    .hits(stats.hitCount())
+                    .misses(stats.missCount())
+                    .hitRatio(stats.requestCount() > 0 ? stats.hitRate() : 0.0)
+                    .evictions(stats.evictionCount())
+                    .build());
+        }
+        return result;
+    }
+    
+    /**
+     * Statistics of one cache since startup.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheStatistics {
+        private String name;
+        private long size;
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private long evictions;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.config.ConcurrencyLimitProperties;
+import com.mytechfolio.portfolio.util.AdaptiveConcurrencyLimiter;
+import com.mytechfolio.portfolio.util.RouteClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds one adaptive concurrency limiter per route class.
+ * Separate limiters keep a burst of public reads from starving admin or
+ * contact traffic that shares the same MongoDB connection pool.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+    
+    private final Map<RouteClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteClass.class);
+    
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitProperties properties) {
+        int windowSize = properties.getWindowSize();
+        limiters.put(RouteClass.PUBLIC_READ, create(properties.getPublicRead(), windowSize));
+        limiters.put(RouteClass.ENGAGEMENT_WRITE, create(properties.getEngagementWrite(), windowSize));
+        limiters.put(RouteClass.AUTH, create(properties.getAuth(), windowSize));
+        limiters.put(RouteClass.ADMIN, create(properties.getAdmin(), windowSize));
+    }
+    
+    private AdaptiveConcurrencyLimiter create(ConcurrencyLimitProperties.ClassLimit limit, int windowSize) {
+        return new AdaptiveConcurrencyLimiter(
+                limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(), windowSize);
+    }
+    
+    /**
+     * Gets the limiter for a route class.
+     * 
+     * @param routeClass Route class
+     * @return Limiter
+     */
+    public AdaptiveConcurrencyLimiter get(RouteClass routeClass) {
+        return limiters.get(routeClass);
+    }
+    
+    /**
+     * Gets the current limit, in-flight count and shed count per route class.
+     * 
+     * @return Limiter statistics
+     */
+    public List<LimiterStatistics> getStatistics() {
+        List<LimiterStatistics> result = new ArrayList<>();
+        limiters.forEach((routeClass, limiter) -> result.add(LimiterStatistics.builder()
+                .routeClass(routeClass.name())
+                .limit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .accepted(limiter.getAccepted())
+                .rejected(limiter.getRejected())
+                .baselineLatencyMs(limiter.getLongRttMs())
+                .recentLatencyMs(limiter.getShortRttMs())
+                .build()));
+        return result;
+    }
+    
+    /**
+     * Concurrency limiter state for one route class.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimiterStatistics {
+        private String routeClass;
+        private int limit;
+        private int inFlight;
+        private long accepted;
+        private long rejected;
+        private double baselineLatencyMs;
+        private double recentLatencyMs;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import com.mytechfolio.portfolio.util.ExecutorStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Registry of the application's task executors and their statistics.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+public class ExecutorMetricsService {
+    
+    private final Map<String, Registration> executors = new ConcurrentHashMap<>();
+    
+    /**
+     * Registers an executor for reporting.
+     * 
+     * @param executor Executor
+     * @param stats Statistics recorded by the executor's decorator and rejection policy
+     */
+    public void register(ThreadPoolTaskExecutor executor, ExecutorStats stats) {
+        executors.put(stats.getName(), new Registration(executor, stats));
+    }
+    
+    /**
+     * Gets the current state of every registered executor.
+     * 
+     * @return Executor statistics, ordered by name
+     */
+    public List<ExecutorStatistics> getStatistics() {
+        List<ExecutorStatistics> result = new ArrayList<>();
+        executors.values().stream()
+                .sorted((a, b) -> a.stats().getName().compareTo(b.stats().getName()))
+                .forEach(registration -> result.add(toStatistics(registration)));
+        return result;
+    }
+    
+    private ExecutorStatistics toStatistics(Registration registration) {
+        ThreadPoolTaskExecutor executor = registration.executor();
+        ExecutorStats stats = registration.stats();
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        BucketHistogram.Snapshot queueWait = stats.getQueueWaitMicros().snapshot();
+        BucketHistogram.Snapshot execution = stats.getExecutionMillis().snapshot();
+        return ExecutorStatistics.builder()
+                .name(stats.getName())
+                .corePoolSize(executor.getCorePoolSize())
+                .maxPoolSize(executor.getMaxPoolSize())
+                .poolSize(executor.getPoolSize())
+                .activeCount(executor.getActiveCount())
+                .queueSize(pool.getQueue().size())
+                .queueRemainingCapacity(pool.getQueue().remainingCapacity())
+                .submitted(stats.getSubmitted().sum())
+                .completed(stats.getCompleted().sum())
+                .failed(stats.getFailed().sum())
+                .rejected(stats.getRejected().sum())
+                .p95QueueWaitMicros(queueWait.percentile(95))
+                .p95ExecutionMs(execution.percentile(95))
+                .queueWaitHistogram(queueWait)
+                .executionHistogram(execution)
+                .build();
+    }
+    
+    private record Registration(ThreadPoolTaskExecutor executor, ExecutorStats stats) {
+    }
+    
+    /**
+     * Point-in-time statistics of one executor.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExecutorStatistics {
+        private String name;
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int poolSize;
+        private int activeCount;
+        private int queueSize;
+        private int queueRemainingCapacity;
+        private long submitted;
+        private long completed;
+        private long failed;
+        private long rejected;
+        private long p95QueueWaitMicros;
+        private long p95ExecutionMs;
+        private BucketHistogram.Snapshot queueWaitHistogram;
+        private BucketHistogram.Snapshot executionHistogram;
+    }
+}
@@ -0,0 +1,354 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.config.PerformanceConfig;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the declared compound indexes at startup and verifies index usage.
+ * Diagnostics run {@code explain} (query planner only, nothing is executed) for a
+ * representative filter/sort of every repository query and read {@code $indexStats}
+ * so collection scans, blocking sorts and unused indexes are visible.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IndexManagementService {
+
+    private static final String SAMPLE_ID = "000000000000000000000000";
+
+    // Representative query shapes of the repository methods, as Spring Data sends them
+    private static final List<QueryProbe> QUERY_PROBES = List.of(
+        probe("ProjectRepository.findAll(Pageable)", "projects",
+                new Document(), new Document("endDate", -1)),
+        probe("ProjectRepository.findByTechStackIds", "projects",
+                new Document("techStackIds", new Document("$in", List.of(SAMPLE_ID))), new Document("endDate", -1)),
+        probe("ProjectRepository.findByYear", "projects",
+                new Document("startDate", new Document("$gte", new Date(0)).append("$lt", new Date())),
+                new Document("endDate", -1)),
+        probe("ProjectRepository.findByIsFeaturedTrue", "projects",
+                new Document("isFeatured", true), new Document("createdAt", -1)),
+        probe("ProjectRepository.findByStatus", "projects",
+                new Document("status", "COMPLETED"), new Document("createdAt", -1)),
+        probe("ProjectRepository.findMostViewedProjects", "projects",
+                new Document(), new Document("viewCount", -1)),
+        probe("ProjectRepository.findByRepositoryName", "projects",
+                new Document("repositoryName", "sample"), null),
+        probe("ProjectRepository.findByRelatedAcademicIds", "projects",
+                new Document("relatedAcademicIds", new Document("$in", List.of(SAMPLE_ID))), null),
+        probe("AcademicRepository.findSummariesBySemesterContaining", "academics",
+                new Document("semester", new Document("$regex", "AUT")), new Document("semester", 1)),
+        probe("AcademicRepository.findByStatus", "academics",
+                new Document("status", "COMPLETED"), new Document("createdAt", -1)),
+        probe("AcademicRepository.findByGradeIsNotNullOrderByMarksDesc", "academics",
+                new Document("grade", new Document("$ne", null)), new Document("marks", -1)),
+        probe("TechStackRepository.findByType", "tech_stacks",
+                new Document("type", "BACKEND"), null),
+        probe("TechStackRepository.findAllByOrderByTypeAscNameAsc", "tech_stacks",
+                new Document(), new Document("type", 1).append("name", 1)),
+        probe("TechStackRepository.findPopularTechStacks", "tech_stacks",
+                new Document(), new Document("usageCount", -1)),
+        probe("TechStackRepository.findByNameIgnoreCase", "tech_stacks",
+                new Document("name", new Document("$regex", "^sample$").append("$options", "i")), null),
+        probe("ContactRepository.countByIpAddressAndCreatedAtAfter", "contacts",
+                new Document("ipAddress", "0").append("createdAt", new Document("$gt", new Date())), null),
+        probe("ContactRepository.findTop3ByIpAddressAndCreatedAtAfterOrderByCreatedAtDesc", "contacts",
+                new Document("ipAddress", "0").append("createdAt", new Document("$gt", new Date())),
+                new Document("createdAt", -1)),
+        probe("ContactRepository.existsByEmailAndMessageAndCreatedAtAfter", "contacts",
+                new Document("email", "sample@example.com").append("message", "sample")
+                        .append("createdAt", new Document("$gt", new Date())), null),
+        probe("ProjectMediaRepository.findByProjectIdAndIsActiveTrueOrderByDisplayOrderAsc", "project_media",
+                new Document("projectId", SAMPLE_ID).append("isActive", true), new Document("displayOrder", 1)),
+        probe("TestimonialRepository.findSummariesByIsActiveTrueAndIsApprovedTrueOrderByDisplayOrderAsc", "testimonials",
+                new Document("isActive", true).append("isApproved", true), new Document("displayOrder", 1)),
+        probe("ProjectEngagementRepository.findByProjectId", "project_engagement",
+                new Document("projectId", SAMPLE_ID), null),
+        probe("JourneyMilestoneRepository.findAllByOrderByYearAsc", "journey_milestones",
+                new Document(), new Document("year", 1)),
+        probe("UserRepository.findByOauthProviderAndOauthId", "users",
+                new Document("oauthProvider", "github").append("oauthId", "0"), null),
+        probe("UserRepository.findByEmail", "users",
+                new Document("email", "sample@example.com"), null),
+        probe("PerformanceSnapshotRepository.findByResolutionAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc",
+                "performance_snapshots",
+                new Document("resolution", "MINUTE")
+                        .append("windowStart", new Document("$gte", new Date(0)).append("$lt", new Date())),
+                new Document("windowStart", 1)),
+        probe("MetricsHistoryService.save", "performance_snapshots",
+                new Document("instanceId", "sample").append("resolution", "MINUTE").append("windowStart", new Date()),
+                null),
+        probe("MongoRateLimitBackend.tryAcquire", "rate_limit_counters",
+                new Document("_id", "AUTH:0:0"), null)
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final PerformanceConfig performanceConfig;
+
+    @Value("${app.performance.indexes.ensure-on-startup:true}")
+    private boolean ensureOnStartup;
+
+    /**
+     * Creates missing declared indexes. Existing indexes with the same definition are left untouched.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexesOnStartup() {
+        if (ensureOnStartup) {
+            ensureIndexes();
+        }
+    }
+
+    /**
+     * Creates missing declared indexes.
+     *
+     * @return Number of index definitions that could not be applied
+     */
+    public int ensureIndexes() {
+        int failures = 0;
+        for (PerformanceConfig.ManagedIndex index : performanceConfig.getManagedIndexes()) {
+            try {
+                mongoTemplate.indexOps(index.getCollection()).ensureIndex(index.toIndex());
+            } catch (Exception e) {
+                failures++;
+                log.warn("Failed to ensure index {} on {}: {}", index.getName(), index.getCollection(), e.getMessage());
+            }
+        }
+        log.info("Ensured {} managed MongoDB indexes ({} failed)",
+                performanceConfig.getManagedIndexes().size() - failures, failures);
+        return failures;
+    }
+
+    /**
+     * Explains every repository query shape and reads index usage statistics.
+     *
+     * @return Index diagnostics report
+     */
+    public IndexReport getReport() {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (QueryProbe probe : QUERY_PROBES) {
+            plans.add(explain(probe));
+        }
+
+        Set<String> collections = new LinkedHashSet<>();
+        QUERY_PROBES.forEach(probe -> collections.add(probe.collection()));
+        performanceConfig.getManagedIndexes().forEach(index -> collections.add(index.getCollection()));
+        List<IndexUsage> usage = new ArrayList<>();
+        for (String collection : collections) {
+            usage.addAll(readIndexStats(collection));
+        }
+
+        return IndexReport.builder()
+                .generatedAt(LocalDateTime.now())
+                .queryPlans(plans)
+                .collectionScans(plans.stream().filter(QueryPlan::isCollectionScan).map(QueryPlan::getQuery).toList())
+                .blockingSorts(plans.stream().filter(QueryPlan::isBlockingSort).map(QueryPlan::getQuery).toList())
+                .indexUsage(usage)
+                .unusedIndexes(usage.stream()
+                        .filter(u -> u.getOps() == 0 && !"_id_".equals(u.getName()))
+                        .map(u -> u.getCollection() + "." + u.getName())
+                        .toList())
+                .build();
+    }
+
+    private QueryPlan explain(QueryProbe probe) {
+        return explain(probe.name(), probe.collection(), probe.filter(), probe.sort());
+    }
+    
+    /**
+     * Gets the winning plan of a find query without executing it.
+     *
+     * @param name Label for the query
+     * @param collection Collection name
+     * @param filter Query filter
+     * @param sort Sort document, or null
+     * @return Query plan summary
+     */
+    public QueryPlan explain(String name, String collection, Document filter, Document sort) {
+        return explain(name, collection, filter, sort, null);
+    }
+    
+    /**
+     * Gets the winning plan of a Spring Data query, mapped the same way {@code MongoTemplate} sends it.
+     *
+     * @param name Label for the query
+     * @param query Query with optional sort and index hint
+     * @param entityClass Mapped document type
+     * @return Query plan summary
+     */
+    public QueryPlan explain(String name, Query query, Class<?> entityClass) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getPersistentEntity(entityClass);
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        Document filter = mapper.getMappedObject(query.getQueryObject(), entity);
+        Document sort = query.getSortObject().isEmpty() ? null : mapper.getMappedSort(query.getSortObject(), entity);
+        return explain(name, mongoTemplate.getCollectionName(entityClass), filter, sort, query.getHint());
+    }
+    
+    /**
+     * Gets the winning plan of a find query pinned to an index, without executing it.
+     *
+     * @param name Label for the query
+     * @param collection Collection name
+     * @param filter Query filter
+     * @param sort Sort document, or null
+     * @param hint Index name, or null to let the planner choose
+     * @return Query plan summary
+     */
+    public QueryPlan explain(String name, String collection, Document filter, Document sort, String hint) {
+        Document find = new Document("find", collection).append("filter", filter);
+        if (sort != null) {
+            find.append("sort", sort);
+        }
+        if (hint != null) {
+            find.append("hint", hint);
+        }
+        QueryPlan.QueryPlanBuilder plan = QueryPlan.builder()
+                .query(name)
+                .collection(collection)
+                .filter(filter.toJson())
+                .sort(sort != null ? sort.toJson() : null);
+        try {
+            Document result = mongoTemplate.getDb().runCommand(
+                    new Document("explain", find).append("verbosity", "queryPlanner"));
+            Document queryPlanner = result.get("queryPlanner", Document.class);
+            Document winningPlan = queryPlanner != null ? queryPlanner.get("winningPlan", Document.class) : null;
+            // Plans executed by the slot-based engine nest the classic plan tree under "queryPlan"
+            if (winningPlan != null && winningPlan.containsKey("queryPlan")) {
+                winningPlan = winningPlan.get("queryPlan", Document.class);
+            }
+            List<String> stages = new ArrayList<>();
+            List<String> indexes = new ArrayList<>();
+            collectStages(winningPlan, stages, indexes);
+            return plan.stages(stages)
+                    .indexesUsed(indexes)
+                    .collectionScan(stages.contains("COLLSCAN"))
+                    .blockingSort(stages.contains("SORT"))
+                    .build();
+        } catch (Exception e) {
+            log.debug("Explain failed for {}: {}", name, e.getMessage());
+            return plan.error(e.getMessage()).build();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectStages(Document stage, List<String> stages, List<String> indexes) {
+        if (stage == null) {
+            return;
+        }
+        stages.add(stage.getString("stage"));
+        if (stage.getString("indexName") != null) {
+            indexes.add(stage.getString("indexName"));
+        }
+        collectStages(stage.get("inputStage", Document.class), stages, indexes);
+        Object inputStages = stage.get("inputStages");
+        if (inputStages instanceof List) {
+            for (Object child : (List<Object>) inputStages) {
+                if (child instanceof Document) {
+                    collectStages((Document) child, stages, indexes);
+                }
+            }
+        }
+    }
+
+    private List<IndexUsage> readIndexStats(String collection) {
+        List<IndexUsage> usage = new ArrayList<>();
+        try {
+            for (Document stats : mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                Document accesses = stats.get("accesses", Document.class);
+                Number ops = accesses != null ? accesses.get("ops", Number.class) : null;
+                Date since = accesses != null ? accesses.getDate("since") : null;
+                usage.add(IndexUsage.builder()
+                        .collection(collection)
+                        .name(stats.getString("name"))
+                        .keys(stats.get("key", Document.class) != null ? stats.get("key", Document.class).toJson() : null)
+                        .ops(ops != null ? ops.longValue() : 0)
+                        .since(since)
+                        .build());
+            }
+        } catch (Exception e) {
+            log.debug("$indexStats failed for {}: {}", collection, e.getMessage());
+        }
+        return usage;
+    }
+
+    private static QueryProbe probe(String name, String collection, Document filter, Document sort) {
+        return new QueryProbe(name, collection, filter, sort);
+    }
+
+    private record QueryProbe(String name, String collection, Document filter, Document sort) {
+    }
+
+    /**
+     * Index diagnostics for all collections.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IndexReport {
+        private LocalDateTime generatedAt;
+        private List<QueryPlan> queryPlans;
+        private List<String> collectionScans;
+        private List<String> blockingSorts;
+        private List<IndexUsage> indexUsage;
+        private List<String> unusedIndexes;
+    }
+
+    /**
+     * Winning plan of one repository query shape.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueryPlan {
+        private String query;
+        private String collection;
+        private String filter;
+        private String sort;
+        private List<String> stages;
+        private List<String> indexesUsed;
+        private boolean collectionScan;
+        private boolean blockingSort;
+        private String error;
+    }
+
+    /**
+     * Access counter of one index since server start or index creation.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IndexUsage {
+        private String collection;
+        private String name;
+        private String keys;
+        private long ops;
+        private Date since;
+    }
+}
@@ -0,0 +1,311 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.exception.ResourceNotFoundException;
+import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import com.mytechfolio.portfolio.util.RouteMetrics;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Starts a bounded Java Flight Recorder recording when latency or errors spike.
+ * Each evaluation compares the route histograms with the previous evaluation, so
+ * the trigger reacts to the last interval rather than to lifetime averages.
+ * Recordings are written to a local directory that is pruned by file count and
+ * total size after every recording.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JfrRecordingService {
+    
+    private static final String FILE_EXTENSION = ".jfr";
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    private final PerformanceMonitoringService performanceMonitoringService;
+    
+    private final Map<String, BucketHistogram.Snapshot> previousLatencies = new HashMap<>();
+    private final Map<String, Long> previousErrors = new HashMap<>();
+    // ReentrantLock rather than synchronized: evaluation does file I/O and must not pin a virtual carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording activeRecording;
+    private Path activeFile;
+    private long lastTriggerMillis;
+    
+    @Value("${app.performance.jfr.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${app.performance.jfr.directory:./jfr-recordings}")
+    private String directory;
+    
+    @Value("${app.performance.jfr.settings:profile}")
+    private String settings;
+    
+    @Value("${app.performance.jfr.duration:60s}")
+    private Duration recordingDuration;
+    
+    @Value("${app.performance.jfr.max-recording-bytes:52428800}")
+    private long maxRecordingBytes;
+    
+    @Value("${app.performance.jfr.cooldown:15m}")
+    private Duration cooldown;
+    
+    @Value("${app.performance.jfr.max-files:10}")
+    private int maxFiles;
+    
+    @Value("${app.performance.jfr.max-disk-bytes:524288000}")
+    private long maxDiskBytes;
+    
+    @Value("${app.performance.jfr.route-p99-threshold-ms:2000}")
+    private long routeP99ThresholdMs;
+    
+    @Value("${app.performance.jfr.error-rate-threshold:0.05}")
+    private double errorRateThreshold;
+    
+    @Value("${app.performance.jfr.min-requests:20}")
+    private long minRequests;
+    
+    /**
+     * Checks the interval since the last evaluation and starts a recording on an anomaly.
+     */
+    @Scheduled(fixedDelayString = "${app.performance.jfr.evaluation-interval-ms:15000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            finishRecordingIfDone();
+            
+            String reason = detectAnomaly();
+            if (reason == null || activeRecording != null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastTriggerMillis < cooldown.toMillis()) {
+                log.debug("JFR trigger '{}' ignored during cooldown", reason);
+                return;
+            }
+            lastTriggerMillis = now;
+            startRecording(reason);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Builds a trigger reason from the interval deltas, or returns null if nothing is anomalous.
+     */
+    private String detectAnomaly() {
+        String slowestRoute = null;
+        long slowestP99 = 0;
+        long intervalRequests = 0;
+        long intervalErrors = 0;
+        
+        for (RouteMetrics route : performanceMonitoringService.getRouteMetrics()) {
+            BucketHistogram.Snapshot cumulative = route.getLatencies().snapshot();
+            BucketHistogram.Snapshot interval = cumulative.minus(previousLatencies.put(route.getRoute(), cumulative));
+            long errors = route.getErrorCount().sum();
+            Long previous = previousErrors.put(route.getRoute(), errors);
+            intervalErrors += errors - (previous != null ? previous : 0);
+            intervalRequests += interval.getCount();
+            
+            if (interval.getCount() >= minRequests) {
+                long p99 = interval.percentile(99);
+                if (p99 > routeP99ThresholdMs && p99 > slowestP99) {
+                    slowestP99 = p99;
+                    slowestRoute = route.getRoute();
+                }
+            }
+        }
+        
+        if (slowestRoute != null) {
+            return "p99 " + slowestP99 + "ms on " + slowestRoute;
+        }
+        if (intervalRequests >= minRequests && (double) intervalErrors / intervalRequests > errorRateThreshold) {
+            return String.format("error rate %.1f%% over %d requests", 100.0 * intervalErrors / intervalRequests, intervalRequests);
+        }
+        return null;
+    }
+    
+    private void startRecording(String reason) {
+        try {
+            Path dir = recordingDirectory();
+            Files.createDirectories(dir);
+            Path file = dir.resolve("anomaly-" + LocalDateTime.now().format(FILE_TIMESTAMP) + FILE_EXTENSION);
+            
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("anomaly: " + reason);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxRecordingBytes);
+            recording.setDuration(recordingDuration);
+            recording.setDestination(file);
+            recording.start();
+            
+            activeRecording = recording;
+            activeFile = file;
+            log.warn("event=jfr_recording_started reason=\"{}\" file={} duration={}", reason, file.getFileName(), recordingDuration);
+        } catch (Exception e) {
+            log.error("Failed to start JFR recording for '{}': {}", reason, e.getMessage());
+        }
+    }
+    
+    /**
+     * Releases a recording that reached its duration and applies the disk limits.
+     */
+    private void finishRecordingIfDone() {
+        if (activeRecording == null || activeRecording.getState() != RecordingState.CLOSED
+                && activeRecording.getState() != RecordingState.STOPPED) {
+            return;
+        }
+        activeRecording.close();
+        log.info("JFR recording written to {}", activeFile.getFileName());
+        activeRecording = null;
+        activeFile = null;
+        pruneRecordings();
+    }
+    
+    /**
+     * Deletes the oldest recordings until both the file count and disk limits are met.
+     */
+    private void pruneRecordings() {
+        List<RecordingFile> files = listRecordings();
+        long totalBytes = files.stream().mapToLong(RecordingFile::getSizeBytes).sum();
+        for (int i = files.size() - 1; i >= 0 && (i >= maxFiles || totalBytes > maxDiskBytes); i--) {
+            RecordingFile oldest = files.get(i);
+            try {
+                Files.deleteIfExists(recordingDirectory().resolve(oldest.getName()));
+                totalBytes -= oldest.getSizeBytes();
+                log.info("Deleted old JFR recording {}", oldest.getName());
+            } catch (IOException e) {
+                log.warn("Failed to delete JFR recording {}: {}", oldest.getName(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Lists completed recordings, newest first.
+     * 
+     * @return Recording files
+     */
+    public List<RecordingFile> listRecordings() {
+        Path dir = recordingDirectory();
+        if (!Files.isDirectory(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.list(dir)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .filter(path -> !path.equals(activeFile))
+                    .map(this::toRecordingFile)
+                    .sorted(Comparator.comparing(RecordingFile::getLastModified).reversed())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("Failed to list JFR recordings: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Resolves a completed recording by file name.
+     * Only plain file names inside the recording directory are accepted.
+     * 
+     * @param name Recording file name
+     * @return Path to the recording
+     * @throws ResourceNotFoundException if the name is invalid or the file does not exist
+     */
+    public Path getRecording(String name) {
+        if (name == null || !SAFE_FILE_NAME.matcher(name).matches()) {
+            throw new ResourceNotFoundException("JFR recording", name);
+        }
+        Path dir = recordingDirectory();
+        Path file = dir.resolve(name).normalize();
+        if (!file.startsWith(dir) || file.equals(activeFile) || !Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("JFR recording", name);
+        }
+        return file;
+    }
+    
+    @PreDestroy
+    void stopActiveRecording() {
+        lock.lock();
+        try {
+            if (activeRecording != null) {
+                try {
+                    activeRecording.stop();
+                } catch (IllegalStateException e) {
+                    log.debug("JFR recording already stopped");
+                }
+                activeRecording.close();
+                activeRecording = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Path recordingDirectory() {
+        return Paths.get(directory).toAbsolutePath().normalize();
+    }
+    
+    private RecordingFile toRecordingFile(Path path) {
+        try {
+            return RecordingFile.builder()
+                    .name(path.getFileName().toString())
+                    .sizeBytes(Files.size(path))
+                    .lastModified(LocalDateTime.ofInstant(Files.getLastModifiedTime(path).toInstant(), ZoneId.systemDefault()))
+                    .build();
+        } catch (IOException e) {
+            return RecordingFile.builder()
+                    .name(path.getFileName().toString())
+                    .lastModified(LocalDateTime.MIN)
+                    .build();
+        }
+    }
+    
+    /**
+     * Completed JFR recording on disk.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordingFile {
+        private String name;
+        private long sizeBytes;
+        private LocalDateTime lastModified;
+    }
+}
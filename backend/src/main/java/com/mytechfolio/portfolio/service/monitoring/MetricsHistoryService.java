@@ -0,0 +1,355 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.config.AsyncConfig;
+import com.mytechfolio.portfolio.domain.PerformanceSnapshot;
+import com.mytechfolio.portfolio.repository.PerformanceSnapshotRepository;
+import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import com.mytechfolio.portfolio.util.RouteMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Persists performance history so it survives restarts and rolling deploys.
+ * Every minute the per-route counters recorded since the previous capture are
+ * written as one compact document per instance; minute windows are rolled up
+ * into hourly windows. Both resolutions expire through a TTL index, so storage
+ * stays bounded (by default 24 hours of minutes and 30 days of hours).
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetricsHistoryService {
+    
+    private static final String OTHER_ROUTE = "OTHER";
+    
+    // Hours already closed are re-checked so windows of instances that stopped
+    // before their own rollup (e.g. during a rolling update) are still rolled up
+    private static final int ROLLUP_LOOKBACK_HOURS = 3;
+    
+    private final PerformanceSnapshotRepository snapshotRepository;
+    private final PerformanceMonitoringService performanceMonitoringService;
+    private final MongoTemplate mongoTemplate;
+    
+    private final Map<String, PerformanceSnapshot.RouteWindow> lastCumulative = new HashMap<>();
+    // ReentrantLock rather than synchronized: the capture writes to MongoDB and must not pin a virtual carrier thread
+    private final ReentrantLock captureLock = new ReentrantLock();
+    private LocalDateTime lastCapture;
+    
+    @Value("${app.performance.history.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.performance.history.instance-id:${HOSTNAME:}}")
+    private String instanceId;
+    
+    @Value("${app.performance.history.minute-retention-hours:24}")
+    private int minuteRetentionHours;
+    
+    @Value("${app.performance.history.hour-retention-days:30}")
+    private int hourRetentionDays;
+    
+    @Value("${app.performance.history.max-routes-per-snapshot:100}")
+    private int maxRoutesPerSnapshot;
+    
+    @PostConstruct
+    void init() {
+        if (instanceId == null || instanceId.isBlank()) {
+            instanceId = "instance-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        lastCapture = LocalDateTime.now();
+        log.info("Performance history enabled={} for instance {}", enabled, instanceId);
+    }
+    
+    /**
+     * Persists the window recorded during the last minute.
+     */
+    @Scheduled(cron = "${app.performance.history.minute-cron:0 * * * * *}")
+    public void captureMinute() {
+        if (enabled) {
+            captureWindow(false);
+        }
+    }
+    
+    /**
+     * Persists the current partial window so a deploy does not lose it.
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        if (enabled) {
+            captureWindow(true);
+        }
+    }
+    
+    /**
+     * Rolls closed hours of minute windows up into hourly windows.
+     * Runs on the analytics executor so the shared scheduler thread is not held by the queries.
+     */
+    @Async(AsyncConfig.ANALYTICS_EXECUTOR)
+    @Scheduled(cron = "${app.performance.history.hour-cron:0 5 * * * *}")
+    public void rollupHours() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        for (int i = ROLLUP_LOOKBACK_HOURS; i >= 1; i--) {
+            try {
+                rollupHour(currentHour.minusHours(i));
+            } catch (Exception e) {
+                log.warn("Failed to roll up performance history for {}: {}", currentHour.minusHours(i), e.getMessage());
+            }
+        }
+    }
+    
+    private void captureWindow(boolean partial) {
+        captureLock.lock();
+        try {
+            captureWindowLocked(partial);
+        } finally {
+            captureLock.unlock();
+        }
+    }
+    
+    private void captureWindowLocked(boolean partial) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = lastCapture.truncatedTo(ChronoUnit.MINUTES);
+        lastCapture = now;
+        
+        List<PerformanceSnapshot.RouteWindow> deltas = new ArrayList<>();
+        for (RouteMetrics route : performanceMonitoringService.getRouteMetrics()) {
+            PerformanceSnapshot.RouteWindow cumulative = toWindow(route);
+            PerformanceSnapshot.RouteWindow delta = cumulative.minus(lastCumulative.put(route.getRoute(), cumulative));
+            if (delta.getRequestCount() > 0) {
+                deltas.add(delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        save(PerformanceSnapshot.builder()
+                .resolution(PerformanceSnapshot.Resolution.MINUTE)
+                .instanceId(instanceId)
+                .windowStart(windowStart)
+                .windowEnd(now)
+                .partial(partial)
+                .routes(capRoutes(deltas))
+                .expireAt(toDate(now.plusHours(minuteRetentionHours)))
+                .build());
+    }
+    
+    private void rollupHour(LocalDateTime hourStart) {
+        LocalDateTime hourEnd = hourStart.plusHours(1);
+        List<PerformanceSnapshot> minutes = snapshotRepository
+                .findByResolutionAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc(
+                        PerformanceSnapshot.Resolution.MINUTE, hourStart, hourEnd);
+        Map<String, List<PerformanceSnapshot>> byInstance = minutes.stream()
+                .collect(Collectors.groupingBy(PerformanceSnapshot::getInstanceId));
+        
+        // Recomputed on every run of the lookback, so minute windows stored after an earlier rollup are included
+        byInstance.forEach((instance, windows) -> save(PerformanceSnapshot.builder()
+                    .resolution(PerformanceSnapshot.Resolution.HOUR)
+                    .instanceId(instance)
+                    .windowStart(hourStart)
+                    .windowEnd(hourEnd)
+                    .partial(windows.stream().anyMatch(PerformanceSnapshot::isPartial))
+                    .routes(capRoutes(mergeByRoute(windows, null)))
+                    .expireAt(toDate(hourEnd.plusDays(hourRetentionDays)))
+                    .build()));
+    }
+    
+    /**
+     * Gets historical windows, summed across instances.
+     * 
+     * @param resolution Window resolution
+     * @param from Start of the range (inclusive)
+     * @param to End of the range (exclusive)
+     * @param route Route to report, or null for all routes combined
+     * @return One point per window, oldest first
+     */
+    public List<HistoryPoint> getHistory(PerformanceSnapshot.Resolution resolution,
+                                         LocalDateTime from, LocalDateTime to, String route) {
+        Duration maxRange = resolution == PerformanceSnapshot.Resolution.MINUTE
+                ? Duration.ofHours(minuteRetentionHours)
+                : Duration.ofDays(hourRetentionDays);
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(maxRange) > 0) {
+            throw new IllegalArgumentException("Range exceeds " + maxRange.toHours() + "h for " + resolution + " resolution");
+        }
+        
+        Map<LocalDateTime, List<PerformanceSnapshot>> byWindow = snapshotRepository
+                .findByResolutionAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc(
+                        resolution, from, to).stream()
+                .collect(Collectors.groupingBy(PerformanceSnapshot::getWindowStart, TreeMap::new, Collectors.toList()));
+        
+        List<HistoryPoint> points = new ArrayList<>();
+        byWindow.forEach((windowStart, windows) -> {
+            PerformanceSnapshot.RouteWindow total = null;
+            for (PerformanceSnapshot.RouteWindow window : mergeByRoute(windows, route)) {
+                total = total == null ? window : total.plus(window);
+            }
+            if (total != null) {
+                points.add(toHistoryPoint(windowStart, windows.size(), total));
+            }
+        });
+        return points;
+    }
+    
+    private List<PerformanceSnapshot.RouteWindow> mergeByRoute(List<PerformanceSnapshot> snapshots, String routeFilter) {
+        Map<String, PerformanceSnapshot.RouteWindow> merged = new HashMap<>();
+        for (PerformanceSnapshot snapshot : snapshots) {
+            if (snapshot.getRoutes() == null) {
+                continue;
+            }
+            for (PerformanceSnapshot.RouteWindow window : snapshot.getRoutes()) {
+                if (routeFilter == null || routeFilter.equals(window.getRoute())) {
+                    merged.merge(window.getRoute(), window, PerformanceSnapshot.RouteWindow::plus);
+                }
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+    
+    /**
+     * Keeps the busiest routes and folds the rest into a single OTHER entry.
+     */
+    private List<PerformanceSnapshot.RouteWindow> capRoutes(List<PerformanceSnapshot.RouteWindow> windows) {
+        if (windows.size() <= maxRoutesPerSnapshot) {
+            return windows;
+        }
+        windows.sort(Comparator.comparingLong(PerformanceSnapshot.RouteWindow::getRequestCount).reversed());
+        List<PerformanceSnapshot.RouteWindow> kept = new ArrayList<>(windows.subList(0, maxRoutesPerSnapshot - 1));
+        PerformanceSnapshot.RouteWindow other = null;
+        for (PerformanceSnapshot.RouteWindow window : windows.subList(maxRoutesPerSnapshot - 1, windows.size())) {
+            other = other == null ? window : other.plus(window);
+        }
+        other.setRoute(OTHER_ROUTE);
+        kept.add(other);
+        return kept;
+    }
+    
+    /**
+     * Upserts a window keyed on (instanceId, resolution, windowStart).
+     * A minute window already stored for the same minute (a capture and a shutdown flush
+     * landing in one minute) holds other requests, so it is merged with the new one;
+     * an hour window is recomputed from the same minutes, so it is replaced.
+     */
+    private void save(PerformanceSnapshot snapshot) {
+        Query key = Query.query(Criteria.where("instanceId").is(snapshot.getInstanceId())
+                .and("resolution").is(snapshot.getResolution())
+                .and("windowStart").is(snapshot.getWindowStart()));
+        try {
+            if (snapshot.getResolution() == PerformanceSnapshot.Resolution.MINUTE) {
+                PerformanceSnapshot stored = mongoTemplate.findOne(key, PerformanceSnapshot.class);
+                if (stored != null) {
+                    snapshot = merge(stored, snapshot);
+                }
+            }
+            mongoTemplate.findAndReplace(key, snapshot, FindAndReplaceOptions.options().upsert());
+        } catch (Exception e) {
+            log.warn("Failed to persist performance window {}: {}", snapshot.getWindowStart(), e.getMessage());
+        }
+    }
+    
+    private PerformanceSnapshot merge(PerformanceSnapshot stored, PerformanceSnapshot snapshot) {
+        return PerformanceSnapshot.builder()
+                .resolution(snapshot.getResolution())
+                .instanceId(snapshot.getInstanceId())
+                .windowStart(snapshot.getWindowStart())
+                .windowEnd(stored.getWindowEnd().isAfter(snapshot.getWindowEnd()) ? stored.getWindowEnd() : snapshot.getWindowEnd())
+                .partial(stored.isPartial() || snapshot.isPartial())
+                .routes(capRoutes(mergeByRoute(List.of(stored, snapshot), null)))
+                .expireAt(stored.getExpireAt().after(snapshot.getExpireAt()) ? stored.getExpireAt() : snapshot.getExpireAt())
+                .build();
+    }
+    
+    private PerformanceSnapshot.RouteWindow toWindow(RouteMetrics route) {
+        return PerformanceSnapshot.RouteWindow.builder()
+                .route(route.getRoute())
+                .requestCount(route.getRequestCount().sum())
+                .errorCount(route.getErrorCount().sum())
+                .latencies(route.getLatencies().snapshot())
+                .dbTimes(route.getDbTimes().snapshot())
+                .responseSizes(route.getResponseSizes().snapshot())
+                .cpuTimes(route.getCpuTimes().snapshot())
+                .allocations(route.getAllocations().snapshot())
+                .build();
+    }
+    
+    private HistoryPoint toHistoryPoint(LocalDateTime windowStart, int instances, PerformanceSnapshot.RouteWindow window) {
+        BucketHistogram.Snapshot latencies = window.getLatencies();
+        return HistoryPoint.builder()
+                .windowStart(windowStart)
+                .instances(instances)
+                .requestCount(window.getRequestCount())
+                .errorCount(window.getErrorCount())
+                .averageResponseTimeMs(latencies.getMean())
+                .p95ResponseTimeMs(latencies.percentile(95))
+                .p99ResponseTimeMs(latencies.percentile(99))
+                .maxResponseTimeMs(latencies.getMax())
+                .averageDbTimeMs(window.getDbTimes().getMean())
+                .averageResponseBytes(window.getResponseSizes().getMean())
+                .averageCpuMicros(window.getCpuTimes().getMean())
+                .averageAllocatedBytes(window.getAllocations().getMean())
+                .build();
+    }
+    
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+    
+    /**
+     * Aggregated performance of one historical window.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HistoryPoint {
+        private LocalDateTime windowStart;
+        private int instances;
+        private long requestCount;
+        private long errorCount;
+        private double averageResponseTimeMs;
+        private long p95ResponseTimeMs;
+        private long p99ResponseTimeMs;
+        private long maxResponseTimeMs;
+        private double averageDbTimeMs;
+        private double averageResponseBytes;
+        private double averageCpuMicros;
+        private double averageAllocatedBytes;
+    }
+}
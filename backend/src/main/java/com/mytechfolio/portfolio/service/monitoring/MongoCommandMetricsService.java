@@ -0,0 +1,335 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import com.mytechfolio.portfolio.util.QueryShapeNormalizer;
+import com.mytechfolio.portfolio.util.RequestTimingContext;
+import com.mytechfolio.portfolio.util.TraceContext;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * MongoDB driver command listener that times every database command.
+ * Maintains per-collection and per-command latency histograms, normalised query
+ * shape statistics, a bounded slow-command log, and per-request DB time.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class MongoCommandMetricsService implements CommandListener {
+
+    public static final String DB_TIME_MDC_KEY = "dbTimeMs";
+    public static final String DB_COMMANDS_MDC_KEY = "dbCommands";
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    // Handshake, auth and session housekeeping commands are not application queries
+    private static final Set<String> IGNORED_COMMANDS = Set.of(
+        "hello", "isMaster", "ismaster", "ping", "buildInfo", "saslStart", "saslContinue",
+        "endSessions", "killCursors", "getLastError"
+    );
+
+    // Safety net in case a started command never reports completion
+    private static final int MAX_IN_FLIGHT = 10_000;
+    // Far beyond any command timeout: an entry this old will never be completed
+    private static final long STALE_IN_FLIGHT_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<Integer, InFlightCommand> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, BucketHistogram> collectionLatencies = new ConcurrentHashMap<>();
+    private final Map<String, BucketHistogram> commandLatencies = new ConcurrentHashMap<>();
+    private final Map<String, ShapeStats> queryShapes = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<SlowCommand> slowCommands = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger slowCommandCount = new AtomicInteger();
+    private final LongAdder droppedShapes = new LongAdder();
+    private final LongAdder untrackedCommands = new LongAdder();
+
+    @Value("${app.performance.mongo.slow-command-threshold-ms:100}")
+    private long slowCommandThresholdMs;
+
+    @Value("${app.performance.mongo.slow-command-log-size:200}")
+    private int slowCommandLogSize;
+
+    @Value("${app.performance.mongo.max-query-shapes:500}")
+    private int maxQueryShapes;
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (IGNORED_COMMANDS.contains(commandName)) {
+            return;
+        }
+        try {
+            // The command document is only valid during this callback, so extract everything now
+            BsonDocument command = event.getCommand();
+            BsonValue target = command.get(commandName);
+            String collection = target != null && target.isString() ? target.asString().getValue() : "(admin)";
+            if (inFlight.size() >= MAX_IN_FLIGHT && !evictStaleInFlight()) {
+                // Keep the timings already started; this command goes unmeasured
+                untrackedCommands.increment();
+                return;
+            }
+            inFlight.put(event.getRequestId(), new InFlightCommand(
+                    collection, commandName, QueryShapeNormalizer.normalize(commandName, command), System.nanoTime()));
+        } catch (Exception e) {
+            log.debug("Failed to capture MongoDB command shape: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drops in-flight entries whose completion event was lost.
+     *
+     * @return true if there is room for a new entry
+     */
+    private boolean evictStaleInFlight() {
+        long now = System.nanoTime();
+        int before = inFlight.size();
+        inFlight.values().removeIf(command -> now - command.startedAtNanos() > STALE_IN_FLIGHT_NANOS);
+        int evicted = before - inFlight.size();
+        if (evicted > 0) {
+            log.warn("Evicted {} MongoDB commands that never reported completion", evicted);
+        }
+        return inFlight.size() < MAX_IN_FLIGHT;
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    private void complete(int requestId, long elapsedNanos, boolean failed) {
+        InFlightCommand command = inFlight.remove(requestId);
+        if (command == null) {
+            return;
+        }
+        long elapsedMicros = elapsedNanos / 1_000;
+
+        collectionLatencies.computeIfAbsent(command.collection(), k -> BucketHistogram.latencyMicros())
+                .record(elapsedMicros);
+        commandLatencies.computeIfAbsent(command.commandName(), k -> BucketHistogram.latencyMicros())
+                .record(elapsedMicros);
+        recordShape(command, elapsedMicros, failed);
+
+        RequestTimingContext context = RequestTimingContext.current();
+        if (context != null) {
+            context.recordDbCommand(elapsedNanos);
+            MDC.put(DB_TIME_MDC_KEY, String.valueOf(context.getDbTimeMs()));
+            MDC.put(DB_COMMANDS_MDC_KEY, String.valueOf(context.getDbCommandCount()));
+        }
+
+        TraceContext trace = TraceContext.recording();
+        if (trace != null) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("db.system", "mongodb");
+            attributes.put("db.operation.name", command.commandName());
+            attributes.put("db.collection.name", command.collection());
+            attributes.put("db.query.summary", command.shape());
+            trace.addCompletedSpan("mongodb." + command.commandName() + " " + command.collection(),
+                    TraceContext.Kind.CLIENT, elapsedNanos, attributes, failed);
+        }
+
+        long elapsedMs = elapsedNanos / 1_000_000;
+        if (elapsedMs >= slowCommandThresholdMs) {
+            recordSlowCommand(command, elapsedMs, failed);
+        }
+    }
+
+    private void recordShape(InFlightCommand command, long elapsedMicros, boolean failed) {
+        String key = command.collection() + " " + command.shape();
+        ShapeStats stats = queryShapes.get(key);
+        if (stats == null) {
+            if (queryShapes.size() >= maxQueryShapes) {
+                droppedShapes.increment();
+                return;
+            }
+            stats = queryShapes.computeIfAbsent(key, k -> new ShapeStats(command));
+        }
+        stats.record(elapsedMicros, failed);
+    }
+
+    private void recordSlowCommand(InFlightCommand command, long elapsedMs, boolean failed) {
+        slowCommands.addFirst(SlowCommand.builder()
+                .timestamp(LocalDateTime.now())
+                .collection(command.collection())
+                .command(command.commandName())
+                .shape(command.shape())
+                .durationMs(elapsedMs)
+                .failed(failed)
+                .requestId(MDC.get(REQUEST_ID_MDC_KEY))
+                .build());
+        if (slowCommandCount.incrementAndGet() > slowCommandLogSize) {
+            slowCommands.pollLast();
+            slowCommandCount.decrementAndGet();
+        }
+        log.warn("Slow MongoDB command: {} on {} took {}ms - {}",
+                command.commandName(), command.collection(), elapsedMs, command.shape());
+    }
+
+    /**
+     * Gets latency histograms (microseconds) per collection.
+     *
+     * @return Collection name to histogram snapshot
+     */
+    public Map<String, BucketHistogram.Snapshot> getCollectionLatencies() {
+        return snapshotAll(collectionLatencies);
+    }
+
+    /**
+     * Gets latency histograms (microseconds) per command type.
+     *
+     * @return Command name to histogram snapshot
+     */
+    public Map<String, BucketHistogram.Snapshot> getCommandLatencies() {
+        return snapshotAll(commandLatencies);
+    }
+
+    /**
+     * Gets query shape statistics, most total time first.
+     *
+     * @param limit Maximum number of shapes to return
+     * @return Query shape statistics
+     */
+    public List<QueryShapeStatistics> getQueryShapes(int limit) {
+        return queryShapes.values().stream()
+                .map(ShapeStats::toStatistics)
+                .sorted(Comparator.comparingLong(QueryShapeStatistics::getTotalMicros).reversed())
+                .limit(Math.max(1, limit))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the number of executions not tracked because the shape limit was reached.
+     */
+    public long getDroppedShapeCount() {
+        return droppedShapes.sum();
+    }
+
+    /**
+     * Gets the number of commands not timed because the in-flight limit was reached.
+     */
+    public long getUntrackedCommandCount() {
+        return untrackedCommands.sum();
+    }
+
+    /**
+     * Gets the slow-command log, newest first.
+     *
+     * @return Slow commands
+     */
+    public List<SlowCommand> getSlowCommands() {
+        return new ArrayList<>(slowCommands);
+    }
+
+    private Map<String, BucketHistogram.Snapshot> snapshotAll(Map<String, BucketHistogram> histograms) {
+        Map<String, BucketHistogram.Snapshot> result = new LinkedHashMap<>();
+        histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> result.put(e.getKey(), e.getValue().snapshot()));
+        return result;
+    }
+
+    private record InFlightCommand(String collection, String commandName, String shape, long startedAtNanos) {
+    }
+
+    private static final class ShapeStats {
+        private final InFlightCommand command;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+
+        private ShapeStats(InFlightCommand command) {
+            this.command = command;
+        }
+
+        private void record(long elapsedMicros, boolean failed) {
+            count.increment();
+            totalMicros.add(elapsedMicros);
+            maxMicros.accumulateAndGet(elapsedMicros, Math::max);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        private QueryShapeStatistics toStatistics() {
+            long executions = count.sum();
+            long total = totalMicros.sum();
+            return QueryShapeStatistics.builder()
+                    .collection(command.collection())
+                    .command(command.commandName())
+                    .shape(command.shape())
+                    .count(executions)
+                    .failures(failures.sum())
+                    .totalMicros(total)
+                    .averageMicros(executions == 0 ? 0 : total / executions)
+                    .maxMicros(maxMicros.get())
+                    .build();
+        }
+    }
+
+    /**
+     * Aggregated statistics for one normalised query shape.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueryShapeStatistics {
+        private String collection;
+        private String command;
+        private String shape;
+        private long count;
+        private long failures;
+        private long totalMicros;
+        private long averageMicros;
+        private long maxMicros;
+    }
+
+    /**
+     * Entry in the slow-command log.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlowCommand {
+        private LocalDateTime timestamp;
+        private String collection;
+        private String command;
+        private String shape;
+        private long durationMs;
+        private boolean failed;
+        private String requestId;
+    }
+}
@@ -0,0 +1,122 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MongoDB connection pool listener measuring how long requests wait for a connection.
+ * The synchronous driver checks connections out on the calling thread, so the
+ * start time is kept in a ThreadLocal (which also works per virtual thread).
+ * Pool wait is the signal that distinguishes "Mongo is slow" from "too many
+ * concurrent requests for the pool", which matters once virtual threads remove
+ * the Tomcat thread limit.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+public class MongoPoolMetricsService implements ConnectionPoolListener {
+    
+    private final ThreadLocal<Long> checkoutStart = new ThreadLocal<>();
+    private final BucketHistogram checkoutWaitMicros = BucketHistogram.latencyMicros();
+    private final LongAdder checkouts = new LongAdder();
+    private final Map<String, LongAdder> checkoutFailures = new ConcurrentHashMap<>();
+    private final AtomicInteger checkedOut = new AtomicInteger();
+    private final AtomicInteger open = new AtomicInteger();
+    
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        checkoutStart.set(System.nanoTime());
+    }
+    
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkouts.increment();
+        checkedOut.incrementAndGet();
+        recordWait();
+    }
+    
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        checkoutFailures.computeIfAbsent(event.getReason().name(), k -> new LongAdder()).increment();
+        recordWait();
+    }
+    
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        checkedOut.decrementAndGet();
+    }
+    
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        open.incrementAndGet();
+    }
+    
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        open.decrementAndGet();
+    }
+    
+    private void recordWait() {
+        Long start = checkoutStart.get();
+        if (start != null) {
+            checkoutWaitMicros.record((System.nanoTime() - start) / 1_000);
+            checkoutStart.remove();
+        }
+    }
+    
+    /**
+     * Gets connection pool statistics.
+     * 
+     * @return Checkout wait histogram, counts and current pool usage
+     */
+    public PoolStatistics getStatistics() {
+        BucketHistogram.Snapshot wait = checkoutWaitMicros.snapshot();
+        Map<String, Long> failures = new ConcurrentHashMap<>();
+        checkoutFailures.forEach((reason, count) -> failures.put(reason, count.sum()));
+        return PoolStatistics.builder()
+                .checkouts(checkouts.sum())
+                .checkoutFailures(failures)
+                .checkedOut(checkedOut.get())
+                .openConnections(open.get())
+                .averageWaitMicros(wait.getMean())
+                .p99WaitMicros(wait.percentile(99))
+                .maxWaitMicros(wait.getMax())
+                .waitHistogram(wait)
+                .build();
+    }
+    
+    /**
+     * MongoDB connection pool statistics.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PoolStatistics {
+        private long checkouts;
+        private Map<String, Long> checkoutFailures;
+        private int checkedOut;
+        private int openConnections;
+        private double averageWaitMicros;
+        private long p99WaitMicros;
+        private long maxWaitMicros;
+        private BucketHistogram.Snapshot waitHistogram;
+    }
+}
@@ -0,0 +1,116 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples per-request CPU time and heap allocation of the request thread.
+ * Uses the HotSpot {@link com.sun.management.ThreadMXBean} counters, which are
+ * cheap to read but not free, so only a configurable fraction of requests is measured.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ResourceUsageSampler {
+
+    @Value("${app.performance.resource-sampling.rate:0.1}")
+    private double samplingRate;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private boolean cpuTimeEnabled;
+    private boolean allocationEnabled;
+
+    @PostConstruct
+    void init() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean hotspotBean)) {
+            log.info("Per-request CPU/allocation sampling disabled: HotSpot ThreadMXBean not available");
+            return;
+        }
+        threadMXBean = hotspotBean;
+        try {
+            if (hotspotBean.isCurrentThreadCpuTimeSupported() && !hotspotBean.isThreadCpuTimeEnabled()) {
+                hotspotBean.setThreadCpuTimeEnabled(true);
+            }
+            cpuTimeEnabled = hotspotBean.isCurrentThreadCpuTimeSupported() && hotspotBean.isThreadCpuTimeEnabled();
+            if (hotspotBean.isThreadAllocatedMemorySupported() && !hotspotBean.isThreadAllocatedMemoryEnabled()) {
+                hotspotBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            allocationEnabled = hotspotBean.isThreadAllocatedMemorySupported()
+                    && hotspotBean.isThreadAllocatedMemoryEnabled();
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.warn("Could not enable thread CPU/allocation accounting: {}", e.getMessage());
+        }
+        log.info("Per-request resource sampling: rate={}, cpuTime={}, allocation={}",
+                samplingRate, cpuTimeEnabled, allocationEnabled);
+    }
+
+    /**
+     * Starts a sample for the current thread if this request is selected.
+     *
+     * @return Sample to stop when the request completes, or null if not sampled
+     */
+    public Sample start() {
+        if ((!cpuTimeEnabled && !allocationEnabled) || samplingRate <= 0
+                || ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return null;
+        }
+        return new Sample(readCpuTime(), readAllocatedBytes());
+    }
+
+    private long readCpuTime() {
+        return cpuTimeEnabled ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long readAllocatedBytes() {
+        return allocationEnabled ? threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Counter readings taken when a sampled request started.
+     * Must be stopped on the thread that started it.
+     */
+    public final class Sample {
+
+        private final long startCpuNanos;
+        private final long startAllocatedBytes;
+        private long cpuTimeNanos = -1;
+        private long allocatedBytes = -1;
+
+        private Sample(long startCpuNanos, long startAllocatedBytes) {
+            this.startCpuNanos = startCpuNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * Reads the counters again and computes the deltas.
+         * Counters report -1 where unsupported (e.g. CPU time on virtual threads),
+         * in which case the corresponding delta stays -1.
+         */
+        public void stop() {
+            long endCpu = readCpuTime();
+            if (startCpuNanos >= 0 && endCpu >= startCpuNanos) {
+                cpuTimeNanos = endCpu - startCpuNanos;
+            }
+            long endAllocated = readAllocatedBytes();
+            if (startAllocatedBytes >= 0 && endAllocated >= startAllocatedBytes) {
+                allocatedBytes = endAllocated - startAllocatedBytes;
+            }
+        }
+
+        public long getCpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.config.SloProperties;
+import com.mytechfolio.portfolio.util.PerformanceMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks service level objectives and multi-window error-budget burn rates.
+ * Request outcomes are counted into per-minute ring buffers covering the longest
+ * alert window, so burn rates over 5m/30m/1h/6h are computed from memory without
+ * scanning request history. Alerts follow the multi-window, multi-burn-rate scheme:
+ * a burn threshold must be exceeded over both a long and a short window, and each
+ * alert is emitted at most once per cooldown as a structured log event.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SloService {
+    
+    private static final int BUFFER_MINUTES = 360;
+    private static final int RECENT_ALERT_LIMIT = 100;
+    
+    private static final Window SHORT_FAST = new Window("5m", 5);
+    private static final Window SHORT_SLOW = new Window("30m", 30);
+    private static final Window LONG_FAST = new Window("1h", 60);
+    private static final Window LONG_SLOW = new Window("6h", BUFFER_MINUTES);
+    private static final List<Window> WINDOWS = List.of(SHORT_FAST, SHORT_SLOW, LONG_FAST, LONG_SLOW);
+    
+    private final SloProperties properties;
+    
+    private final Map<String, MinuteCounters> counters = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastAlertMillis = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<SloAlert> recentAlerts = new ConcurrentLinkedDeque<>();
+    private Clock clock = Clock.systemDefaultZone();
+    
+    /**
+     * Counts a completed request against every objective that covers its route.
+     * 
+     * @param metrics Request metrics
+     */
+    public void record(PerformanceMetrics metrics) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long minute = currentMinute();
+        for (SloProperties.Objective objective : properties.getObjectives()) {
+            if (objective.matches(metrics.getRoute())) {
+                counters.computeIfAbsent(objective.getName(), k -> new MinuteCounters())
+                        .record(minute,
+                                metrics.getStatusCode() >= 500,
+                                metrics.getResponseTimeMs() > objective.getLatencyThresholdMs());
+            }
+        }
+    }
+    
+    /**
+     * Evaluates burn-rate alert conditions for all objectives.
+     */
+    @Scheduled(fixedDelayString = "${app.performance.slo.evaluation-interval-ms:30000}")
+    public void evaluate() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (SloStatus status : getStatus()) {
+            checkBurn(status, Sli.AVAILABILITY, status.getAvailability());
+            checkBurn(status, Sli.LATENCY, status.getLatency());
+        }
+    }
+    
+    /**
+     * Gets the current status of every configured objective.
+     * 
+     * @return SLO status per objective
+     */
+    public List<SloStatus> getStatus() {
+        long minute = currentMinute();
+        List<SloStatus> result = new ArrayList<>();
+        for (SloProperties.Objective objective : properties.getObjectives()) {
+            MinuteCounters objectiveCounters = counters.get(objective.getName());
+            Map<String, WindowStatus> availability = new LinkedHashMap<>();
+            Map<String, WindowStatus> latency = new LinkedHashMap<>();
+            for (Window window : WINDOWS) {
+                long[] totals = objectiveCounters != null 
+                        ? objectiveCounters.sum(minute, window.minutes()) 
+                        : new long[3];
+                availability.put(window.name(), windowStatus(totals[0], totals[1], objective.getAvailabilityObjective()));
+                latency.put(window.name(), windowStatus(totals[0], totals[2], objective.getLatencyObjective()));
+            }
+            result.add(SloStatus.builder()
+                    .name(objective.getName())
+                    .route(objective.getRoute())
+                    .latencyThresholdMs(objective.getLatencyThresholdMs())
+                    .latencyObjective(objective.getLatencyObjective())
+                    .availabilityObjective(objective.getAvailabilityObjective())
+                    .availability(availability)
+                    .latency(latency)
+                    .availabilityBudgetRemaining(availability.get(LONG_SLOW.name()).getBudgetRemaining())
+                    .latencyBudgetRemaining(latency.get(LONG_SLOW.name()).getBudgetRemaining())
+                    .build());
+        }
+        return result;
+    }
+    
+    /**
+     * Gets recently emitted burn-rate alerts, newest first.
+     * 
+     * @return Recent alerts
+     */
+    public List<SloAlert> getRecentAlerts() {
+        return new ArrayList<>(recentAlerts);
+    }
+    
+    private void checkBurn(SloStatus status, Sli sli, Map<String, WindowStatus> windows) {
+        if (windows.get(LONG_FAST.name()).getTotal() >= properties.getMinRequests()
+                && windows.get(LONG_FAST.name()).getBurnRate() > properties.getFastBurnThreshold()
+                && windows.get(SHORT_FAST.name()).getBurnRate() > properties.getFastBurnThreshold()) {
+            alert(status, sli, "page", LONG_FAST, SHORT_FAST, properties.getFastBurnThreshold(), windows);
+        } else if (windows.get(LONG_SLOW.name()).getTotal() >= properties.getMinRequests()
+                && windows.get(LONG_SLOW.name()).getBurnRate() > properties.getSlowBurnThreshold()
+                && windows.get(SHORT_SLOW.name()).getBurnRate() > properties.getSlowBurnThreshold()) {
+            alert(status, sli, "ticket", LONG_SLOW, SHORT_SLOW, properties.getSlowBurnThreshold(), windows);
+        }
+    }
+    
+    private void alert(SloStatus status, Sli sli, String severity, Window longWindow, Window shortWindow,
+                       double threshold, Map<String, WindowStatus> windows) {
+        String key = status.getName() + "|" + sli + "|" + severity;
+        long now = clock.millis();
+        long cooldown = properties.getAlertCooldown().toMillis();
+        Long previous = lastAlertMillis.get(key);
+        if (previous != null && now - previous < cooldown) {
+            return;
+        }
+        lastAlertMillis.put(key, now);
+        
+        SloAlert alert = SloAlert.builder()
+                .timestamp(LocalDateTime.now(clock))
+                .objective(status.getName())
+                .route(status.getRoute())
+                .sli(sli.name().toLowerCase())
+                .severity(severity)
+                .threshold(threshold)
+                .longWindow(longWindow.name())
+                .longWindowBurnRate(windows.get(longWindow.name()).getBurnRate())
+                .shortWindow(shortWindow.name())
+                .shortWindowBurnRate(windows.get(shortWindow.name()).getBurnRate())
+                .build();
+        recentAlerts.addFirst(alert);
+        while (recentAlerts.size() > RECENT_ALERT_LIMIT) {
+            recentAlerts.pollLast();
+        }
+        
+        log.warn("event=slo_burn_rate_alert objective=\"{}\" route=\"{}\" sli={} severity={} threshold={} "
+                        + "window_long={} burn_long={} window_short={} burn_short={}",
+                alert.getObjective(), alert.getRoute(), alert.getSli(), severity, threshold,
+                alert.getLongWindow(), String.format("%.2f", alert.getLongWindowBurnRate()),
+                alert.getShortWindow(), String.format("%.2f", alert.getShortWindowBurnRate()));
+    }
+    
+    private WindowStatus windowStatus(long total, long bad, double objective) {
+        double errorBudget = 1.0 - objective;
+        double badRatio = total == 0 ? 0.0 : (double) bad / total;
+        double burnRate = errorBudget <= 0 ? 0.0 : badRatio / errorBudget;
+        return WindowStatus.builder()
+                .total(total)
+                .bad(bad)
+                .compliance(total == 0 ? 1.0 : 1.0 - badRatio)
+                .burnRate(burnRate)
+                .budgetRemaining(1.0 - burnRate)
+                .build();
+    }
+    
+    private long currentMinute() {
+        return clock.millis() / Duration.ofMinutes(1).toMillis();
+    }
+    
+    /**
+     * Replaces the time source, so tests can move through the alert windows.
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+    
+    private enum Sli {
+        AVAILABILITY, LATENCY
+    }
+    
+    private record Window(String name, int minutes) {
+    }
+    
+    /**
+     * Per-minute request, error and slow counters in a ring buffer.
+     * A slot is reset lazily when it is first written in a new minute.
+     */
+    private static final class MinuteCounters {
+        private final AtomicLongArray slotMinute = new AtomicLongArray(BUFFER_MINUTES);
+        private final AtomicLongArray total = new AtomicLongArray(BUFFER_MINUTES);
+        private final AtomicLongArray errors = new AtomicLongArray(BUFFER_MINUTES);
+        private final AtomicLongArray slow = new AtomicLongArray(BUFFER_MINUTES);
+        
+        private void record(long minute, boolean error, boolean slowRequest) {
+            int slot = (int) (minute % BUFFER_MINUTES);
+            long stamped = slotMinute.get(slot);
+            if (stamped != minute && slotMinute.compareAndSet(slot, stamped, minute)) {
+                total.set(slot, 0);
+                errors.set(slot, 0);
+                slow.set(slot, 0);
+            }
+            total.incrementAndGet(slot);
+            if (error) {
+                errors.incrementAndGet(slot);
+            }
+            if (slowRequest) {
+                slow.incrementAndGet(slot);
+            }
+        }
+        
+        /**
+         * Sums the last {@code minutes} minutes including the current one.
+         * 
+         * @return {total, errors, slow}
+         */
+        private long[] sum(long currentMinute, int minutes) {
+            long[] sums = new long[3];
+            for (int i = 0; i < minutes; i++) {
+                long minute = currentMinute - i;
+                int slot = (int) (minute % BUFFER_MINUTES);
+                if (slotMinute.get(slot) == minute) {
+                    sums[0] += total.get(slot);
+                    sums[1] += errors.get(slot);
+                    sums[2] += slow.get(slot);
+                }
+            }
+            return sums;
+        }
+    }
+    
+    /**
+     * Compliance and burn rate of one SLI over one window.
+     * A burn rate of 1 consumes the error budget exactly over the SLO period.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WindowStatus {
+        private long total;
+        private long bad;
+        private double compliance;
+        private double burnRate;
+        private double budgetRemaining;
+    }
+    
+    /**
+     * Current status of one objective.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SloStatus {
+        private String name;
+        private String route;
+        private long latencyThresholdMs;
+        private double latencyObjective;
+        private double availabilityObjective;
+        private Map<String, WindowStatus> availability;
+        private Map<String, WindowStatus> latency;
+        private double availabilityBudgetRemaining; // Over the 6h window
+        private double latencyBudgetRemaining; // Over the 6h window
+    }
+    
+    /**
+     * Burn-rate alert event.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SloAlert {
+        private LocalDateTime timestamp;
+        private String objective;
+        private String route;
+        private String sli;
+        private String severity;
+        private double threshold;
+        private String longWindow;
+        private double longWindowBurnRate;
+        private String shortWindow;
+        private double shortWindowBurnRate;
+    }
+}
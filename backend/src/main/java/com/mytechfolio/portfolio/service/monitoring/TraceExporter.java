@@ -0,0 +1,307 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mytechfolio.portfolio.util.TraceContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exports finished traces as OTLP/JSON ({@code ExportTraceServiceRequest}) lines.
+ * Request threads only enqueue; a single background thread serialises traces,
+ * appends them to a size-rotated local file and optionally posts them to an
+ * OTLP/HTTP collector. When the queue is full traces are dropped and counted,
+ * never blocking the request.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TraceExporter {
+    
+    private static final String SCOPE_NAME = "com.mytechfolio.portfolio.tracing";
+    
+    private final ObjectMapper objectMapper;
+    
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    
+    private BlockingQueue<TraceContext> queue;
+    private Thread worker;
+    private volatile boolean running;
+    private BufferedWriter writer;
+    private long fileBytes;
+    private HttpClient httpClient;
+    
+    @Value("${spring.application.name:portfolio-backend}")
+    private String serviceName;
+    
+    @Value("${app.tracing.queue-capacity:1000}")
+    private int queueCapacity;
+    
+    @Value("${app.tracing.export.file:./traces/spans.jsonl}")
+    private String exportFile;
+    
+    @Value("${app.tracing.export.max-file-bytes:52428800}")
+    private long maxFileBytes;
+    
+    @Value("${app.tracing.export.max-files:5}")
+    private int maxFiles;
+    
+    @Value("${app.tracing.export.otlp-endpoint:}")
+    private String otlpEndpoint;
+    
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        if (!otlpEndpoint.isBlank()) {
+            httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        }
+        running = true;
+        worker = new Thread(this::drain, "trace-exporter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+    
+    /**
+     * Queues a finished trace for export.
+     * 
+     * @param trace Finished trace
+     */
+    public void export(TraceContext trace) {
+        if (!queue.offer(trace)) {
+            dropped.increment();
+        }
+    }
+    
+    /**
+     * Gets exporter counters.
+     * 
+     * @return Exported, dropped and failed trace counts and current queue depth
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("exported", exported.sum());
+        statistics.put("dropped", dropped.sum());
+        statistics.put("failed", failed.sum());
+        statistics.put("queued", (long) queue.size());
+        return statistics;
+    }
+    
+    /**
+     * Worker loop. The worker is the only thread touching the file, so it also closes it on exit.
+     */
+    private void drain() {
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    TraceContext trace = queue.poll(1, TimeUnit.SECONDS);
+                    if (trace == null) {
+                        flushQuietly();
+                        continue;
+                    }
+                    String line = objectMapper.writeValueAsString(toOtlp(trace));
+                    writeLine(line);
+                    if (httpClient != null) {
+                        post(line);
+                    }
+                    exported.increment();
+                } catch (InterruptedException e) {
+                    // Interrupted by stop() after the drain timeout
+                    return;
+                } catch (Exception e) {
+                    failed.increment();
+                    log.debug("Failed to export trace: {}", e.getMessage());
+                }
+            }
+        } finally {
+            // An interrupt still pending would make the file channel close itself instead of flushing
+            Thread.interrupted();
+            closeQuietly();
+        }
+    }
+    
+    private void writeLine(String line) throws IOException {
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        if (writer == null || fileBytes + bytes.length > maxFileBytes) {
+            rotate();
+        }
+        writer.write(line);
+        writer.newLine();
+        fileBytes += bytes.length;
+    }
+    
+    /**
+     * Closes the current file and shifts spans.jsonl -> spans.jsonl.1 -> ... up to max-files.
+     */
+    private void rotate() throws IOException {
+        Path file = Paths.get(exportFile).toAbsolutePath();
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file) && Files.size(file) > 0) {
+            Files.deleteIfExists(Paths.get(file + "." + (maxFiles - 1)));
+            for (int i = maxFiles - 2; i >= 1; i--) {
+                Path source = Paths.get(file + "." + i);
+                if (Files.exists(source)) {
+                    Files.move(source, Paths.get(file + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 1) {
+                Files.move(file, Paths.get(file + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(file);
+            }
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileBytes = 0;
+    }
+    
+    private void post(String body) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(otlpEndpoint))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                failed.increment();
+                log.debug("OTLP collector returned {}", response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failed.increment();
+            log.debug("Failed to post trace to OTLP collector: {}", e.getMessage());
+        }
+    }
+    
+    private void closeQuietly() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.debug("Failed to close trace file: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+    
+    private void flushQuietly() {
+        if (writer != null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                log.debug("Failed to flush trace file: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Maps a trace to the OTLP/JSON ExportTraceServiceRequest layout.
+     */
+    private Map<String, Object> toOtlp(TraceContext trace) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (TraceContext.Span span : trace.getFinishedSpans()) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", span.getTraceId());
+            otlpSpan.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                otlpSpan.put("parentSpanId", span.getParentSpanId());
+            }
+            otlpSpan.put("name", span.getName());
+            otlpSpan.put("kind", span.getKind().getOtlpValue());
+            otlpSpan.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+            otlpSpan.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+            otlpSpan.put("attributes", toAttributes(span.getAttributes()));
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("code", span.isError() ? 2 : 1);
+            if (span.getStatusMessage() != null) {
+                status.put("message", span.getStatusMessage());
+            }
+            otlpSpan.put("status", status);
+            spans.add(otlpSpan);
+        }
+        
+        Map<String, Object> resourceAttributes = new LinkedHashMap<>();
+        resourceAttributes.put("service.name", serviceName);
+        resourceAttributes.put("tracing.sampling", trace.isHeadSampled() ? "head" : "tail");
+        resourceAttributes.put("tracing.dropped_spans", trace.getDroppedSpans());
+        
+        return Map.of("resourceSpans", List.of(Map.of(
+                "resource", Map.of("attributes", toAttributes(resourceAttributes)),
+                "scopeSpans", List.of(Map.of(
+                        "scope", Map.of("name", SCOPE_NAME),
+                        "spans", spans)))));
+    }
+    
+    private List<Map<String, Object>> toAttributes(Map<String, Object> attributes) {
+        List<Map<String, Object>> result = new ArrayList<>(attributes.size());
+        attributes.forEach((key, value) -> {
+            Map<String, Object> anyValue;
+            if (value instanceof Integer || value instanceof Long) {
+                anyValue = Map.of("intValue", String.valueOf(value));
+            } else if (value instanceof Boolean) {
+                anyValue = Map.of("boolValue", value);
+            } else if (value instanceof Number) {
+                anyValue = Map.of("doubleValue", value);
+            } else {
+                anyValue = Map.of("stringValue", String.valueOf(value));
+            }
+            result.add(Map.of("key", key, "value", anyValue));
+        });
+        return result;
+    }
+    
+    /**
+     * Lets the worker drain the queue for up to 5 seconds, then interrupts it
+     * (e.g. while it waits on a slow collector); the worker closes the file either way.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+            if (worker.isAlive()) {
+                log.debug("Trace exporter did not drain in time, {} traces left", queue.size());
+                worker.interrupt();
+                worker.join(TimeUnit.SECONDS.toMillis(1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
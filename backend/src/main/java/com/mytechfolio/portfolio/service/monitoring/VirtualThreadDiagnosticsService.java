@@ -0,0 +1,160 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.util.BucketHistogram;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Surfaces virtual-thread health as metrics.
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event (a virtual thread that
+ * blocked while pinned to its carrier, e.g. inside {@code synchronized}) and
+ * {@code jdk.VirtualThreadSubmitFailed}, counting pinning per application frame
+ * so the offending code path can be found without a full recording.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class VirtualThreadDiagnosticsService {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String APPLICATION_PACKAGE = "com.mytechfolio.";
+    private static final int MAX_TRACKED_FRAMES = 200;
+    
+    private final BucketHistogram pinnedDurationMillis = BucketHistogram.latencyMillis();
+    private final Map<String, LongAdder> pinnedByFrame = new ConcurrentHashMap<>();
+    private final LongAdder submitFailures = new LongAdder();
+    private RecordingStream stream;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+    
+    @Value("${app.performance.virtual-threads.pinning-monitor.enabled:${spring.threads.virtual.enabled:false}}")
+    private boolean pinningMonitorEnabled;
+    
+    @Value("${app.performance.virtual-threads.pinning-threshold:20ms}")
+    private Duration pinningThreshold;
+    
+    @PostConstruct
+    void start() {
+        if (!pinningMonitorEnabled) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(pinningThreshold).withStackTrace();
+            stream.enable(SUBMIT_FAILED_EVENT);
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailures.increment());
+            stream.startAsync();
+            log.info("Virtual thread pinning monitor started (threshold {})", pinningThreshold);
+        } catch (Exception e) {
+            log.warn("Could not start virtual thread pinning monitor: {}", e.getMessage());
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        pinnedDurationMillis.record(event.getDuration().toMillis());
+        String frame = firstApplicationFrame(event.getStackTrace());
+        LongAdder counter = pinnedByFrame.get(frame);
+        if (counter == null) {
+            if (pinnedByFrame.size() >= MAX_TRACKED_FRAMES) {
+                frame = "(other)";
+            }
+            counter = pinnedByFrame.computeIfAbsent(frame, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+    
+    /**
+     * Finds the innermost frame of our own code, falling back to the top frame.
+     */
+    private String firstApplicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return format(stackTrace.getFrames().get(0));
+    }
+    
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+    
+    /**
+     * Gets threading mode, pinning and memory statistics.
+     * 
+     * @return Virtual thread diagnostics
+     */
+    public VirtualThreadStatistics getStatistics() {
+        BucketHistogram.Snapshot pinned = pinnedDurationMillis.snapshot();
+        Map<String, Long> byFrame = new LinkedHashMap<>();
+        pinnedByFrame.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(20)
+                .forEach(e -> byFrame.put(e.getKey(), e.getValue().sum()));
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return VirtualThreadStatistics.builder()
+                .virtualThreadsEnabled(virtualThreadsEnabled)
+                .pinningMonitorActive(stream != null)
+                .pinnedEvents(pinned.getCount())
+                .pinnedDurationHistogram(pinned)
+                .pinnedByFrame(byFrame)
+                .submitFailures(submitFailures.sum())
+                .platformThreads(ManagementFactory.getThreadMXBean().getThreadCount())
+                .heapUsedBytes(heap.getUsed())
+                .heapCommittedBytes(heap.getCommitted())
+                .build();
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+    
+    /**
+     * Virtual thread diagnostics.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VirtualThreadStatistics {
+        private boolean virtualThreadsEnabled;
+        private boolean pinningMonitorActive;
+        private long pinnedEvents;
+        private BucketHistogram.Snapshot pinnedDurationHistogram;
+        private Map<String, Long> pinnedByFrame; // Top 20 application frames by pinning count
+        private long submitFailures;
+        private int platformThreads; // Live platform threads (virtual threads are not counted)
+        private long heapUsedBytes;
+        private long heapCommittedBytes;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mytechfolio.portfolio.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mytechfolio.portfolio.config.RateLimitProperties;
+import com.mytechfolio.portfolio.util.RouteClass;
+import com.mytechfolio.portfolio.util.TokenBucket;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory rate limit backend with one token bucket per client and route class.
+ * Buckets live in size-bounded Caffeine caches (striped, lock-free reads), so a
+ * flood of distinct client addresses cannot exhaust the heap. A bucket untouched
+ * for a full period has refilled completely, so expiring it after one period of
+ * inactivity never lets a client exceed its limit.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBackend implements RateLimitBackend {
+    
+    private static final long PERIOD_NANOS = TimeUnit.MINUTES.toNanos(1);
+    
+    private final Map<RouteClass, Cache<String, TokenBucket>> buckets = new EnumMap<>(RouteClass.class);
+    
+    public LocalRateLimitBackend(RateLimitProperties properties) {
+        for (RouteClass routeClass : RouteClass.values()) {
+            buckets.put(routeClass, Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxClients())
+                    .expireAfterAccess(Duration.ofNanos(PERIOD_NANOS))
+                    .build());
+        }
+    }
+    
+    @Override
+    public RateLimitDecision tryAcquire(RouteClass routeClass, String client, int limitPerMinute) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(routeClass).get(client, key -> new TokenBucket(now));
+        long result = bucket.tryTake(limitPerMinute, PERIOD_NANOS, now);
+        if (result >= 0) {
+            return RateLimitDecision.allowed(limitPerMinute, result);
+        }
+        return RateLimitDecision.rejected(limitPerMinute, TimeUnit.NANOSECONDS.toSeconds(-result - 1) + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mytechfolio.portfolio.service.ratelimit;
+
+import com.mytechfolio.portfolio.domain.RateLimitCounter;
+import com.mytechfolio.portfolio.util.RouteClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Shared rate limit backend using fixed one-minute windows in MongoDB.
+ * Every instance increments the same counter document, so limits hold across
+ * replicas at the cost of one atomic upsert per request. Counters expire via TTL.
+ * If MongoDB is unavailable requests are allowed rather than rejected.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "mongo")
+@RequiredArgsConstructor
+public class MongoRateLimitBackend implements RateLimitBackend {
+    
+    private static final long WINDOW_MILLIS = 60_000;
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public RateLimitDecision tryAcquire(RouteClass routeClass, String client, int limitPerMinute) {
+        long nowMillis = System.currentTimeMillis();
+        long window = nowMillis / WINDOW_MILLIS;
+        long windowEndMillis = (window + 1) * WINDOW_MILLIS;
+        try {
+            RateLimitCounter counter = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(routeClass.name() + ":" + client + ":" + window)),
+                    new Update().inc("count", 1).setOnInsert("expireAt", new Date(windowEndMillis + WINDOW_MILLIS)),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    RateLimitCounter.class);
+            long count = counter != null ? counter.getCount() : 1;
+            if (count > limitPerMinute) {
+                return RateLimitDecision.rejected(limitPerMinute, (windowEndMillis - nowMillis + 999) / 1000);
+            }
+            return RateLimitDecision.allowed(limitPerMinute, limitPerMinute - count);
+        } catch (Exception e) {
+            log.warn("Rate limit check failed, allowing request: {}", e.getMessage());
+            return RateLimitDecision.allowed(limitPerMinute, limitPerMinute);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mytechfolio.portfolio.service.ratelimit;
+
+import com.mytechfolio.portfolio.util.RouteClass;
+
+/**
+ * Storage for per-client rate limit state.
+ * Supports an in-memory implementation for single instances and a shared one
+ * for deployments with several replicas behind a load balancer.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public interface RateLimitBackend {
+    
+    /**
+     * Counts one request against a client's limit.
+     * 
+     * @param routeClass Route class of the request
+     * @param client Client key (IP address)
+     * @param limitPerMinute Allowed requests per minute
+     * @return Decision including remaining requests or retry delay
+     */
+    RateLimitDecision tryAcquire(RouteClass routeClass, String client, int limitPerMinute);
+}
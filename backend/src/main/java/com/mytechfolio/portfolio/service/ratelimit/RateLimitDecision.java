@@ -0,0 +1,28 @@
+package com.mytechfolio.portfolio.service.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a rate limit check.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitDecision {
+    
+    private final boolean allowed;
+    private final int limit;
+    private final long remaining;
+    private final long retryAfterSeconds;
+    
+    public static RateLimitDecision allowed(int limit, long remaining) {
+        return new RateLimitDecision(true, limit, remaining, 0);
+    }
+    
+    public static RateLimitDecision rejected(int limit, long retryAfterSeconds) {
+        return new RateLimitDecision(false, limit, 0, Math.max(1, retryAfterSeconds));
+    }
+}
@@ -0,0 +1,139 @@
+package com.mytechfolio.portfolio.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latency-gradient concurrency limiter.
+ * Tracks a long-term (baseline) and short-term average latency. When the short-term
+ * latency rises above the baseline, queueing is building somewhere downstream
+ * (typically the MongoDB connection pool) and the limit shrinks proportionally;
+ * while latency stays at baseline the limit grows by roughly sqrt(limit).
+ * Requests above the limit are rejected immediately instead of queueing.
+ * 
+ * Acquire/release are lock-free; the limit is recomputed once per sample window
+ * by whichever thread wins a tryLock, so no request ever waits on the update.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // Ratio of baseline to short-term latency tolerated before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW_WEIGHT = 1.0 / 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile double shortRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int windowSize) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = windowSize;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @return true if the request may proceed and must later call {@link #release}
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Releases an admitted request.
+     *
+     * @param rttNanos Request latency
+     * @param sample Whether the latency is representative (false for failures that ended early)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (!sample) {
+            return;
+        }
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        if (windowSamples.sum() >= windowSize && updateLock.tryLock()) {
+            try {
+                long samples = windowSamples.sumThenReset();
+                long total = windowRttNanos.sumThenReset();
+                if (samples > 0) {
+                    updateLimit((double) total / samples, inFlightAtCompletion);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void updateLimit(double windowRtt, int observedInFlight) {
+        shortRttNanos = windowRtt;
+        if (longRttNanos == 0) {
+            longRttNanos = windowRtt;
+            return;
+        }
+        longRttNanos = longRttNanos * (1 - LONG_WINDOW_WEIGHT) + windowRtt * LONG_WINDOW_WEIGHT;
+        // After an overload the baseline drifts up; pull it back as latency recovers
+        if (longRttNanos / windowRtt > 2) {
+            longRttNanos = longRttNanos * 0.95;
+        }
+
+        // Application-limited: traffic does not use the limit, so there is no evidence to raise it
+        if (observedInFlight < limit / 2 && windowRtt <= longRttNanos * TOLERANCE) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / windowRtt));
+        double queueAllowance = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueAllowance;
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getLongRttMs() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    public double getShortRttMs() {
+        return shortRttNanos / 1_000_000.0;
+    }
+}
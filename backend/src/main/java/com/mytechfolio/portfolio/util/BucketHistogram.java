@@ -0,0 +1,209 @@
+package com.mytechfolio.portfolio.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free fixed-bucket histogram.
+ * Records values into pre-defined upper bounds so memory stays constant
+ * regardless of traffic, and percentiles can be estimated from bucket counts.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public class BucketHistogram {
+
+    private static final long[] LATENCY_MILLIS_BOUNDS = {
+        1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000
+    };
+
+    private static final long[] LATENCY_MICROS_BOUNDS = {
+        100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000, 1_000_000, 5_000_000
+    };
+
+    private static final long[] BYTES_BOUNDS = {
+        256, 1_024, 4_096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216
+    };
+
+    private static final long[] ALLOCATION_BYTES_BOUNDS = {
+        16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216, 67_108_864, 268_435_456
+    };
+
+    private final long[] upperBounds;
+    private final AtomicLongArray counts; // last slot is the overflow bucket
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public BucketHistogram(long[] upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        this.counts = new AtomicLongArray(upperBounds.length + 1);
+    }
+
+    /**
+     * Histogram suited for request latencies in milliseconds.
+     */
+    public static BucketHistogram latencyMillis() {
+        return new BucketHistogram(LATENCY_MILLIS_BOUNDS);
+    }
+
+    /**
+     * Histogram suited for sub-millisecond latencies in microseconds.
+     */
+    public static BucketHistogram latencyMicros() {
+        return new BucketHistogram(LATENCY_MICROS_BOUNDS);
+    }
+
+    /**
+     * Histogram suited for payload sizes in bytes.
+     */
+    public static BucketHistogram bytes() {
+        return new BucketHistogram(BYTES_BOUNDS);
+    }
+
+    /**
+     * Histogram suited for per-request heap allocation in bytes.
+     */
+    public static BucketHistogram allocationBytes() {
+        return new BucketHistogram(ALLOCATION_BYTES_BOUNDS);
+    }
+
+    /**
+     * Records a single value.
+     *
+     * @param value Value to record (negative values are ignored)
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Takes a point-in-time copy of the histogram.
+     * Concurrent updates may be partially visible, which is acceptable for monitoring.
+     *
+     * @return Histogram snapshot
+     */
+    public Snapshot snapshot() {
+        long[] bucketCounts = new long[counts.length()];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = counts.get(i);
+        }
+        return new Snapshot(upperBounds.clone(), bucketCounts, count.sum(), sum.sum(), max.get());
+    }
+
+    private int bucketIndex(long value) {
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (value <= upperBounds[i]) {
+                return i;
+            }
+        }
+        return upperBounds.length;
+    }
+
+    /**
+     * Immutable histogram snapshot.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private long[] upperBounds;
+        private long[] bucketCounts;
+        private long count;
+        private long sum;
+        private long max;
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Estimates a percentile from bucket counts.
+         * Returns the upper bound of the bucket containing the requested rank,
+         * capped at the observed maximum.
+         *
+         * @param percentile Percentile in range (0, 100]
+         * @return Estimated value, or 0 if no data
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * (percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return i < upperBounds.length ? Math.min(upperBounds[i], max) : max;
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Computes the values recorded since an earlier snapshot of the same histogram.
+         * The exact maximum of the interval is unknown unless it raised the overall
+         * maximum, so otherwise it is estimated from the highest non-empty bucket.
+         *
+         * @param earlier Earlier snapshot, or null to return a copy of this snapshot
+         * @return Interval snapshot
+         */
+        public Snapshot minus(Snapshot earlier) {
+            if (earlier == null || !compatibleWith(earlier)) {
+                return new Snapshot(upperBounds.clone(), bucketCounts.clone(), count, sum, max);
+            }
+            long[] delta = new long[bucketCounts.length];
+            int highest = -1;
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = Math.max(0, bucketCounts[i] - earlier.bucketCounts[i]);
+                if (delta[i] > 0) {
+                    highest = i;
+                }
+            }
+            long intervalMax = 0;
+            if (highest >= 0) {
+                intervalMax = max > earlier.max || highest >= upperBounds.length
+                        ? max
+                        : Math.min(upperBounds[highest], max);
+            }
+            return new Snapshot(upperBounds.clone(), delta,
+                    Math.max(0, count - earlier.count), Math.max(0, sum - earlier.sum), intervalMax);
+        }
+
+        /**
+         * Merges two snapshots with the same bucket layout.
+         *
+         * @param other Snapshot to add, may be null
+         * @return Combined snapshot
+         */
+        public Snapshot plus(Snapshot other) {
+            if (other == null || !compatibleWith(other)) {
+                return new Snapshot(upperBounds.clone(), bucketCounts.clone(), count, sum, max);
+            }
+            long[] merged = new long[bucketCounts.length];
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] = bucketCounts[i] + other.bucketCounts[i];
+            }
+            return new Snapshot(upperBounds.clone(), merged, count + other.count, sum + other.sum,
+                    Math.max(max, other.max));
+        }
+
+        private boolean compatibleWith(Snapshot other) {
+            return Arrays.equals(upperBounds, other.upperBounds)
+                    && bucketCounts.length == other.bucketCounts.length;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mytechfolio.portfolio.util;
+
+import com.mytechfolio.portfolio.repository.ProjectFilter;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds normalised cache keys, so equivalent requests share one cache entry.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class CacheKeys {
+    
+    private CacheKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+    
+    /**
+     * Parses a comma-separated ID list into a trimmed, de-duplicated, sorted list.
+     * 
+     * @return Normalised IDs, or null if none were given
+     */
+    public static List<String> normalizeIds(String commaSeparatedIds) {
+        if (commaSeparatedIds == null || commaSeparatedIds.isBlank()) {
+            return null;
+        }
+        List<String> ids = Arrays.stream(commaSeparatedIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        return ids.isEmpty() ? null : ids;
+    }
+    
+    /**
+     * Key for a project list page.
+     * Page and size are clamped and the sort resolved exactly as the query does.
+     */
+    public static String projectPage(int page, int size, String sort, ProjectFilter filter) {
+        Pageable pageable = PaginationUtil.createPageable(
+                page, size, PaginationUtil.parseSort(ResourceQueryFields.PROJECT, sort));
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort()
+                + ":" + (filter != null ? filter : ProjectFilter.none()).cacheKey();
+    }
+}
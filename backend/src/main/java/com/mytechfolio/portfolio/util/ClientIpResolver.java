@@ -0,0 +1,28 @@
+package com.mytechfolio.portfolio.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the originating client IP address of a request.
+ * Forwarding headers are client-controlled, so they are never read here: the address
+ * is {@link HttpServletRequest#getRemoteAddr()}, which Tomcat's RemoteIpValve
+ * ({@code server.forward-headers-strategy=native}) rewrites to the right-most
+ * X-Forwarded-For hop that is not a trusted proxy ({@code server.tomcat.remoteip.internal-proxies}).
+ * Rate limits keyed on this address cannot be reset by sending a new header.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the client IP address as resolved by the container.
+     */
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mytechfolio.portfolio.util;
+
+/**
+ * How offset pagination obtains the total count.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public enum CountMode {
+
+    /** Run a count query for every page. */
+    EXACT,
+    /** Skip the count; {@code hasNext} comes from fetching one extra document. */
+    NONE,
+    /**
+     * Serve the count from a per-filter cache invalidated on writes, or from the collection
+     * metadata estimate for unfiltered queries. Reported as not exact unless freshly counted.
+     */
+    CACHED
+}
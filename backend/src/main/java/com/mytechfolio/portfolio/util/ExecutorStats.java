@@ -0,0 +1,82 @@
+package com.mytechfolio.portfolio.util;
+
+import lombok.Getter;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for one task executor.
+ * Provides the task decorator that measures queue wait and execution time and
+ * propagates the MDC (request ID) of the submitting thread, and wraps the
+ * rejection policy so rejections are counted.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Getter
+public class ExecutorStats {
+
+    private final String name;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final BucketHistogram queueWaitMicros = BucketHistogram.latencyMicros();
+    private final BucketHistogram executionMillis = BucketHistogram.latencyMillis();
+
+    public ExecutorStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates the task decorator applied at submission time.
+     *
+     * @return Measuring, MDC-propagating decorator
+     */
+    public TaskDecorator taskDecorator() {
+        return task -> {
+            submitted.increment();
+            long submittedAt = System.nanoTime();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWaitMicros.record((startedAt - submittedAt) / 1_000);
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    task.run();
+                    completed.increment();
+                } catch (RuntimeException | Error e) {
+                    failed.increment();
+                    throw e;
+                } finally {
+                    executionMillis.record((System.nanoTime() - startedAt) / 1_000_000);
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        };
+    }
+
+    /**
+     * Wraps a rejection policy so every rejection is counted before it is applied.
+     *
+     * @param policy Policy to apply
+     * @return Counting policy
+     */
+    public RejectedExecutionHandler countingRejections(RejectedExecutionHandler policy) {
+        return (task, executor) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.mytechfolio.portfolio.util;
+
+import com.mytechfolio.portfolio.dto.response.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination over a MongoDB collection.
+ * Each page continues from the sort key and {@code _id} of the previous page's last
+ * document instead of skipping, so deep pages cost the same as the first one, and no
+ * count query is run. {@code _id} breaks ties in the sort direction, so the backing
+ * index should end with {@code _id} to serve the sort without an in-memory sort.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPaginator {
+    
+    private static final String ID_FIELD = "_id";
+    
+    private final MongoTemplate mongoTemplate;
+    private final CursorCodec cursorCodec;
+    
+    /**
+     * Fetches the page after a cursor.
+     * 
+     * @param entityClass Document type
+     * @param baseQuery Filter (and optional index hint); not modified
+     * @param sort Single-field sort
+     * @param size Requested page size
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param mapper Entity to response mapper
+     * @return Page with {@code nextCursor} set when more results exist
+     * @throws IllegalArgumentException if the cursor is invalid or was issued for another resource or sort
+     */
+    public <T, R> PageResponse<R> scroll(Class<T> entityClass, Query baseQuery, Sort sort, int size,
+                                         String cursor, Function<T, R> mapper) {
+        return scrollBatch(entityClass, baseQuery, sort, size, cursor,
+                entities -> entities.stream().map(mapper).toList());
+    }
+    
+    /**
+     * Fetches the page after a cursor, converting the page's entities in one call.
+     * Use this when the conversion batches lookups of referenced documents.
+     */
+    public <T, R> PageResponse<R> scrollBatch(Class<T> entityClass, Query baseQuery, Sort sort, int size,
+                                              String cursor, Function<List<T>, List<R>> batchMapper) {
+        Sort.Order order = sort.iterator().next();
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        int pageSize = PaginationUtil.normalizeSize(size);
+        
+        Query query = pageQuery(entityClass, baseQuery, sort, pageSize, cursor);
+        List<T> entities = mongoTemplate.find(query, entityClass);
+        boolean hasNext = entities.size() > pageSize;
+        List<T> pageEntities = hasNext ? entities.subList(0, pageSize) : entities;
+        
+        return PageResponse.<R>builder()
+                .size(pageSize)
+                .hasNext(hasNext)
+                .items(batchMapper.apply(pageEntities))
+                .nextCursor(hasNext ? encodeCursor(collection, order, pageEntities.get(pageSize - 1)) : null)
+                .build();
+    }
+    
+    /**
+     * Builds the query for the page after a cursor: base filter, keyset condition,
+     * sort with the {@code _id} tie-breaker, and one extra document to detect a next page.
+     * 
+     * @throws IllegalArgumentException if the cursor is invalid or was issued for another resource or sort
+     */
+    public Query pageQuery(Class<?> entityClass, Query baseQuery, Sort sort, int size, String cursor) {
+        Sort.Order order = sort.iterator().next();
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        int pageSize = PaginationUtil.normalizeSize(size);
+        
+        Query query = Query.of(baseQuery != null ? baseQuery : new Query());
+        if (cursor != null && !cursor.isBlank()) {
+            Document state = cursorCodec.decode(cursor);
+            if (!collection.equals(state.getString("c"))
+                    || !order.getProperty().equals(state.getString("f"))
+                    || !order.getDirection().name().equals(state.getString("d"))) {
+                throw new IllegalArgumentException("Cursor does not match the requested resource or sort");
+            }
+            query.addCriteria(after(order, state.get("v"), state.get("id")));
+        }
+        query.with(Sort.by(order, new Sort.Order(order.getDirection(), ID_FIELD)));
+        // One extra document tells whether another page exists
+        query.limit(pageSize + 1);
+        return query;
+    }
+    
+    /**
+     * Builds the keyset condition for documents sorting after (value, id).
+     * Documents without the field sort lowest: in descending order the bound uses {@code $not}
+     * so they are still reached after the last value, while in ascending order they were already
+     * returned first, so a plain {@code $gte} excludes them. Either way the index scan starts at the last key.
+     */
+    private Criteria after(Sort.Order order, Object value, Object id) {
+        String field = order.getProperty();
+        boolean descending = order.isDescending();
+        if (value == null) {
+            // Last document had no value: only missing/null values remain in descending order
+            return descending
+                    ? new Criteria().andOperator(Criteria.where(field).is(null), Criteria.where(ID_FIELD).lt(id))
+                    : new Criteria().andOperator(
+                            new Criteria().norOperator(Criteria.where(field).is(null).and(ID_FIELD).lte(id)));
+        }
+        Criteria range = descending ? Criteria.where(field).not().gt(value) : Criteria.where(field).gte(value);
+        Criteria seenTies = descending
+                ? Criteria.where(field).is(value).and(ID_FIELD).gte(id)
+                : Criteria.where(field).is(value).and(ID_FIELD).lte(id);
+        return new Criteria().andOperator(range, new Criteria().norOperator(seenTies));
+    }
+    
+    private String encodeCursor(String collection, Sort.Order order, Object lastEntity) {
+        // Store stored (mapped) values so the next query compares like with like
+        Document stored = new Document();
+        mongoTemplate.getConverter().write(lastEntity, stored);
+        return cursorCodec.encode(new Document("c", collection)
+                .append("f", order.getProperty())
+                .append("d", order.getDirection().name())
+                .append("v", stored.get(order.getProperty()))
+                .append("id", stored.get(ID_FIELD)));
+    }
+}
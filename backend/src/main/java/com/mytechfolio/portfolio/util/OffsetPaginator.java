@@ -0,0 +1,142 @@
+package com.mytechfolio.portfolio.util;
+
+import com.mytechfolio.portfolio.config.CacheConfig;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Offset (page number) pagination with a selectable count strategy.
+ * Every mode fetches one document more than the page size, so {@code hasNext} never needs
+ * the total; the count query only runs when the caller asks for an exact total.
+ * When the last page is reached, the total is known without counting in every mode.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class OffsetPaginator {
+    
+    private static final String KEY_SEPARATOR = "|";
+    
+    private final MongoTemplate mongoTemplate;
+    private final CacheManager cacheManager;
+    
+    /**
+     * Fetches one page.
+     * 
+     * @param entityClass Document type
+     * @param filterQuery Filter (and optional index hint); not modified
+     * @param pageable Page, size and sort
+     * @param countMode Count strategy
+     * @param batchMapper Converts the page's entities in one call
+     * @param originalPage Requested 1-based page number, echoed in the response
+     * @return Page response; {@code total} is omitted when not counted
+     */
+    public <T, R> PageResponse<R> page(Class<T> entityClass, Query filterQuery, Pageable pageable,
+                                       CountMode countMode, Function<List<T>, List<R>> batchMapper,
+                                       int originalPage) {
+        int size = pageable.getPageSize();
+        Query query = Query.of(filterQuery).with(pageable).limit(size + 1);
+        List<T> entities = mongoTemplate.find(query, entityClass);
+        boolean hasNext = entities.size() > size;
+        List<T> content = hasNext ? entities.subList(0, size) : entities;
+        
+        PageResponse.PageResponseBuilder<R> response = PageResponse.<R>builder()
+                .page(originalPage)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(pageable.getOffset() > 0)
+                .items(batchMapper.apply(content));
+        
+        Long total;
+        boolean exact;
+        if (!hasNext && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            // Last page: the total follows from the offset
+            total = pageable.getOffset() + content.size();
+            exact = true;
+        } else if (countMode == CountMode.EXACT) {
+            total = countExact(entityClass, filterQuery);
+            exact = true;
+        } else if (countMode == CountMode.CACHED) {
+            CachedCount cached = countCached(entityClass, filterQuery);
+            total = cached.total();
+            exact = cached.exact();
+        } else {
+            return response.build();
+        }
+        return response
+                .total(total)
+                .totalPages((int) ((total + size - 1) / size))
+                .totalExact(exact)
+                .build();
+    }
+    
+    /**
+     * Drops cached counts of a collection. Call after every write that can change filter results.
+     * 
+     * @param collection Collection name
+     */
+    public void evictCounts(String collection) {
+        Cache cache = cacheManager.getCache(CacheConfig.PAGE_COUNTS);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            String prefix = collection + KEY_SEPARATOR;
+            caffeineCache.getNativeCache().asMap().keySet()
+                    .removeIf(key -> key instanceof String k && k.startsWith(prefix));
+        } else if (cache != null) {
+            cache.clear();
+        }
+    }
+    
+    /**
+     * Drops cached counts of an entity's collection.
+     * 
+     * @param entityClass Document type
+     */
+    public void evictCounts(Class<?> entityClass) {
+        evictCounts(mongoTemplate.getCollectionName(entityClass));
+    }
+    
+    private long countExact(Class<?> entityClass, Query filterQuery) {
+        return mongoTemplate.count(Query.of(filterQuery).limit(-1).skip(-1), entityClass);
+    }
+    
+    private CachedCount countCached(Class<?> entityClass, Query filterQuery) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        if (filterQuery.getQueryObject().isEmpty()) {
+            // Collection metadata; no documents are read
+            return new CachedCount(mongoTemplate.estimatedCount(collection), false);
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.PAGE_COUNTS);
+        if (cache == null) {
+            return new CachedCount(countExact(entityClass, filterQuery), true);
+        }
+        // Mapped filter, so equal filters produce equal keys regardless of Java value types
+        Document mappedFilter = new QueryMapper(mongoTemplate.getConverter()).getMappedObject(
+                filterQuery.getQueryObject(),
+                mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass));
+        String key = collection + KEY_SEPARATOR + mappedFilter.toJson();
+        Long cached = cache.get(key, Long.class);
+        if (cached != null) {
+            return new CachedCount(cached, false);
+        }
+        long total = countExact(entityClass, filterQuery);
+        cache.put(key, total);
+        return new CachedCount(total, true);
+    }
+    
+    private record CachedCount(long total, boolean exact) {
+    }
+}
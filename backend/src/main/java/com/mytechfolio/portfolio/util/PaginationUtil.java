@@ -25,8 +25,7 @@ public class PaginationUtil {
         // Validate and normalize page (1-based to 0-based)
         int normalizedPage = Math.max(1, page) - 1;
         
-        // Validate and limit size to prevent DoS
-        int normalizedSize = Math.min(Math.max(1, size), MAX_SIZE);
+        int normalizedSize = normalizeSize(size);
         
         if (sort == null) {
             sort = Sort.by(DEFAULT_SORT_DIRECTION, DEFAULT_SORT_FIELD);
@@ -35,6 +34,14 @@ public class PaginationUtil {
         return PageRequest.of(normalizedPage, normalizedSize, sort);
     }
     
+    /**
+     * Clamps a requested page size.
+     * Security: Prevents DoS attacks by limiting page size.
+     */
+    public static int normalizeSize(int size) {
+        return Math.min(Math.max(1, size), MAX_SIZE);
+    }
+    
     /**
      * Creates a Pageable with default sorting.
      */
@@ -49,10 +56,43 @@ public class PaginationUtil {
         return createPageable(DEFAULT_PAGE, DEFAULT_SIZE);
     }
     
+    /**
+     * Parses sort string (format: "field,direction") against a resource's index-backed fields.
+     * Example: "endDate,desc" or "semester,asc". A missing direction uses the resource default.
+     * Security: Rejects fields without a backing index, which would force an in-memory sort.
+     *
+     * @throws IllegalArgumentException if the field is not sortable for the resource
+     */
+    public static Sort parseSort(ResourceQueryFields resource, String sortString) {
+        if (sortString == null || sortString.trim().isEmpty()) {
+            return resource.getDefaultSort();
+        }
+        
+        String[] parts = sortString.split(",");
+        if (parts.length > 2 || !isValidFieldName(parts[0].trim())) {
+            throw new IllegalArgumentException("Invalid sort parameter. Expected 'field,asc' or 'field,desc'");
+        }
+        
+        String field = resource.resolveSortField(parts[0].trim());
+        if (parts.length == 1) {
+            Sort.Order defaultOrder = resource.getDefaultSort().iterator().next();
+            return Sort.by(defaultOrder.getDirection(), field);
+        }
+        
+        Sort.Direction sortDirection = parts[1].trim().equalsIgnoreCase("asc") 
+            ? Sort.Direction.ASC 
+            : Sort.Direction.DESC;
+        return Sort.by(sortDirection, field);
+    }
+    
     /**
      * Parses sort string (format: "field,direction").
      * Example: "endDate,desc" or "name,asc"
+     * 
+     * @deprecated Accepts any well-formed field name, including unindexed ones.
+     *             Use {@link #parseSort(ResourceQueryFields, String)}.
      */
+    @Deprecated
     public static Sort parseSort(String sortString, String defaultField, Sort.Direction defaultDirection) {
         if (sortString == null || sortString.trim().isEmpty()) {
             return Sort.by(defaultDirection, defaultField);
@@ -80,7 +120,10 @@ public class PaginationUtil {
     
     /**
      * Parses sort string with default field and direction.
+     * 
+     * @deprecated Use {@link #parseSort(ResourceQueryFields, String)}.
      */
+    @Deprecated
     public static Sort parseSort(String sortString) {
         return parseSort(sortString, DEFAULT_SORT_FIELD, DEFAULT_SORT_DIRECTION);
     }
@@ -105,6 +148,7 @@ public class PaginationUtil {
                 .size(page.getSize())
                 .total(page.getTotalElements())
                 .totalPages(page.getTotalPages())
+                .totalExact(true)
                 .hasNext(page.hasNext())
                 .hasPrevious(page.hasPrevious())
                 .items(page.getContent().stream()
@@ -21,6 +21,7 @@ import java.time.LocalDateTime;
 public class PerformanceMetrics {
     
     private String endpoint;
+    private String route; // Method + matched path pattern, e.g. "GET /api/v1/projects/{id}"
     private String method;
     private long responseTimeMs;
     private int statusCode;
@@ -29,6 +30,10 @@ public class PerformanceMetrics {
     private String ipAddress; // Optional: client IP
     private long requestSize; // Request body size in bytes
     private long responseSize; // Response body size in bytes
+    private long dbTimeMs; // Total MongoDB command time during the request
+    private int dbCommandCount; // Number of MongoDB commands issued during the request
+    private Long cpuTimeNanos; // Request thread CPU time; null when the request was not sampled
+    private Long allocatedBytes; // Heap allocated by the request thread; null when not sampled
     private boolean isSlowQuery; // Flag for slow queries (> threshold)
     
     /**
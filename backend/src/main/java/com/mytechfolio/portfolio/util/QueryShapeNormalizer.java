@@ -0,0 +1,115 @@
+package com.mytechfolio.portfolio.util;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+
+/**
+ * Reduces MongoDB commands to their query shape.
+ * Literal values are replaced with "?" so that queries differing only in their
+ * parameters group together, and no user data ends up in monitoring output.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class QueryShapeNormalizer {
+
+    private static final String PLACEHOLDER = "?";
+
+    private QueryShapeNormalizer() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Builds the normalised shape of a command.
+     *
+     * @param commandName Command name (find, aggregate, update, ...)
+     * @param command Raw command document
+     * @return Query shape, e.g. {@code find {"filter":{"techStackIds":{"$in":"?"}},"sort":{"createdAt":-1}}}
+     */
+    public static String normalize(String commandName, BsonDocument command) {
+        StringBuilder shape = new StringBuilder(commandName);
+        switch (commandName) {
+            case "find" -> {
+                appendShape(shape, "filter", command.get("filter"));
+                appendLiteral(shape, "sort", command.get("sort"));
+            }
+            case "aggregate" -> appendShape(shape, "pipeline", command.get("pipeline"));
+            case "count" -> appendShape(shape, "query", command.get("query"));
+            case "distinct" -> {
+                appendLiteral(shape, "key", command.get("key"));
+                appendShape(shape, "query", command.get("query"));
+            }
+            case "findAndModify" -> {
+                appendShape(shape, "query", command.get("query"));
+                appendLiteral(shape, "sort", command.get("sort"));
+            }
+            case "update" -> appendFirstStatement(shape, command.get("updates"), "q");
+            case "delete" -> appendFirstStatement(shape, command.get("deletes"), "q");
+            default -> {
+                // insert, getMore, etc. have no filter worth grouping by
+            }
+        }
+        return shape.toString();
+    }
+
+    private static void appendFirstStatement(StringBuilder shape, BsonValue statements, String filterKey) {
+        if (statements != null && statements.isArray() && !statements.asArray().isEmpty()) {
+            BsonValue first = statements.asArray().get(0);
+            if (first.isDocument()) {
+                appendShape(shape, filterKey, first.asDocument().get(filterKey));
+            }
+        }
+    }
+
+    private static void appendShape(StringBuilder shape, String key, BsonValue value) {
+        if (value != null) {
+            shape.append(' ').append(key).append('=');
+            writeShape(shape, value);
+        }
+    }
+
+    private static void appendLiteral(StringBuilder shape, String key, BsonValue value) {
+        if (value != null) {
+            // Sort specs and keys are structural, not user data, so they are kept verbatim
+            shape.append(' ').append(key).append('=')
+                    .append(value.isDocument() ? value.asDocument().toJson()
+                            : value.isString() ? value.asString().getValue() : value.toString());
+        }
+    }
+
+    private static void writeShape(StringBuilder shape, BsonValue value) {
+        if (value.isDocument()) {
+            shape.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    shape.append(',');
+                }
+                first = false;
+                shape.append(entry.getKey()).append(':');
+                writeShape(shape, entry.getValue());
+            }
+            shape.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            // Arrays of sub-documents ($or, $and, pipelines) are structural; arrays of literals are not
+            if (!array.isEmpty() && array.get(0).isDocument()) {
+                shape.append('[');
+                for (int i = 0; i < array.size(); i++) {
+                    if (i > 0) {
+                        shape.append(',');
+                    }
+                    writeShape(shape, array.get(i));
+                }
+                shape.append(']');
+            } else {
+                shape.append(PLACEHOLDER);
+            }
+        } else {
+            shape.append(PLACEHOLDER);
+        }
+    }
+}
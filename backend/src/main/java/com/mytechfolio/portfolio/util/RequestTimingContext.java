@@ -0,0 +1,180 @@
+package com.mytechfolio.portfolio.util;
+
+import java.util.Locale;
+
+/**
+ * Single request-scoped timing context.
+ * Started once by the outermost filter using {@link System#nanoTime()}; filters,
+ * the MongoDB command listener and the response advice add phase durations to it,
+ * and it renders the standard {@code Server-Timing} header.
+ * Bound to the request thread; the synchronous MongoDB driver invokes its
+ * command listeners on the calling thread, so no cross-thread handoff is needed.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class RequestTimingContext {
+
+    private static final ThreadLocal<RequestTimingContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Request phases reported in the Server-Timing header.
+     * APP is derived: total minus all measured phases.
+     */
+    public enum Phase {
+        AUTH("auth", "JWT authentication"),
+        DB("db", "MongoDB"),
+        APP("app", "Handler and mapping"),
+        SER("ser", "Response serialisation");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private int dbCommandCount;
+    private long serializationStartNanos;
+
+    private RequestTimingContext() {
+    }
+
+    /**
+     * Starts a new context for the current thread.
+     *
+     * @return The new context
+     */
+    public static RequestTimingContext begin() {
+        RequestTimingContext context = new RequestTimingContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Gets the context bound to the current thread.
+     *
+     * @return Current context, or null outside a monitored request
+     */
+    public static RequestTimingContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Unbinds the context from the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Adds time to a phase of the current request, if any.
+     *
+     * @param phase Phase to add to
+     * @param elapsedNanos Duration in nanoseconds
+     */
+    public static void record(Phase phase, long elapsedNanos) {
+        RequestTimingContext context = CURRENT.get();
+        if (context != null) {
+            context.addPhase(phase, elapsedNanos);
+        }
+    }
+
+    public void addPhase(Phase phase, long elapsedNanos) {
+        phaseNanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    /**
+     * Records a completed database command.
+     *
+     * @param elapsedNanos Command duration in nanoseconds
+     */
+    public void recordDbCommand(long elapsedNanos) {
+        addPhase(Phase.DB, elapsedNanos);
+        dbCommandCount++;
+    }
+
+    /**
+     * Marks the point where the handler returned and response serialisation began.
+     */
+    public void markSerializationStart() {
+        if (serializationStartNanos == 0) {
+            serializationStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Closes the serialisation phase, typically when the first body byte is written.
+     */
+    public void markSerializationEnd() {
+        if (serializationStartNanos != 0 && phaseNanos[Phase.SER.ordinal()] == 0) {
+            phaseNanos[Phase.SER.ordinal()] = System.nanoTime() - serializationStartNanos;
+        }
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long getElapsedMs() {
+        return getElapsedNanos() / 1_000_000;
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long getDbTimeMs() {
+        return phaseNanos[Phase.DB.ordinal()] / 1_000_000;
+    }
+
+    public int getDbCommandCount() {
+        return dbCommandCount;
+    }
+
+    /**
+     * Renders the Server-Timing header value for the request so far.
+     *
+     * @return Header value, e.g. {@code auth;dur=0.4;desc="JWT authentication", ..., total;dur=18.2}
+     */
+    public String toServerTimingHeader() {
+        long totalNanos = getElapsedNanos();
+        long measured = 0;
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            if (phase == Phase.APP) {
+                continue;
+            }
+            long nanos = phaseNanos[phase.ordinal()];
+            measured += nanos;
+            appendMetric(header, phase.getMetricName(), nanos, phase == Phase.DB
+                    ? phase.getDescription() + " (" + dbCommandCount + " commands)"
+                    : phase.getDescription());
+        }
+        appendMetric(header, Phase.APP.getMetricName(), Math.max(0, totalNanos - measured), Phase.APP.getDescription());
+        appendMetric(header, "total", totalNanos, null);
+        return header.toString();
+    }
+
+    private void appendMetric(StringBuilder header, String name, long nanos, String description) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0));
+        if (description != null) {
+            header.append(";desc=\"").append(description).append('"');
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.mytechfolio.portfolio.util;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Registry of the fields each paginated resource may be sorted and filtered by.
+ * Every sortable and filterable field maps to the MongoDB index that serves it
+ * (declared in {@code PerformanceConfig}), so a client cannot force an in-memory
+ * sort or a collection scan by choosing an arbitrary field.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public enum ResourceQueryFields {
+
+    PROJECT("projects", "endDate", Sort.Direction.DESC,
+            Map.of(
+                "endDate", "end_date_id_idx",
+                "startDate", "start_date_id_idx",
+                "createdAt", "created_at_id_idx",
+                "viewCount", "view_count_id_idx"),
+            Map.of(
+                "updatedAt", "createdAt",
+                "views", "viewCount"),
+            Map.of(
+                "techStackIds", "tech_stacks_end_date_id_idx",
+                "status", "status_end_date_id_idx",
+                "isFeatured", "featured_end_date_id_idx",
+                "startDate", "start_date_id_idx"),
+            Map.of(
+                "techStackIds", Map.of(
+                    "endDate", "tech_stacks_end_date_id_idx",
+                    "startDate", "tech_stacks_start_date_id_idx",
+                    "createdAt", "tech_stacks_created_at_id_idx",
+                    "viewCount", "tech_stacks_view_count_id_idx"),
+                "status", Map.of(
+                    "endDate", "status_end_date_id_idx",
+                    "startDate", "status_start_date_id_idx",
+                    "createdAt", "status_created_at_id_idx",
+                    "viewCount", "status_view_count_id_idx"),
+                "isFeatured", Map.of(
+                    "endDate", "featured_end_date_id_idx",
+                    "startDate", "featured_start_date_id_idx",
+                    "createdAt", "featured_created_at_id_idx",
+                    "viewCount", "featured_view_count_id_idx"),
+                "startDate", Map.of(
+                    "startDate", "start_date_id_idx"))),
+
+    ACADEMIC("academics", "semester", Sort.Direction.ASC,
+            Map.of(
+                "semester", "semester_id_idx"),
+            Map.of(),
+            Map.of(
+                "semester", "semester_id_idx",
+                "status", "status_created_idx"),
+            Map.of(
+                "semester", Map.of(
+                    "semester", "semester_id_idx")));
+
+    private final String collection;
+    private final String defaultSortField;
+    private final Sort.Direction defaultSortDirection;
+    private final Map<String, String> sortIndexes;
+    private final Map<String, String> sortAliases;
+    private final Map<String, String> filterIndexes;
+    private final Map<String, Map<String, String>> filterSortIndexes;
+
+    ResourceQueryFields(String collection, String defaultSortField, Sort.Direction defaultSortDirection,
+                        Map<String, String> sortIndexes, Map<String, String> sortAliases,
+                        Map<String, String> filterIndexes, Map<String, Map<String, String>> filterSortIndexes) {
+        this.collection = collection;
+        this.defaultSortField = defaultSortField;
+        this.defaultSortDirection = defaultSortDirection;
+        this.sortIndexes = sortIndexes;
+        this.sortAliases = sortAliases;
+        this.filterIndexes = filterIndexes;
+        this.filterSortIndexes = filterSortIndexes;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public Sort getDefaultSort() {
+        return Sort.by(defaultSortDirection, defaultSortField);
+    }
+
+    /**
+     * Gets the index-backed sort fields, alphabetically.
+     */
+    public Set<String> getSortableFields() {
+        return new TreeSet<>(sortIndexes.keySet());
+    }
+
+    /**
+     * Gets the index-backed filter fields, alphabetically.
+     */
+    public Set<String> getFilterableFields() {
+        return new TreeSet<>(filterIndexes.keySet());
+    }
+
+    /**
+     * Gets the index serving a sort field.
+     *
+     * @return Index name, or null if the field is not sortable
+     */
+    public String getSortIndex(String field) {
+        return sortIndexes.get(field);
+    }
+
+    /**
+     * Gets the index serving a filter field.
+     *
+     * @return Index name, or null if the field is not filterable
+     */
+    public String getFilterIndex(String field) {
+        return filterIndexes.get(field);
+    }
+
+    /**
+     * Gets the index serving a filter field together with a sort field:
+     * the filter field is its prefix and the sort field follows it, so matching
+     * documents are read in sort order without an in-memory sort.
+     *
+     * @return Index name, or null if no index serves the combination
+     */
+    public String getFilterIndex(String filterField, String sortField) {
+        return filterSortIndexes.getOrDefault(filterField, Map.of()).get(sortField);
+    }
+
+    /**
+     * Resolves a requested sort field to an index-backed field.
+     * Known aliases of unindexed fields are rewritten to the nearest indexed field.
+     *
+     * @param field Requested field
+     * @return Sortable field
+     * @throws IllegalArgumentException if the field has no backing index
+     */
+    public String resolveSortField(String field) {
+        String resolved = sortAliases.getOrDefault(field, field);
+        if (!sortIndexes.containsKey(resolved)) {
+            throw new IllegalArgumentException(
+                    "Unsupported sort field '" + field + "'. Sortable fields: " + getSortableFields());
+        }
+        return resolved;
+    }
+
+    /**
+     * Ensures a field may be used as a filter.
+     *
+     * @param field Filter field
+     * @throws IllegalArgumentException if the field has no backing index
+     */
+    public void requireFilterable(String field) {
+        if (!filterIndexes.containsKey(field)) {
+            throw new IllegalArgumentException(
+                    "Unsupported filter field '" + field + "'. Filterable fields: " + getFilterableFields());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mytechfolio.portfolio.util;
+
+import com.mytechfolio.portfolio.constants.SecurityConstants;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Coarse traffic classes used for load protection.
+ * Classes are derived from the same endpoint lists as the security configuration,
+ * so a request is classified without waiting for handler mapping.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public enum RouteClass {
+
+    /** Anonymous GET traffic: project, academic, tech stack and other portfolio reads. */
+    PUBLIC_READ,
+    /** Anonymous writes: contact form and engagement tracking. */
+    ENGAGEMENT_WRITE,
+    /** Login, token refresh and 2FA. */
+    AUTH,
+    /** Admin endpoints and authenticated content management writes. */
+    ADMIN;
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String AUTH_PREFIX = "/api/v1/auth";
+
+    /**
+     * Classifies a request.
+     *
+     * @param method HTTP method
+     * @param path Request URI
+     * @return Route class
+     */
+    public static RouteClass classify(String method, String path) {
+        if (matchesAny(SecurityConstants.ADMIN_ENDPOINTS, path)) {
+            return ADMIN;
+        }
+        if (path.startsWith(AUTH_PREFIX)) {
+            return AUTH;
+        }
+        if (("POST".equals(method) && matchesAny(SecurityConstants.PUBLIC_POST_ENDPOINTS, path))
+                || ("PATCH".equals(method) && matchesAny(SecurityConstants.PUBLIC_PATCH_ENDPOINTS, path))) {
+            return ENGAGEMENT_WRITE;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return PUBLIC_READ;
+        }
+        return ADMIN;
+    }
+
+    private static boolean matchesAny(String[] patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mytechfolio.portfolio.util;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated metrics for a single route (HTTP method + path pattern).
+ * All counters are lock-free so recording never blocks request threads.
+ * CPU and allocation histograms only contain sampled requests.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+@Getter
+public class RouteMetrics {
+
+    private final String route;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final BucketHistogram latencies = BucketHistogram.latencyMillis();
+    private final BucketHistogram dbTimes = BucketHistogram.latencyMillis();
+    private final BucketHistogram requestSizes = BucketHistogram.bytes();
+    private final BucketHistogram responseSizes = BucketHistogram.bytes();
+    private final BucketHistogram cpuTimes = BucketHistogram.latencyMicros();
+    private final BucketHistogram allocations = BucketHistogram.allocationBytes();
+
+    public RouteMetrics(String route) {
+        this.route = route;
+    }
+
+    /**
+     * Records a completed request for this route.
+     *
+     * @param metrics Request metrics
+     */
+    public void record(PerformanceMetrics metrics) {
+        requestCount.increment();
+        if (metrics.getStatusCode() >= 500) {
+            errorCount.increment();
+        }
+        latencies.record(metrics.getResponseTimeMs());
+        dbTimes.record(metrics.getDbTimeMs());
+        requestSizes.record(metrics.getRequestSize());
+        responseSizes.record(metrics.getResponseSize());
+        if (metrics.getCpuTimeNanos() != null) {
+            cpuTimes.record(metrics.getCpuTimeNanos() / 1_000);
+        }
+        if (metrics.getAllocatedBytes() != null) {
+            allocations.record(metrics.getAllocatedBytes());
+        }
+    }
+}
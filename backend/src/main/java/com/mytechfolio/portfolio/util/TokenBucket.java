@@ -0,0 +1,46 @@
+package com.mytechfolio.portfolio.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * Implemented as the generic cell rate algorithm: the whole bucket state is a
+ * single "theoretical arrival time", so a take is one read and one CAS with no
+ * allocation. A bucket whose arrival time is in the past is full, which is what
+ * makes idle buckets safe to evict and recreate.
+ * 
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class TokenBucket {
+    
+    private final AtomicLong theoreticalArrivalNanos;
+    
+    public TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+    
+    /**
+     * Takes one token.
+     * 
+     * @param capacity Bucket size (burst), also the number of tokens refilled per period
+     * @param periodNanos Refill period
+     * @param nowNanos Current {@link System#nanoTime()}
+     * @return Tokens left after the take (&gt;= 0), or, if the bucket is empty,
+     *         the negated nanoseconds until the next token is available (&lt; 0)
+     */
+    public long tryTake(long capacity, long periodNanos, long nowNanos) {
+        long intervalNanos = periodNanos / capacity;
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            long debt = next - nowNanos;
+            if (debt > periodNanos) {
+                return -Math.max(1, debt - periodNanos);
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, next)) {
+                return (periodNanos - debt) / intervalNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.mytechfolio.portfolio.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Request-scoped in-process trace.
+ * Head-sampled requests record spans from the start. Tail-sampling candidates start
+ * deferred: nothing is recorded (no spans, IDs or attribute maps) until the request
+ * has run for the tail threshold, at which point the root span is created, backdated
+ * to the request start, and later spans are recorded. While a context is absent or
+ * deferred {@link #startSpan} returns null, so instrumented code pays a ThreadLocal
+ * lookup and a clock read. Spans nest on the request thread and are collected in a
+ * bounded list that the outermost filter hands to the exporter.
+ *
+ * @author MyTechPortfolio Team
+ * @since 1.0.0
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+    private static final Pattern UUID_FORMAT = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    /**
+     * OTLP span kinds.
+     */
+    public enum Kind {
+        INTERNAL(1), SERVER(2), CLIENT(3);
+
+        private final int otlpValue;
+
+        Kind(int otlpValue) {
+            this.otlpValue = otlpValue;
+        }
+
+        public int getOtlpValue() {
+            return otlpValue;
+        }
+    }
+
+    private final String requestId;
+    private final boolean headSampled;
+    private final long recordAfterNanos;
+    private final int maxSpans;
+    private final long epochStartNanos = System.currentTimeMillis() * 1_000_000L;
+    private final long nanoStart = System.nanoTime();
+    private final List<Span> finished = new ArrayList<>();
+    private String traceId;
+    private Span root;
+    private Span active;
+    private int droppedSpans;
+
+    private TraceContext(String requestId, boolean headSampled, long recordAfterNanos, int maxSpans) {
+        this.requestId = requestId;
+        this.headSampled = headSampled;
+        this.recordAfterNanos = recordAfterNanos;
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * Starts a trace on the current thread.
+     *
+     * @param requestId Request correlation ID the trace ID is derived from
+     * @param headSampled Whether the trace is recorded from the start and exported regardless of duration
+     * @param recordAfterNanos For other requests, how long the request runs before spans are recorded
+     * @param maxSpans Maximum number of spans kept for the trace
+     * @return The new context
+     */
+    public static TraceContext begin(String requestId, boolean headSampled, long recordAfterNanos, int maxSpans) {
+        TraceContext context = new TraceContext(requestId, headSampled,
+                headSampled ? 0 : recordAfterNanos, maxSpans);
+        if (headSampled) {
+            context.promote();
+        }
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Gets the trace recorded on the current thread.
+     *
+     * @return Current context, or null if the request is not recorded
+     */
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gets the trace of the current thread if it is recording spans.
+     *
+     * @return Current context, or null if the request is not recorded or still deferred
+     */
+    public static TraceContext recording() {
+        TraceContext context = CURRENT.get();
+        return context != null && context.isRecording() ? context : null;
+    }
+
+    /**
+     * Stops recording on the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Starts a child of the active span of the current trace.
+     *
+     * @param name Span name
+     * @param kind Span kind
+     * @return Started span, or null if the request is not recorded
+     */
+    public static Span startSpan(String name, Kind kind) {
+        TraceContext context = recording();
+        return context != null ? context.start(name, kind) : null;
+    }
+
+    /**
+     * Derives a 32-hex-digit trace ID from the request ID.
+     * UUID request IDs map directly; other values are hashed.
+     */
+    static String toTraceId(String requestId) {
+        UUID uuid = requestId != null && UUID_FORMAT.matcher(requestId).matches()
+                ? UUID.fromString(requestId)
+                : UUID.nameUUIDFromBytes(String.valueOf(requestId).getBytes(StandardCharsets.UTF_8));
+        return uuid.toString().replace("-", "");
+    }
+
+    /**
+     * Whether spans are recorded; a deferred trace starts recording once it reaches its threshold.
+     */
+    public boolean isRecording() {
+        if (root == null) {
+            if (System.nanoTime() - nanoStart < recordAfterNanos) {
+                return false;
+            }
+            promote();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the SERVER root span, creating it if the trace was still deferred.
+     * The root span is named by the caller when the request completes.
+     */
+    public Span getRootSpan() {
+        if (root == null) {
+            promote();
+        }
+        return root;
+    }
+
+    private void promote() {
+        root = new Span(this, null, Kind.SERVER, newSpanId(), null, epochStartNanos);
+        active = root;
+    }
+
+    private Span start(String name, Kind kind) {
+        Span span = new Span(this, name, kind, newSpanId(), active != null ? active.spanId : null, nowEpochNanos());
+        active = span;
+        return span;
+    }
+
+    /**
+     * Adds a span that has already completed, e.g. reported by a driver callback.
+     *
+     * @param name Span name
+     * @param kind Span kind
+     * @param durationNanos Duration; the span is assumed to have ended now
+     * @param attributes Span attributes
+     * @param error Whether the operation failed
+     */
+    public void addCompletedSpan(String name, Kind kind, long durationNanos, Map<String, Object> attributes, boolean error) {
+        if (!isRecording()) {
+            return;
+        }
+        long end = nowEpochNanos();
+        Span span = new Span(this, name, kind, newSpanId(), active != null ? active.spanId : null, end - durationNanos);
+        span.attributes.putAll(attributes);
+        span.error = error;
+        span.endEpochNanos = end;
+        collect(span);
+    }
+
+    private void finish(Span span) {
+        span.endEpochNanos = nowEpochNanos();
+        if (active == span) {
+            active = span.parent;
+        }
+        collect(span);
+    }
+
+    private void collect(Span span) {
+        if (finished.size() < maxSpans) {
+            finished.add(span);
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    private long nowEpochNanos() {
+        return epochStartNanos + (System.nanoTime() - nanoStart);
+    }
+
+    private static String newSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return String.format("%016x", id);
+    }
+
+    /**
+     * Gets the trace ID, derived from the request ID on first use.
+     */
+    public String getTraceId() {
+        if (traceId == null) {
+            traceId = toTraceId(requestId);
+        }
+        return traceId;
+    }
+
+    public boolean isHeadSampled() {
+        return headSampled;
+    }
+
+    public List<Span> getFinishedSpans() {
+        return finished;
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    /**
+     * Single timed operation within a trace.
+     */
+    public static final class Span {
+
+        private final TraceContext context;
+        private final Span parent;
+        private String name;
+        private final Kind kind;
+        private final String spanId;
+        private final String parentSpanId;
+        private final long startEpochNanos;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private long endEpochNanos;
+        private boolean error;
+        private String statusMessage;
+
+        private Span(TraceContext context, String name, Kind kind, String spanId, String parentSpanId, long startEpochNanos) {
+            this.context = context;
+            this.parent = context.active;
+            this.name = name;
+            this.kind = kind;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.startEpochNanos = startEpochNanos;
+        }
+
+        public Span setName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Span setAttribute(String key, Object value) {
+            if (value != null) {
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        public Span setError(Throwable throwable) {
+            return setError(throwable.getClass().getSimpleName());
+        }
+
+        public Span setError(String message) {
+            this.error = true;
+            this.statusMessage = message;
+            return this;
+        }
+
+        /**
+         * Ends the span and makes its parent the active span again.
+         */
+        public void end() {
+            if (endEpochNanos == 0) {
+                context.finish(this);
+            }
+        }
+
+        public String getTraceId() {
+            return context.getTraceId();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getSpanId() {
+            return spanId;
+        }
+
+        public String getParentSpanId() {
+            return parentSpanId;
+        }
+
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        public long getEndEpochNanos() {
+            return endEpochNanos;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        public boolean isError() {
+            return error;
+        }
+
+        public String getStatusMessage() {
+            return statusMessage;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.mytechfolio.portfolio.validation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mytechfolio.portfolio.domain.Contact;
 import com.mytechfolio.portfolio.exception.DuplicateResourceException;
 import com.mytechfolio.portfolio.repository.ContactRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Centralized validation service for business rules.
@@ -24,9 +34,24 @@ public class ValidationService {
     private final ContactRepository contactRepository;
     private static final int MAX_SUBMISSIONS_PER_HOUR = 3;
     private static final int MIN_TIME_BETWEEN_SUBMISSIONS_SECONDS = 60;
+    private static final long SUBMISSION_WINDOW_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int MAX_TRACKED_SENDERS = 10_000;
+    
+    // Accepted submissions per hashed IP over the last hour (sliding window)
+    private final Cache<String, SubmissionWindow> recentSubmissionsByIp = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_SENDERS)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+    
+    // Hashes of email + message seen within the duplicate window
+    private final Cache<String, Boolean> recentContentHashes = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_SENDERS)
+            .expireAfterWrite(MIN_TIME_BETWEEN_SUBMISSIONS_SECONDS, TimeUnit.SECONDS)
+            .build();
     
     /**
      * Validates contact form submission for spam and rate limiting.
+     * Nothing is counted here; call {@link #recordContactSubmission} once the contact is saved.
      * 
      * @param email Contact email
      * @param message Contact message
@@ -41,13 +66,35 @@ public class ValidationService {
             throw new IllegalArgumentException("Invalid submission detected");
         }
         
-        // Rate limiting: Check submissions from same IP
+        // Cheap in-memory checks first so that floods are rejected without touching MongoDB
+        String hashedIp = hashIpAddress(ipAddress);
+        long now = System.nanoTime();
+        SubmissionWindow window = recentSubmissionsByIp.get(hashedIp, key -> new SubmissionWindow());
+        if (window.countSince(now - SUBMISSION_WINDOW_NANOS) >= MAX_SUBMISSIONS_PER_HOUR) {
+            log.warn("Rate limit exceeded for IP: {}", ipAddress);
+            throw new IllegalArgumentException("Too many submissions. Please try again later.");
+        }
+        
+        String contentHash = hashContent(email, message);
+        if (recentContentHashes.getIfPresent(contentHash) != null) {
+            log.warn("Duplicate submission detected for email: {}", email);
+            throw new DuplicateResourceException("Contact", "email", email);
+        }
+        
+        // Rate limiting: Check submissions from same IP (authoritative across instances and restarts)
         LocalDateTime oneHourAgo = LocalDateTime.now().minus(1, ChronoUnit.HOURS);
-        long recentSubmissions = contactRepository.countByIpAddressAndCreatedAtAfter(
-            hashIpAddress(ipAddress), oneHourAgo);
+        long recentSubmissions = contactRepository.countByIpAddressAndCreatedAtAfter(hashedIp, oneHourAgo);
         
         if (recentSubmissions >= MAX_SUBMISSIONS_PER_HOUR) {
             log.warn("Rate limit exceeded for IP: {}", ipAddress);
+            // Block in memory only until the oldest of the stored submissions leaves the window
+            LocalDateTime wallNow = LocalDateTime.now();
+            window.fill(contactRepository.findTop3ByIpAddressAndCreatedAtAfterOrderByCreatedAtDesc(hashedIp, oneHourAgo)
+                    .stream()
+                    .map(Contact::getCreatedAt)
+                    .filter(Objects::nonNull)
+                    .mapToLong(createdAt -> now - Duration.between(createdAt, wallNow).toNanos())
+                    .toArray());
             throw new IllegalArgumentException("Too many submissions. Please try again later.");
         }
         
@@ -59,11 +106,25 @@ public class ValidationService {
             oneMinuteAgo);
         
         if (recentDuplicate) {
+            recentContentHashes.put(contentHash, Boolean.TRUE);
             log.warn("Duplicate submission detected for email: {}", email);
             throw new DuplicateResourceException("Contact", "email", email);
         }
     }
     
+    /**
+     * Counts a contact submission that passed {@link #validateContactSubmission} and was saved,
+     * so later submissions from the sender can be rejected in memory.
+     * 
+     * @param email Contact email
+     * @param message Contact message, as validated
+     * @param ipAddress Client IP address
+     */
+    public void recordContactSubmission(String email, String message, String ipAddress) {
+        recentSubmissionsByIp.get(hashIpAddress(ipAddress), key -> new SubmissionWindow()).record(System.nanoTime());
+        recentContentHashes.put(hashContent(email, message), Boolean.TRUE);
+    }
+    
     /**
      * Validates that a resource doesn't already exist.
      * 
@@ -114,5 +175,61 @@ public class ValidationService {
         // Simple hash for now - in production use SHA-256 or similar
         return String.valueOf(ipAddress.hashCode());
     }
+    
+    /**
+     * Hashes email and message for duplicate detection without keeping message text in memory.
+     */
+    private String hashContent(String email, String message) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(email).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(message).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Timestamps of the most recent accepted submissions from one sender.
+     * Only the last {@code MAX_SUBMISSIONS_PER_HOUR} entries matter, so a tiny ring suffices.
+     */
+    private static final class SubmissionWindow {
+        
+        private final long[] timestamps = new long[MAX_SUBMISSIONS_PER_HOUR];
+        private int size;
+        private int next;
+        
+        synchronized int countSince(long cutoffNanos) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (timestamps[i] - cutoffNanos > 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        
+        synchronized void record(long nowNanos) {
+            timestamps[next] = nowNanos;
+            next = (next + 1) % timestamps.length;
+            size = Math.min(size + 1, timestamps.length);
+        }
+        
+        /**
+         * Replaces the window with submissions MongoDB reported, e.g. from another instance.
+         * 
+         * @param submittedNanos Submission times on the {@link System#nanoTime()} scale, newest first
+         */
+        synchronized void fill(long[] submittedNanos) {
+            size = Math.min(submittedNanos.length, timestamps.length);
+            // Stored oldest first, so the next record overwrites the oldest
+            for (int i = 0; i < size; i++) {
+                timestamps[i] = submittedNanos[size - 1 - i];
+            }
+            next = size % timestamps.length;
+        }
+    }
 }
 
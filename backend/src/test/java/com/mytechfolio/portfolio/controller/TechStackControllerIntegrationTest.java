@@ -0,0 +1,124 @@
+package com.mytechfolio.portfolio.controller;
+
+import com.mytechfolio.portfolio.config.CacheConfig;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.service.ProjectTechStackRefService;
+import com.mytechfolio.portfolio.service.TechStackCatalog;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TechStackControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TechStackRepository techStackRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TechStackCatalog techStackCatalog;
+
+    @Autowired
+    private ProjectTechStackRefService techStackRefService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private TechStack techStack;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        techStack = techStackRepository.save(TechStack.builder()
+                .name("Rename Java " + new ObjectId().toHexString())
+                .type(TechStack.TechType.BACKEND)
+                .build());
+        techStackCatalog.refresh();
+        project = projectRepository.save(Project.builder()
+                .title("Rename project")
+                .summary("Rename summary")
+                .startDate(LocalDate.of(2024, 3, 1))
+                .techStackIds(List.of(techStack.getId()))
+                .techStackRefs(techStackRefService.resolve(List.of(techStack.getId())))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.delete(project);
+        techStackRepository.delete(techStack);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldEvictProjectDetailAndPropagateRename() throws Exception {
+        // Given: the project detail is cached with the old name
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.techStacks[0]").value(techStack.getName()));
+        Cache details = cacheManager.getCache(CacheConfig.PROJECT_DETAILS);
+        assertThat(details.get(project.getId())).isNotNull();
+        String renamed = techStack.getName() + " 21";
+
+        // When
+        mockMvc.perform(put("/api/v1/techstacks/" + techStack.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name": "%s", "type": "Backend"}
+                    """.formatted(renamed)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.name").value(renamed));
+
+        // Then
+        assertThat(details.get(project.getId())).isNull();
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getTechStackRefs())
+                .extracting(Project.TechStackRef::getName)
+                .containsExactly(renamed);
+        mockMvc.perform(get("/api/v1/projects/" + project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.techStacks[0]").value(renamed));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldRejectUpdateWithoutAdminRole() throws Exception {
+        // When/Then
+        mockMvc.perform(put("/api/v1/techstacks/" + techStack.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"name": "Renamed", "type": "Backend"}
+                    """))
+            .andExpect(status().isForbidden());
+
+        assertThat(techStackRepository.findById(techStack.getId()).orElseThrow().getName())
+                .isEqualTo(techStack.getName());
+    }
+}
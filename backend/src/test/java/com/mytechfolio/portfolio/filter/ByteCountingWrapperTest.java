@@ -0,0 +1,91 @@
+package com.mytechfolio.portfolio.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteCountingWrapperTest {
+
+    // 1 + 2 + 1 + 3 + 4 bytes in UTF-8: ASCII, Latin-1, ASCII, BMP and a surrogate pair
+    private static final String BODY = "hé-€😀";
+
+    @Test
+    void shouldCountRequestBytesReadThroughStream() throws Exception {
+        // Given
+        ByteCountingRequestWrapper request = new ByteCountingRequestWrapper(request(BODY));
+
+        // When
+        request.getInputStream().read();
+        request.getInputStream().read(new byte[64], 0, 64);
+
+        // Then
+        assertThat(request.getByteCount()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldCountRequestBytesReadThroughReader() throws Exception {
+        // Given
+        ByteCountingRequestWrapper request = new ByteCountingRequestWrapper(request(BODY));
+
+        // When
+        BufferedReader reader = request.getReader();
+        String read = reader.readLine();
+
+        // Then
+        assertThat(read).isEqualTo(BODY);
+        assertThat(request.getByteCount()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldFallBackToContentLengthWhenBodyWasNotRead() {
+        // Given
+        ByteCountingRequestWrapper request = new ByteCountingRequestWrapper(request(BODY));
+
+        // Then
+        assertThat(request.getByteCount()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldCountResponseBytesWrittenThroughStream() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ByteCountingResponseWrapper wrapper = new ByteCountingResponseWrapper(response);
+
+        // When
+        wrapper.getOutputStream().write('{');
+        wrapper.getOutputStream().write("\"a\":1}".getBytes(StandardCharsets.UTF_8), 0, 6);
+
+        // Then
+        assertThat(wrapper.getByteCount()).isEqualTo(7).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void shouldCountResponseCharactersWrittenThroughWriterAsUtf8() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ByteCountingResponseWrapper wrapper = new ByteCountingResponseWrapper(response);
+
+        // When
+        PrintWriter writer = wrapper.getWriter();
+        writer.write(BODY);
+        writer.write(BODY.toCharArray(), 0, 2);
+        wrapper.flushBuffer();
+
+        // Then
+        assertThat(wrapper.getByteCount()).isEqualTo(14).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/contacts");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
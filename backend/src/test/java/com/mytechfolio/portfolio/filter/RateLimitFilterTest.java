@@ -0,0 +1,65 @@
+package com.mytechfolio.portfolio.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mytechfolio.portfolio.config.RateLimitProperties;
+import com.mytechfolio.portfolio.service.ratelimit.LocalRateLimitBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAuthRequestsPerMinute(2);
+        rateLimitFilter = new RateLimitFilter(new LocalRateLimitBackend(properties), properties,
+            new ObjectMapper().findAndRegisterModules());
+    }
+
+    private MockHttpServletResponse login(String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/refresh");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        request.addHeader("X-Real-IP", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void shouldNotResetBucketWhenForwardingHeadersChange() throws Exception {
+        // Given: the auth budget is used up with one spoofed address per request
+        assertThat(login("203.0.113.7", "198.51.100.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(login("203.0.113.7", "198.51.100.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        // When
+        MockHttpServletResponse response = login("203.0.113.7", "198.51.100.3");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerRemoteAddress() throws Exception {
+        // Given
+        login("203.0.113.7", "198.51.100.1");
+        login("203.0.113.7", "198.51.100.1");
+
+        // When
+        MockHttpServletResponse response = login("203.0.113.8", "198.51.100.1");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("1");
+    }
+}
@@ -0,0 +1,110 @@
+package com.mytechfolio.portfolio.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingResponseWrapperTest {
+
+    private static final String HEADER = "Server-Timing";
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    // Whether the response was already committed each time the callback ran
+    private final List<Boolean> committedWhenFired = new ArrayList<>();
+    private final ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, () -> {
+        committedWhenFired.add(response.isCommitted());
+        response.setHeader(HEADER, "db;dur=1.0");
+    });
+
+    @Test
+    void shouldWriteHeaderBeforeFirstBodyByte() throws Exception {
+        // Given: a buffer small enough that the first write commits the response
+        response.setBufferSize(1);
+
+        // When
+        wrapper.getOutputStream().write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        wrapper.getOutputStream().write('\n');
+
+        // Then
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(committedWhenFired).containsExactly(false);
+        assertThat(response.getHeader(HEADER)).isEqualTo("db;dur=1.0");
+    }
+
+    @Test
+    void shouldWriteHeaderBeforeWriterOutput() throws Exception {
+        // When
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("body");
+        writer.flush();
+
+        // Then
+        assertThat(committedWhenFired).containsExactly(false);
+        assertThat(response.getHeader(HEADER)).isNotNull();
+        assertThat(response.getContentAsString()).isEqualTo("body");
+    }
+
+    @Test
+    void shouldWriteHeaderBeforeFlushOfEmptyBody() throws Exception {
+        // When
+        wrapper.flushBuffer();
+
+        // Then
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(committedWhenFired).containsExactly(false);
+        assertThat(response.getHeader(HEADER)).isNotNull();
+    }
+
+    @Test
+    void shouldWriteHeaderBeforeErrorAndRedirect() throws Exception {
+        // When
+        wrapper.sendError(503);
+
+        // Then
+        assertThat(committedWhenFired).containsExactly(false);
+        assertThat(response.getHeader(HEADER)).isNotNull();
+
+        // Given
+        MockHttpServletResponse redirected = new MockHttpServletResponse();
+        List<Boolean> fired = new ArrayList<>();
+        ServerTimingResponseWrapper redirectWrapper = new ServerTimingResponseWrapper(redirected,
+            () -> fired.add(redirected.isCommitted()));
+
+        // When
+        redirectWrapper.sendRedirect("/login");
+
+        // Then
+        assertThat(fired).containsExactly(false);
+    }
+
+    @Test
+    void shouldRunCallbackOnlyOnce() throws Exception {
+        // When
+        wrapper.fireBeforeCommit();
+        wrapper.getOutputStream().write(1);
+        wrapper.flushBuffer();
+        wrapper.fireBeforeCommit();
+
+        // Then
+        assertThat(committedWhenFired).hasSize(1);
+    }
+
+    @Test
+    void shouldSkipCallbackWhenAlreadyCommitted() {
+        // Given
+        response.setCommitted(true);
+
+        // When
+        wrapper.fireBeforeCommit();
+
+        // Then
+        assertThat(committedWhenFired).isEmpty();
+        assertThat(response.getHeader(HEADER)).isNull();
+    }
+}
@@ -0,0 +1,182 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
+import com.mytechfolio.portfolio.dto.response.ProjectSummaryResponse;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.service.ProjectService;
+import com.mytechfolio.portfolio.service.monitoring.IndexManagementService;
+import com.mytechfolio.portfolio.util.KeysetPaginator;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset pagination tests.
+ * Walks project pages by cursor and checks that every project is returned once, in sort order,
+ * including ties and missing sort values, that continuation queries read the index in order,
+ * and that tampered or mismatched cursors are rejected.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Keyset Pagination Tests")
+class KeysetPaginationIntegrationTest {
+
+    private static final String TECH_STACK = new ObjectId().toHexString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private IndexManagementService indexManagementService;
+
+    private final List<Project> seeded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        assertThat(indexManagementService.ensureIndexes()).isZero();
+        // Ties on endDate and a missing endDate exercise the _id tie-breaker and null ordering
+        LocalDate[] endDates = {
+            LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 1),
+            LocalDate.of(2023, 1, 1), LocalDate.of(2025, 3, 1), null, LocalDate.of(2023, 1, 1)
+        };
+        for (int i = 0; i < endDates.length; i++) {
+            seeded.add(projectRepository.save(Project.builder()
+                    .title("Keyset project " + i)
+                    .summary("Keyset pagination test")
+                    .description("Keyset pagination test")
+                    .startDate(LocalDate.of(2022, 1, 1))
+                    .endDate(endDates[i])
+                    .techStackIds(List.of(TECH_STACK))
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll(seeded);
+    }
+
+    @Test
+    @DisplayName("Walking all cursors returns every project once in sort order")
+    void cursorWalkReturnsEveryProjectOnceInOrder() {
+        List<String> walked = walk("endDate,desc");
+
+        // endDate desc with missing values last, ties broken by _id desc
+        List<String> expected = seeded.stream()
+                .sorted(Comparator.comparing(Project::getEndDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+                        .thenComparing(project -> new ObjectId(project.getId()))
+                        .reversed())
+                .map(Project::getId)
+                .toList();
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Walking ascending cursors returns a missing sort value only on the first page")
+    void ascendingCursorWalkReturnsEveryProjectOnceInOrder() {
+        List<String> walked = walk("endDate,asc");
+
+        // endDate asc with missing values first, ties broken by _id asc
+        List<String> expected = seeded.stream()
+                .sorted(Comparator.comparing(Project::getEndDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+                        .thenComparing(project -> new ObjectId(project.getId())))
+                .map(Project::getId)
+                .toList();
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    private List<String> walk(String sort) {
+        ProjectFilter filter = ProjectFilter.builder().techStackIds(List.of(TECH_STACK)).build();
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PageResponse<ProjectSummaryResponse> page = projectService.scrollProjects(cursor, 2, sort, filter);
+            page.getItems().forEach(item -> walked.add(item.getId()));
+            assertThat(page.getTotal()).isNull();
+            assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+        assertThat(pages).as(sort).isEqualTo(4);
+        return walked;
+    }
+
+    @Test
+    @DisplayName("Continuation queries read the sort index in order")
+    void continuationQueryUsesIndexOrder() {
+        PageResponse<ProjectSummaryResponse> first = projectService.scrollProjects(null, 1, "endDate,desc", null);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        Query base = new Query().withHint("end_date_id_idx");
+        Query next = keysetPaginator.pageQuery(Project.class, base, Sort.by(Sort.Direction.DESC, "endDate"),
+                1, first.getNextCursor());
+        IndexManagementService.QueryPlan plan = indexManagementService.explain("keyset endDate desc", next, Project.class);
+
+        assertThat(plan.getError()).isNull();
+        assertThat(plan.getIndexesUsed()).contains("end_date_id_idx");
+        assertThat(plan.isBlockingSort()).as("in-memory sort: %s", plan.getStages()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Tampered cursors and cursors for another sort are rejected with 400")
+    void invalidCursorsAreRejected() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/projects/scroll")
+                .param("size", "1")
+                .param("techStacks", TECH_STACK))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        JsonNode data = objectMapper.readTree(body).path("data");
+        String cursor = data.path("nextCursor").asText();
+        assertThat(data.has("total")).isFalse();
+
+        String tampered = (cursor.charAt(0) == 'A' ? 'B' : 'A') + cursor.substring(1);
+        mockMvc.perform(get("/api/v1/projects/scroll").param("cursor", tampered))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/projects/scroll")
+                .param("cursor", cursor)
+                .param("sort", "startDate,asc"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/projects/scroll")
+                .param("cursor", cursor)
+                .param("techStacks", TECH_STACK))
+            .andExpect(status().isOk());
+    }
+}
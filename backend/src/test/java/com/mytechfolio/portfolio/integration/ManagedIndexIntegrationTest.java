@@ -0,0 +1,66 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.PerformanceSnapshot;
+import com.mytechfolio.portfolio.domain.RateLimitCounter;
+import com.mytechfolio.portfolio.service.monitoring.IndexManagementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Managed index creation tests.
+ * Drops the indexes first, so the unique and TTL indexes are shown to come from
+ * {@code IndexManagementService} and not from annotation-driven auto-index-creation,
+ * which is disabled in prod.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Managed Index Tests")
+class ManagedIndexIntegrationTest {
+
+    @Autowired
+    private IndexManagementService indexManagementService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Performance snapshots get their TTL and unique window indexes")
+    void createsPerformanceSnapshotIndexes() {
+        mongoTemplate.indexOps(PerformanceSnapshot.class).dropAllIndexes();
+
+        assertThat(indexManagementService.ensureIndexes()).isZero();
+
+        List<IndexInfo> indexes = mongoTemplate.indexOps(PerformanceSnapshot.class).getIndexInfo();
+        assertThat(index(indexes, "expire_at_ttl_idx").getExpireAfter()).contains(Duration.ZERO);
+        assertThat(index(indexes, "instance_resolution_window_idx").isUnique()).isTrue();
+        assertThat(indexes).extracting(IndexInfo::getName).contains("resolution_window_idx");
+    }
+
+    @Test
+    @DisplayName("Rate limit counters get their TTL index")
+    void createsRateLimitCounterTtlIndex() {
+        mongoTemplate.indexOps(RateLimitCounter.class).dropAllIndexes();
+
+        assertThat(indexManagementService.ensureIndexes()).isZero();
+
+        List<IndexInfo> indexes = mongoTemplate.indexOps(RateLimitCounter.class).getIndexInfo();
+        assertThat(index(indexes, "expire_at_ttl_idx").getExpireAfter()).contains(Duration.ZERO);
+    }
+
+    private static IndexInfo index(List<IndexInfo> indexes, String name) {
+        return indexes.stream()
+                .filter(index -> name.equals(index.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Missing index " + name));
+    }
+}
@@ -0,0 +1,135 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.util.CountMode;
+import com.mytechfolio.portfolio.util.OffsetPaginator;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offset pagination count mode tests.
+ * Checks that hasNext is right without a count, and that cached counts report
+ * whether they are exact and are refreshed after a write evicts them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Pagination Count Mode Tests")
+class PaginationCountModeIntegrationTest {
+
+    private static final String TECH_STACK = new ObjectId().toHexString();
+
+    @Autowired
+    private OffsetPaginator offsetPaginator;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final List<Project> seeded = new ArrayList<>();
+
+    private final Query filterQuery = ProjectFilter.builder().techStackIds(List.of(TECH_STACK)).build().toQuery();
+
+    private final Pageable firstPage = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "endDate"));
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            seed(i);
+        }
+        offsetPaginator.evictCounts(Project.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll(seeded);
+        offsetPaginator.evictCounts(Project.class);
+    }
+
+    private void seed(int i) {
+        seeded.add(projectRepository.save(Project.builder()
+                .title("Count mode project " + i)
+                .summary("Count mode test")
+                .description("Count mode test")
+                .startDate(LocalDate.of(2023, 1, 1))
+                .endDate(LocalDate.of(2023, 1, 1).plusDays(i))
+                .techStackIds(List.of(TECH_STACK))
+                .build()));
+    }
+
+    private PageResponse<String> page(Pageable pageable, CountMode countMode) {
+        return offsetPaginator.page(Project.class, filterQuery, pageable, countMode,
+                projects -> projects.stream().map(Project::getId).toList(), pageable.getPageNumber() + 1);
+    }
+
+    @Test
+    @DisplayName("NONE skips the total but still reports hasNext")
+    void noneModeSkipsTotal() {
+        PageResponse<String> first = page(firstPage, CountMode.NONE);
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotal()).isNull();
+        assertThat(first.getTotalExact()).isNull();
+
+        // The last page knows its total without counting
+        PageResponse<String> last = page(PageRequest.of(2, 2, firstPage.getSort()), CountMode.NONE);
+        assertThat(last.getItems()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getTotal()).isEqualTo(5L);
+        assertThat(last.getTotalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("EXACT counts every page")
+    void exactModeCounts() {
+        PageResponse<String> first = page(firstPage, CountMode.EXACT);
+        assertThat(first.getTotal()).isEqualTo(5L);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(first.getTotalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CACHED serves repeated counts from the cache until a write evicts them")
+    void cachedModeIsEvictedOnWrite() {
+        PageResponse<String> miss = page(firstPage, CountMode.CACHED);
+        assertThat(miss.getTotal()).isEqualTo(5L);
+        assertThat(miss.getTotalExact()).isTrue();
+
+        PageResponse<String> hit = page(firstPage, CountMode.CACHED);
+        assertThat(hit.getTotal()).isEqualTo(5L);
+        assertThat(hit.getTotalExact()).isFalse();
+
+        seed(5);
+        offsetPaginator.evictCounts(Project.class);
+
+        PageResponse<String> refreshed = page(firstPage, CountMode.CACHED);
+        assertThat(refreshed.getTotal()).isEqualTo(6L);
+        assertThat(refreshed.getTotalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CACHED uses the collection estimate for unfiltered queries")
+    void cachedModeEstimatesUnfilteredTotal() {
+        PageResponse<String> unfiltered = offsetPaginator.page(Project.class, new Query(), PageRequest.of(0, 1),
+                CountMode.CACHED, projects -> projects.stream().map(Project::getId).toList(), 1);
+        assertThat(unfiltered.getTotal()).isGreaterThanOrEqualTo(5L);
+        assertThat(unfiltered.getTotalExact()).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Academic;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
+import com.mytechfolio.portfolio.mapper.ProjectMapper;
+import com.mytechfolio.portfolio.repository.AcademicRepository;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.service.TechStackCatalog;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Project detail aggregation tests.
+ * Checks that the single-pipeline detail read returns the same response as the mapper path.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Project Detail Aggregation Tests")
+class ProjectDetailAggregationIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TechStackRepository techStackRepository;
+
+    @Autowired
+    private AcademicRepository academicRepository;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private TechStackCatalog techStackCatalog;
+
+    private List<TechStack> techStacks;
+    private Academic academic;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = new ObjectId().toHexString();
+        techStacks = techStackRepository.saveAll(List.of(
+                TechStack.builder().name("Aggregation Java " + suffix).type(TechStack.TechType.BACKEND).build(),
+                TechStack.builder().name("Aggregation React " + suffix).type(TechStack.TechType.FRONTEND).build()));
+        academic = academicRepository.save(Academic.builder()
+                .name("Aggregation subject " + suffix)
+                .semester("2024 AUT")
+                .build());
+        project = projectRepository.save(Project.builder()
+                .title("Aggregation project")
+                .summary("Aggregation summary")
+                .description("# Aggregation\nDetail body")
+                .startDate(LocalDate.of(2024, 2, 1))
+                .endDate(LocalDate.of(2024, 6, 30))
+                .githubUrl("https://github.com/example/aggregation")
+                .status(Project.ProjectStatus.IN_PROGRESS)
+                .isFeatured(true)
+                .viewCount(42L)
+                // Listed against collection order; unknown, malformed and repeated IDs resolve to nothing,
+                // as with the mapper
+                .techStackIds(List.of(techStacks.get(1).getId(), techStacks.get(0).getId(),
+                        new ObjectId().toHexString(), "not-an-object-id", techStacks.get(1).getId()))
+                .relatedAcademicIds(List.of(academic.getId()))
+                .build());
+        // Tech stacks were written directly, without a change event
+        techStackCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.delete(project);
+        academicRepository.delete(academic);
+        techStackRepository.deleteAll(techStacks);
+    }
+
+    @Test
+    @DisplayName("Aggregated detail matches the mapper response, tech stacks in ID order")
+    void aggregatedDetailMatchesMapper() {
+        ProjectDetailResponse aggregated = projectRepository.findDetailById(project.getId()).orElseThrow();
+        ProjectDetailResponse mapped = projectMapper.toResponse(projectRepository.findById(project.getId()).orElseThrow());
+
+        assertThat(aggregated).usingRecursiveComparison()
+                .ignoringFields("techStacks", "relatedAcademics")
+                .isEqualTo(mapped);
+        assertThat(aggregated.getTechStacks()).containsExactlyElementsOf(mapped.getTechStacks())
+                .containsExactly(techStacks.get(1).getName(), techStacks.get(0).getName());
+        assertThat(aggregated.getRelatedAcademics()).containsExactly(academic.getName());
+    }
+
+    @Test
+    @DisplayName("Projects without references get empty name lists")
+    void projectWithoutReferences() {
+        project.setTechStackIds(null);
+        project.setRelatedAcademicIds(List.of());
+        projectRepository.save(project);
+
+        ProjectDetailResponse aggregated = projectRepository.findDetailById(project.getId()).orElseThrow();
+
+        assertThat(aggregated.getTechStacks()).isEmpty();
+        assertThat(aggregated.getRelatedAcademics()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Unknown and malformed IDs find nothing")
+    void unknownIdsFindNothing() {
+        assertThat(projectRepository.findDetailById(new ObjectId().toHexString())).isEmpty();
+        assertThat(projectRepository.findDetailById("not-an-object-id")).isEmpty();
+    }
+}
@@ -0,0 +1,208 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.service.monitoring.IndexManagementService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Combined project filter tests.
+ * For every filter combination, verifies the matched projects and, with explain(),
+ * the index the query runs on and whether the sort is served by it, under the
+ * default sort and every other sortable field.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Project Filter Query Tests")
+class ProjectFilterQueryIntegrationTest {
+
+    private static final String TECH_A = new ObjectId().toHexString();
+    private static final String TECH_B = new ObjectId().toHexString();
+    private static final String TECH_C = new ObjectId().toHexString();
+    private static final String SEARCH_TERM = "zyxfilterprobe";
+
+    private static final String TECH_STACKS_IDX = "tech_stacks_end_date_id_idx";
+    private static final String STATUS_IDX = "status_end_date_id_idx";
+    private static final String FEATURED_IDX = "featured_end_date_id_idx";
+    private static final String START_DATE_IDX = "start_date_id_idx";
+    private static final String END_DATE_IDX = "end_date_id_idx";
+    private static final String TEXT_IDX = "project_text_idx";
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IndexManagementService indexManagementService;
+
+    private final Map<String, String> seededIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        assertThat(indexManagementService.ensureIndexes()).isZero();
+        seed("p1", List.of(TECH_A, TECH_B), LocalDate.of(2023, 3, 1), LocalDate.of(2023, 9, 1),
+                Project.ProjectStatus.COMPLETED, true, SEARCH_TERM + " alpha", "first");
+        seed("p2", List.of(TECH_A), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 6, 1),
+                Project.ProjectStatus.IN_PROGRESS, false, "beta", "mentions " + SEARCH_TERM);
+        seed("p3", List.of(TECH_B, TECH_C), LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 15),
+                Project.ProjectStatus.COMPLETED, false, "gamma", "third");
+        seed("p4", List.of(TECH_C), LocalDate.of(2022, 5, 1), LocalDate.of(2022, 8, 1),
+                Project.ProjectStatus.COMPLETED, true, "delta", "fourth");
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAllById(seededIds.values());
+    }
+
+    private void seed(String key, List<String> techStackIds, LocalDate startDate, LocalDate endDate,
+                      Project.ProjectStatus status, boolean featured, String title, String summary) {
+        Project project = projectRepository.save(Project.builder()
+                .title(title)
+                .summary(summary)
+                .description("Filter query test project")
+                .techStackIds(techStackIds)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(status)
+                .isFeatured(featured)
+                .build());
+        seededIds.put(key, project.getId());
+    }
+
+    static Stream<Arguments> filterMatrix() {
+        return Stream.of(
+            Arguments.of("any tech stack",
+                    ProjectFilter.builder().techStackIds(List.of(TECH_A)).build(),
+                    Set.of("p1", "p2"), TECH_STACKS_IDX, true),
+            Arguments.of("all tech stacks",
+                    ProjectFilter.builder().techStackIds(List.of(TECH_A, TECH_B))
+                            .techStackMatch(ProjectFilter.TechStackMatch.ALL).build(),
+                    Set.of("p1"), TECH_STACKS_IDX, true),
+            Arguments.of("tech stack and year",
+                    ProjectFilter.builder().techStackIds(List.of(TECH_A)).build().withinYear(2024),
+                    Set.of("p2"), TECH_STACKS_IDX, true),
+            Arguments.of("tech stacks and year, last day of year",
+                    ProjectFilter.builder().techStackIds(List.of(TECH_B, TECH_C)).build().withinYear(2024),
+                    Set.of("p3"), TECH_STACKS_IDX, true),
+            Arguments.of("tech stacks, status and featured",
+                    ProjectFilter.builder().techStackIds(List.of(TECH_A, TECH_B, TECH_C))
+                            .status(Project.ProjectStatus.COMPLETED).featured(true).build(),
+                    Set.of("p1", "p4"), TECH_STACKS_IDX, true),
+            Arguments.of("status",
+                    ProjectFilter.builder().status(Project.ProjectStatus.IN_PROGRESS).build(),
+                    Set.of("p2"), STATUS_IDX, true),
+            Arguments.of("status and featured",
+                    ProjectFilter.builder().status(Project.ProjectStatus.COMPLETED).featured(true).build(),
+                    Set.of("p1", "p4"), STATUS_IDX, true),
+            Arguments.of("featured",
+                    ProjectFilter.builder().featured(true).build(),
+                    Set.of("p1", "p4"), FEATURED_IDX, true),
+            Arguments.of("start date range",
+                    ProjectFilter.builder().startDateFrom(LocalDate.of(2023, 1, 1))
+                            .startDateTo(LocalDate.of(2024, 2, 1)).build(),
+                    Set.of("p1", "p2"), END_DATE_IDX, true),
+            Arguments.of("text",
+                    ProjectFilter.builder().text(SEARCH_TERM).build(),
+                    Set.of("p1", "p2"), TEXT_IDX, false),
+            Arguments.of("text and tech stack",
+                    ProjectFilter.builder().text(SEARCH_TERM).techStackIds(List.of(TECH_C)).build(),
+                    Set.of(), TEXT_IDX, false),
+            Arguments.of("text and year",
+                    ProjectFilter.builder().text(SEARCH_TERM).build().withinYear(2023),
+                    Set.of("p1"), TEXT_IDX, false)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterMatrix")
+    @DisplayName("Combined filters match the right projects on the expected index")
+    void combinedFilterUsesExpectedIndex(String name, ProjectFilter filter, Set<String> expected,
+                                         String expectedIndex, boolean sortedByIndex) {
+        assertFilterPlan(name, filter, Sort.by(Sort.Direction.DESC, "endDate"), expected, expectedIndex, sortedByIndex);
+    }
+
+    static Stream<Arguments> sortMatrix() {
+        ProjectFilter techStack = ProjectFilter.builder().techStackIds(List.of(TECH_A)).build();
+        ProjectFilter status = ProjectFilter.builder().status(Project.ProjectStatus.COMPLETED).build();
+        ProjectFilter featured = ProjectFilter.builder().featured(true).build();
+        ProjectFilter startDateRange = ProjectFilter.builder().startDateFrom(LocalDate.of(2023, 1, 1))
+                .startDateTo(LocalDate.of(2024, 2, 1)).build();
+        return Stream.of(
+            Arguments.of("tech stack by startDate", techStack, Sort.by(Sort.Direction.ASC, "startDate"),
+                    Set.of("p1", "p2"), "tech_stacks_start_date_id_idx"),
+            Arguments.of("tech stack by createdAt", techStack, Sort.by(Sort.Direction.DESC, "createdAt"),
+                    Set.of("p1", "p2"), "tech_stacks_created_at_id_idx"),
+            Arguments.of("tech stack by viewCount", techStack, Sort.by(Sort.Direction.DESC, "viewCount"),
+                    Set.of("p1", "p2"), "tech_stacks_view_count_id_idx"),
+            Arguments.of("tech stack and year by startDate", techStack.withinYear(2024),
+                    Sort.by(Sort.Direction.DESC, "startDate"), Set.of("p2"), "tech_stacks_start_date_id_idx"),
+            Arguments.of("status by startDate", status, Sort.by(Sort.Direction.DESC, "startDate"),
+                    Set.of("p1", "p3", "p4"), "status_start_date_id_idx"),
+            Arguments.of("status by createdAt", status, Sort.by(Sort.Direction.ASC, "createdAt"),
+                    Set.of("p1", "p3", "p4"), "status_created_at_id_idx"),
+            Arguments.of("status by viewCount", status, Sort.by(Sort.Direction.DESC, "viewCount"),
+                    Set.of("p1", "p3", "p4"), "status_view_count_id_idx"),
+            Arguments.of("featured by startDate", featured, Sort.by(Sort.Direction.ASC, "startDate"),
+                    Set.of("p1", "p4"), "featured_start_date_id_idx"),
+            Arguments.of("featured by createdAt", featured, Sort.by(Sort.Direction.DESC, "createdAt"),
+                    Set.of("p1", "p4"), "featured_created_at_id_idx"),
+            Arguments.of("featured by viewCount", featured, Sort.by(Sort.Direction.ASC, "viewCount"),
+                    Set.of("p1", "p4"), "featured_view_count_id_idx"),
+            Arguments.of("start date range by startDate", startDateRange, Sort.by(Sort.Direction.DESC, "startDate"),
+                    Set.of("p1", "p2"), START_DATE_IDX),
+            Arguments.of("start date range by createdAt", startDateRange, Sort.by(Sort.Direction.DESC, "createdAt"),
+                    Set.of("p1", "p2"), "created_at_id_idx"),
+            Arguments.of("start date range by viewCount", startDateRange, Sort.by(Sort.Direction.DESC, "viewCount"),
+                    Set.of("p1", "p2"), "view_count_id_idx")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sortMatrix")
+    @DisplayName("Filters under a non-default sort run on an index serving that sort")
+    void filterWithSortUsesSortServingIndex(String name, ProjectFilter filter, Sort sort, Set<String> expected,
+                                            String expectedIndex) {
+        assertFilterPlan(name, filter, sort, expected, expectedIndex, true);
+    }
+
+    private void assertFilterPlan(String name, ProjectFilter filter, Sort sort, Set<String> expected,
+                                  String expectedIndex, boolean sortedByIndex) {
+        List<String> matchedIds = projectRepository.findByFilter(filter, PageRequest.of(0, 1000, sort))
+                .getContent().stream()
+                .map(Project::getId)
+                .filter(seededIds::containsValue)
+                .toList();
+        Set<String> expectedIds = expected.stream().map(seededIds::get).collect(Collectors.toSet());
+        assertThat(matchedIds).as(name).containsExactlyInAnyOrderElementsOf(expectedIds);
+
+        Query query = filter.toQuery(sort).with(sort);
+        IndexManagementService.QueryPlan plan = indexManagementService.explain(name, query, Project.class);
+        assertThat(plan.getError()).as(name).isNull();
+        assertThat(plan.isCollectionScan()).as("%s scans the collection: %s", name, plan.getStages()).isFalse();
+        assertThat(plan.getIndexesUsed()).as(name).contains(expectedIndex);
+        assertThat(plan.isBlockingSort()).as("%s in-memory sort: %s", name, plan.getStages()).isEqualTo(!sortedByIndex);
+    }
+}
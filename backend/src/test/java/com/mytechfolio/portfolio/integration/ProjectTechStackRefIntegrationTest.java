@@ -0,0 +1,136 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.service.ProjectTechStackRefService;
+import com.mytechfolio.portfolio.service.TechStackCatalog;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Denormalized project tech stack data tests.
+ * Checks that renames and deletes reach the embedding projects, and that
+ * drift (including projects written before denormalization) is found and repaired.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Project Tech Stack Ref Tests")
+class ProjectTechStackRefIntegrationTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TechStackRepository techStackRepository;
+
+    @Autowired
+    private TechStackCatalog techStackCatalog;
+
+    @Autowired
+    private ProjectTechStackRefService techStackRefService;
+
+    private final List<Project> projects = new ArrayList<>();
+    private List<TechStack> techStacks;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = new ObjectId().toHexString();
+        techStacks = techStackRepository.saveAll(List.of(
+                TechStack.builder().name("Ref Java " + suffix).type(TechStack.TechType.BACKEND).build(),
+                TechStack.builder().name("Ref React " + suffix).type(TechStack.TechType.FRONTEND).build()));
+        // Tech stacks were written directly, without a change event
+        techStackCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll(projects);
+        techStackRepository.deleteAll(techStacks);
+    }
+
+    @Test
+    @DisplayName("Renames are propagated to embedding projects")
+    void renameIsPropagated() {
+        Project project = save(techStackRefService.resolve(ids()));
+        TechStack java = techStacks.get(0);
+        java.setName(java.getName() + " 21");
+        techStackRepository.save(java);
+
+        techStackRefService.propagate(java.getId());
+
+        assertThat(reload(project).getTechStackRefs())
+                .extracting(Project.TechStackRef::getName)
+                .containsExactly(java.getName(), techStacks.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Deleted tech stacks are removed from embedding projects")
+    void deleteIsPropagated() {
+        Project project = save(techStackRefService.resolve(ids()));
+        TechStack react = techStacks.get(1);
+        techStackRepository.delete(react);
+
+        techStackRefService.propagate(react.getId());
+
+        Project reloaded = reload(project);
+        assertThat(reloaded.getTechStackRefs())
+                .extracting(Project.TechStackRef::getTechStackId)
+                .containsExactly(techStacks.get(0).getId());
+        assertThat(reloaded.getTechStackIds()).containsExactlyElementsOf(ids());
+    }
+
+    @Test
+    @DisplayName("Drifted and legacy projects are found and repaired")
+    void driftIsRepaired() {
+        List<Project.TechStackRef> stale = techStackRefService.resolve(ids());
+        stale.get(0).setName("Stale name");
+        Project drifted = save(stale);
+        Project legacy = save(null);
+
+        assertThat(techStackRefService.check().getDriftedProjects()).isGreaterThanOrEqualTo(2);
+        ProjectTechStackRefService.ConsistencyReport report = techStackRefService.repair();
+
+        assertThat(report.getRepairedProjects()).isGreaterThanOrEqualTo(2);
+        List<String> expectedNames = techStacks.stream().map(TechStack::getName).toList();
+        assertThat(reload(drifted).getTechStackRefs())
+                .extracting(Project.TechStackRef::getName)
+                .containsExactlyElementsOf(expectedNames);
+        assertThat(reload(legacy).getTechStackRefs())
+                .extracting(Project.TechStackRef::getName)
+                .containsExactlyElementsOf(expectedNames);
+    }
+
+    private List<String> ids() {
+        return techStacks.stream().map(TechStack::getId).toList();
+    }
+
+    private Project save(List<Project.TechStackRef> refs) {
+        Project project = projectRepository.save(Project.builder()
+                .title("Ref project")
+                .summary("Ref summary")
+                .startDate(LocalDate.of(2024, 3, 1))
+                .techStackIds(ids())
+                .techStackRefs(refs)
+                .build());
+        projects.add(project);
+        return project;
+    }
+
+    private Project reload(Project project) {
+        return projectRepository.findById(project.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,97 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.service.monitoring.IndexManagementService;
+import com.mytechfolio.portfolio.util.PaginationUtil;
+import com.mytechfolio.portfolio.util.ResourceQueryFields;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sort and filter index coverage tests.
+ * Verifies with explain() that every sort and filter field accepted from clients
+ * is served by an index, and that other fields are rejected.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Sort/Filter Index Coverage Tests")
+class SortIndexCoverageIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IndexManagementService indexManagementService;
+
+    @BeforeEach
+    void setUp() {
+        assertThat(indexManagementService.ensureIndexes()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ResourceQueryFields.class)
+    @DisplayName("Every allowed sort is served by its index without an in-memory sort")
+    void everyAllowedSortIsIndexBacked(ResourceQueryFields resource) {
+        for (String field : resource.getSortableFields()) {
+            for (int direction : new int[] {1, -1}) {
+                IndexManagementService.QueryPlan plan = indexManagementService.explain(
+                        resource + " sort " + field, resource.getCollection(),
+                        new Document(), new Document(field, direction));
+
+                assertThat(plan.getError()).as(plan.getQuery()).isNull();
+                assertThat(plan.isBlockingSort()).as("%s uses an in-memory sort: %s", plan.getQuery(), plan.getStages())
+                        .isFalse();
+                assertThat(plan.getIndexesUsed()).as(plan.getQuery()).contains(resource.getSortIndex(field));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ResourceQueryFields.class)
+    @DisplayName("Every allowed filter is served by an index")
+    void everyAllowedFilterIsIndexBacked(ResourceQueryFields resource) {
+        for (String field : resource.getFilterableFields()) {
+            IndexManagementService.QueryPlan plan = indexManagementService.explain(
+                    resource + " filter " + field, resource.getCollection(),
+                    new Document(field, "value"), null);
+
+            assertThat(plan.getError()).as(plan.getQuery()).isNull();
+            assertThat(plan.isCollectionScan()).as("%s scans the collection: %s", plan.getQuery(), plan.getStages())
+                    .isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Unindexed sort fields are rejected and known aliases are rewritten")
+    void unindexedSortIsRejectedOrRewritten() {
+        assertThatThrownBy(() -> PaginationUtil.parseSort(ResourceQueryFields.PROJECT, "description,asc"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported sort field");
+
+        Sort rewritten = PaginationUtil.parseSort(ResourceQueryFields.PROJECT, "updatedAt,desc");
+        assertThat(rewritten.getOrderFor("createdAt")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Project list rejects an unindexed sort with 400")
+    void projectListRejectsUnindexedSort() throws Exception {
+        mockMvc.perform(get("/api/v1/projects")
+                .param("sort", "description,asc"))
+            .andExpect(status().isBadRequest());
+    }
+}
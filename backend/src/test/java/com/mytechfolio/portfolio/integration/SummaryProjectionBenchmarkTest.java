@@ -0,0 +1,192 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Academic;
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.Testimonial;
+import com.mytechfolio.portfolio.repository.SummaryProjections;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List view projection benchmark.
+ * Reads the same documents with and without the summary projection and reports
+ * the BSON bytes returned by MongoDB and the time spent decoding and mapping them to entities.
+ *
+ * Excluded from the default test task; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Summary Projection Benchmark")
+class SummaryProjectionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryProjectionBenchmarkTest.class);
+
+    private static final String MARKER = "projection-benchmark";
+    private static final int DOCUMENTS = 200;
+    private static final int DESCRIPTION_LENGTH = 20_000;
+    private static final int ROUNDS = 20;
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+    private static final DecoderContext DECODER = DecoderContext.builder().build();
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String description = "## Overview\n" + "Lorem ipsum dolor sit amet. ".repeat(DESCRIPTION_LENGTH / 28);
+        List<Project> projects = new ArrayList<>();
+        List<Academic> academics = new ArrayList<>();
+        List<Testimonial> testimonials = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            projects.add(Project.builder()
+                    .title("Benchmark project " + i)
+                    .summary(MARKER)
+                    .description(description)
+                    .startDate(LocalDate.of(2023, 1, 1))
+                    .endDate(LocalDate.of(2024, 1, 1))
+                    .githubUrl("https://github.com/example/project-" + i)
+                    .demoUrl("https://example.com/project-" + i)
+                    .repositoryName("project-" + i)
+                    .build());
+            academics.add(Academic.builder()
+                    .subjectCode(MARKER)
+                    .name("Benchmark subject " + i)
+                    .semester("2024 AUT")
+                    .description("Subject outline " + i)
+                    .creditPoints(6)
+                    .marks(80)
+                    .year(2024)
+                    .build());
+            testimonials.add(Testimonial.builder()
+                    .authorName("Author " + i)
+                    .authorEmail("author" + i + "@example.com")
+                    .content("Great to work with. ".repeat(20))
+                    .rating(5)
+                    .internalNotes(MARKER + " " + "Moderation history. ".repeat(100))
+                    .linkedInProfileUrl("https://linkedin.com/in/author-" + i)
+                    .build());
+        }
+        mongoTemplate.insertAll(projects);
+        mongoTemplate.insertAll(academics);
+        mongoTemplate.insertAll(testimonials);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getCollection("projects").deleteMany(new Document("summary", MARKER));
+        mongoTemplate.getCollection("academics").deleteMany(new Document("subjectCode", MARKER));
+        mongoTemplate.getCollection("testimonials").deleteMany(
+                new Document("internalNotes", new Document("$regex", "^" + MARKER)));
+    }
+
+    @Test
+    @DisplayName("Projected list reads transfer and map less data than full documents")
+    void projectionReducesTransferAndMapping() {
+        Result project = measure(Project.class, new Document("summary", MARKER), SummaryProjections.PROJECT);
+        Result academic = measure(Academic.class, new Document("subjectCode", MARKER), SummaryProjections.ACADEMIC);
+        Result testimonial = measure(Testimonial.class,
+                new Document("internalNotes", new Document("$regex", "^" + MARKER)), SummaryProjections.TESTIMONIAL);
+
+        log.info("Summary projection benchmark:\n{}\n{}\n{}\n{}", Result.HEADER, project, academic, testimonial);
+
+        // Every document carries a 20 KB description the summary never reads
+        assertThat(project.projectedBytes).isLessThan(project.fullBytes / 20);
+        assertThat(academic.projectedBytes).isLessThan(academic.fullBytes);
+        assertThat(testimonial.projectedBytes).isLessThan(testimonial.fullBytes / 2);
+    }
+
+    private Result measure(Class<?> entityClass, Document filter, String projection) {
+        Document fields = Document.parse(projection);
+        // Warm up the driver and mapping metadata
+        read(entityClass, filter, null);
+        read(entityClass, filter, fields);
+
+        Result result = new Result(entityClass.getSimpleName());
+        for (int round = 0; round < ROUNDS; round++) {
+            Read full = read(entityClass, filter, null);
+            Read projected = read(entityClass, filter, fields);
+            result.fullBytes = full.bytes;
+            result.projectedBytes = projected.bytes;
+            result.fullMappingNanos += full.mappingNanos;
+            result.projectedMappingNanos += projected.mappingNanos;
+        }
+        result.fullMappingNanos /= ROUNDS;
+        result.projectedMappingNanos /= ROUNDS;
+        assertThat(result.fullBytes).isPositive();
+        return result;
+    }
+
+    /**
+     * Reads raw BSON, as returned on the wire, then decodes and maps it the way MongoTemplate does.
+     */
+    private Read read(Class<?> entityClass, Document filter, Document fields) {
+        List<RawBsonDocument> raw = new ArrayList<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+                .withDocumentClass(RawBsonDocument.class)
+                .find(filter)
+                .projection(fields)
+                .into(raw);
+
+        Read read = new Read();
+        for (RawBsonDocument document : raw) {
+            read.bytes += document.getByteBuffer().remaining();
+        }
+        assertThat(raw).hasSize(DOCUMENTS);
+
+        // Deserialisation: BSON decoding plus entity mapping
+        long start = System.nanoTime();
+        for (RawBsonDocument document : raw) {
+            mongoTemplate.getConverter().read(entityClass, DOCUMENT_CODEC.decode(document.asBsonReader(), DECODER));
+        }
+        read.mappingNanos = System.nanoTime() - start;
+        return read;
+    }
+
+    private static final class Read {
+        private long bytes;
+        private long mappingNanos;
+    }
+
+    private static final class Result {
+
+        private static final String HEADER = String.format("%-12s %14s %14s %16s %16s",
+                "collection", "full bytes", "proj. bytes", "full read (us)", "proj. read (us)");
+
+        private final String name;
+        private long fullBytes;
+        private long projectedBytes;
+        private long fullMappingNanos;
+        private long projectedMappingNanos;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-12s %14d %14d %16d %16d", name, fullBytes, projectedBytes,
+                    fullMappingNanos / 1_000, projectedMappingNanos / 1_000);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mytechfolio.portfolio.integration;
+
+import com.mytechfolio.portfolio.domain.Project;
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.ProjectRepository;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.service.TechStackUsageService;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tech stack usage count tests.
+ * Checks that project tech stack changes are applied as deltas and that
+ * reconciliation recomputes drifted counts from the projects.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tech Stack Usage Count Tests")
+class TechStackUsageIntegrationTest {
+
+    @Autowired
+    private TechStackUsageService techStackUsageService;
+
+    @Autowired
+    private TechStackRepository techStackRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private final List<Project> projects = new ArrayList<>();
+    private List<TechStack> techStacks;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = new ObjectId().toHexString();
+        techStacks = techStackRepository.saveAll(List.of(
+                TechStack.builder().name("Usage Java " + suffix).type(TechStack.TechType.BACKEND).build(),
+                TechStack.builder().name("Usage React " + suffix).type(TechStack.TechType.FRONTEND).build(),
+                TechStack.builder().name("Usage Docker " + suffix).type(TechStack.TechType.DEVOPS).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll(projects);
+        techStackRepository.deleteAll(techStacks);
+    }
+
+    @Test
+    @DisplayName("Only added and removed tech stacks are counted")
+    void appliesSetDifference() {
+        techStackUsageService.applyChange(List.of(), List.of(id(0), id(1), id(1)));
+        techStackUsageService.applyChange(List.of(id(0), id(1)), List.of(id(1), id(2)));
+
+        assertThat(usageCounts()).containsExactly(0L, 1L, 1L);
+
+        techStackUsageService.applyChange(List.of(id(1), id(2)), List.of());
+
+        assertThat(usageCounts()).containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("Reconciliation recomputes drifted counts from projects")
+    void reconcileCorrectsDrift() {
+        saveProject(List.of(id(0), id(1)));
+        saveProject(List.of(id(0), id(0)));
+        TechStack drifted = techStacks.get(2);
+        drifted.setUsageCount(7L);
+        techStackRepository.save(drifted);
+
+        TechStackUsageService.ReconciliationReport report = techStackUsageService.reconcile();
+
+        assertThat(report.getCorrectedTechStacks()).isGreaterThanOrEqualTo(3);
+        assertThat(usageCounts()).containsExactly(2L, 1L, 0L);
+        assertThat(techStackUsageService.reconcile().getCorrectedTechStacks()).isZero();
+    }
+
+    private String id(int index) {
+        return techStacks.get(index).getId();
+    }
+
+    private List<Long> usageCounts() {
+        return techStacks.stream()
+                .map(techStack -> techStackRepository.findById(techStack.getId()).orElseThrow().getUsageCount())
+                .toList();
+    }
+
+    private void saveProject(List<String> techStackIds) {
+        projects.add(projectRepository.save(Project.builder()
+                .title("Usage project")
+                .summary("Usage summary")
+                .startDate(LocalDate.of(2024, 5, 1))
+                .techStackIds(techStackIds)
+                .build()));
+    }
+}
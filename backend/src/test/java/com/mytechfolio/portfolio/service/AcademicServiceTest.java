@@ -29,6 +29,9 @@ class AcademicServiceTest {
     @Mock
     private AcademicMapper academicMapper;
     
+    @Mock
+    private ProjectCacheInvalidator projectCacheInvalidator;
+    
     @InjectMocks
     private AcademicService academicService;
 
@@ -92,6 +95,8 @@ class AcademicServiceTest {
         assertThat(result).isNotNull();
         verify(academicMapper).updateEntity(existing, request);
         verify(academicRepository).save(existing);
+        // Grade-only change leaves cached project details valid
+        verify(projectCacheInvalidator, never()).onAcademicChanged(any());
     }
 
     @Test
@@ -118,6 +123,7 @@ class AcademicServiceTest {
         
         // Then
         verify(academicRepository).deleteById(id);
+        verify(projectCacheInvalidator).onAcademicChanged(id);
     }
 }
 
@@ -60,6 +60,7 @@ class ContactServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getEmail()).isEqualTo("john@example.com");
         verify(contactRepository).save(any(Contact.class));
+        verify(validationService).recordContactSubmission("john@example.com", "Test message", "127.0.0.1");
         verify(emailService).sendContactNotification(any(), any(), any(), any(), any());
     }
 
@@ -4,22 +4,26 @@ import com.mytechfolio.portfolio.domain.Project;
 import com.mytechfolio.portfolio.domain.TechStack;
 import com.mytechfolio.portfolio.dto.request.ProjectCreateRequest;
 import com.mytechfolio.portfolio.dto.request.ProjectUpdateRequest;
+import com.mytechfolio.portfolio.dto.response.PageResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectDetailResponse;
 import com.mytechfolio.portfolio.dto.response.ProjectSummaryResponse;
 import com.mytechfolio.portfolio.exception.ResourceNotFoundException;
 import com.mytechfolio.portfolio.mapper.ProjectMapper;
 import com.mytechfolio.portfolio.repository.AcademicRepository;
+import com.mytechfolio.portfolio.repository.ProjectFilter;
 import com.mytechfolio.portfolio.repository.ProjectRepository;
-import com.mytechfolio.portfolio.repository.TechStackRepository;
+import com.mytechfolio.portfolio.util.CountMode;
+import com.mytechfolio.portfolio.util.KeysetPaginator;
+import com.mytechfolio.portfolio.util.OffsetPaginator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -38,7 +42,13 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
     
     @Mock
-    private TechStackRepository techStackRepository;
+    private TechStackCatalog techStackCatalog;
+
+    @Mock
+    private ProjectTechStackRefService techStackRefService;
+
+    @Mock
+    private TechStackUsageService techStackUsageService;
     
     @Mock
     private AcademicRepository academicRepository;
@@ -46,6 +56,12 @@ class ProjectServiceTest {
     @Mock
     private ProjectMapper projectMapper;
     
+    @Mock
+    private KeysetPaginator keysetPaginator;
+    
+    @Mock
+    private OffsetPaginator offsetPaginator;
+    
     @InjectMocks
     private ProjectService projectService;
 
@@ -67,16 +83,19 @@ class ProjectServiceTest {
         Project entity = Project.builder()
             .id("123")
             .title("Test Project")
+            .techStackIds(List.of("tech1", "tech2"))
             .build();
+        List<Project.TechStackRef> refs = List.of(
+            new Project.TechStackRef("tech1", "Java", TechStack.TechType.BACKEND, null),
+            new Project.TechStackRef("tech2", "React", TechStack.TechType.FRONTEND, null));
         
         ProjectDetailResponse response = ProjectDetailResponse.builder()
             .id("123")
             .title("Test Project")
             .build();
         
-        when(techStackRepository.findByIdIn(any())).thenReturn(List.of(new TechStack()));
-        when(academicRepository.findAllById(any())).thenReturn(List.of());
         when(projectMapper.toEntity(any())).thenReturn(entity);
+        when(techStackRefService.resolve(List.of("tech1", "tech2"))).thenReturn(refs);
         when(projectRepository.save(any())).thenReturn(entity);
         lenient().when(projectMapper.toResponse(any())).thenReturn(response);
         
@@ -86,6 +105,7 @@ class ProjectServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Test Project");
+        assertThat(entity.getTechStackRefs()).isEqualTo(refs);
         verify(projectRepository).save(any(Project.class));
     }
 
@@ -101,26 +121,71 @@ class ProjectServiceTest {
             .hasMessageContaining("Project not found");
     }
 
+    @Test
+    void shouldGetProjectDetailFromAggregation() {
+        // Given
+        String id = "project-123";
+        ReflectionTestUtils.setField(projectService, "detailAggregationEnabled", true);
+        ProjectDetailResponse detail = ProjectDetailResponse.builder()
+            .id(id)
+            .techStacks(List.of("Java"))
+            .build();
+        when(projectRepository.findDetailById(id)).thenReturn(Optional.of(detail));
+        
+        // When
+        ProjectDetailResponse result = projectService.getProject(id);
+        
+        // Then
+        assertThat(result).isSameAs(detail);
+        verify(projectRepository, never()).findByIdWithDetails(any());
+        verifyNoInteractions(projectMapper);
+    }
+
+    @Test
+    void shouldFallBackToMapperWhenDetailAggregationFails() {
+        // Given
+        String id = "project-123";
+        ReflectionTestUtils.setField(projectService, "detailAggregationEnabled", true);
+        Project project = Project.builder().id(id).title("Test Project").build();
+        ProjectDetailResponse response = ProjectDetailResponse.builder().id(id).title("Test Project").build();
+        when(projectRepository.findDetailById(id)).thenThrow(new UncategorizedMongoDbException("$convert", null));
+        when(projectRepository.findByIdWithDetails(id)).thenReturn(Optional.of(project));
+        when(projectMapper.toResponse(project)).thenReturn(response);
+        
+        // When
+        ProjectDetailResponse result = projectService.getProject(id);
+        
+        // Then
+        assertThat(result).isSameAs(response);
+    }
+
     @Test
     void shouldGetProjectsWithTechStackFilter() {
         // Given
         int page = 1;
         int size = 10;
         String sort = "endDate,desc";
-        String techStacks = "tech1,tech2";
-        Integer year = 2024;
+        ProjectFilter filter = ProjectFilter.builder()
+            .techStackIds(List.of("tech1", "tech2"))
+            .build()
+            .withinYear(2024);
         
-        Page<Project> projectPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+        PageResponse<ProjectSummaryResponse> pageResponse = PageResponse.<ProjectSummaryResponse>builder()
+            .page(page)
+            .size(size)
+            .items(List.of())
+            .build();
         
-        when(projectRepository.findProjectsWithFilters(any(), eq(year), any()))
-            .thenReturn(projectPage);
+        when(offsetPaginator.<Project, ProjectSummaryResponse>page(eq(Project.class), any(Query.class), any(Pageable.class),
+                eq(CountMode.NONE), any(), eq(page)))
+            .thenReturn(pageResponse);
         
         // When
-        var result = projectService.getProjects(page, size, sort, techStacks, year);
+        var result = projectService.getProjects(page, size, sort, filter, CountMode.NONE);
         
         // Then
-        assertThat(result).isNotNull();
-        verify(projectRepository).findProjectsWithFilters(any(), eq(year), any());
+        assertThat(result).isSameAs(pageResponse);
+        assertThat(result.getTotal()).isNull();
     }
 
     @Test
@@ -142,6 +207,7 @@ class ProjectServiceTest {
         Project existing = Project.builder()
             .id(id)
             .title("Original Title")
+            .techStackIds(List.of("tech1", "tech2"))
             .build();
         
         ProjectDetailResponse response = ProjectDetailResponse.builder()
@@ -152,6 +218,10 @@ class ProjectServiceTest {
         when(projectRepository.findByIdWithDetails(id)).thenReturn(Optional.of(existing));
         when(projectRepository.save(any())).thenReturn(existing);
         when(projectMapper.toResponse(any())).thenReturn(response);
+        doAnswer(invocation -> {
+            existing.setTechStackIds(request.getTechStackIds());
+            return null;
+        }).when(projectMapper).updateEntity(existing, request);
         
         // When
         ProjectDetailResponse result = projectService.updateProject(id, request);
@@ -160,31 +230,37 @@ class ProjectServiceTest {
         assertThat(result).isNotNull();
         verify(projectMapper).updateEntity(existing, request);
         verify(projectRepository).save(existing);
+        verify(techStackUsageService).applyChange(List.of("tech1", "tech2"), List.of("tech1"));
     }
 
     @Test
     void shouldDeleteProjectWhenExists() {
         // Given
         String id = "project-123";
-        when(projectRepository.existsById(id)).thenReturn(true);
-        doNothing().when(projectRepository).deleteById(id);
+        Project removed = Project.builder()
+            .id(id)
+            .techStackIds(List.of("tech1", "tech2"))
+            .build();
+        when(projectRepository.removeById(id)).thenReturn(Optional.of(removed));
         
         // When
         projectService.deleteProject(id);
         
         // Then
-        verify(projectRepository).deleteById(id);
+        verify(projectRepository).removeById(id);
+        verify(techStackUsageService).applyChange(List.of("tech1", "tech2"), List.of());
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentProject() {
         // Given
         String id = "non-existent-id";
-        when(projectRepository.existsById(id)).thenReturn(false);
+        when(projectRepository.removeById(id)).thenReturn(Optional.empty());
         
         // When/Then
         assertThatThrownBy(() -> projectService.deleteProject(id))
             .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(techStackUsageService);
     }
 }
 
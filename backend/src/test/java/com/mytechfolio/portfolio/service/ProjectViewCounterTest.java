@@ -0,0 +1,138 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.domain.Project;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectViewCounterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private ProjectViewCounter projectViewCounter;
+
+    private final String projectId = new ObjectId().toHexString();
+
+    private static Project project(String id, long viewCount) {
+        return Project.builder().id(id).title("Counter project").viewCount(viewCount).build();
+    }
+
+    @Test
+    void shouldFlushConcurrentViewsAsOneIncrement() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> projectViewCounter.record(projectId));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Project.class))).thenReturn(project(projectId, 1000));
+
+        // When
+        long written = projectViewCounter.flush();
+
+        // Then
+        assertThat(written).isEqualTo(1000);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), options.capture(), eq(Project.class));
+        assertThat(update.getValue().getUpdateObject())
+            .isEqualTo(new Document("$inc", new Document("viewCount", 1000L)));
+        assertThat(options.getValue().isReturnNew()).isTrue();
+        assertThat(projectViewCounter.pendingViews(projectId)).isZero();
+    }
+
+    @Test
+    void shouldNotifyWhenOwnUpdateCrossesMilestone() {
+        // Given: another instance already wrote views of otherId, so only projectId's update crosses 100
+        String otherId = new ObjectId().toHexString();
+        for (int i = 0; i < 3; i++) {
+            projectViewCounter.record(projectId);
+            projectViewCounter.record(otherId);
+        }
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Project.class))).thenAnswer(invocation -> {
+                Document criteria = invocation.<Query>getArgument(0).getQueryObject();
+                return projectId.equals(criteria.get("_id")) ? project(projectId, 101) : project(otherId, 110);
+            });
+
+        // When
+        projectViewCounter.flush();
+
+        // Then
+        verify(emailService).sendPortfolioViewMilestone("100 views - Counter project", 101L);
+        verifyNoMoreInteractions(emailService);
+    }
+
+    @Test
+    void shouldKeepViewsPendingWhenWriteFails() {
+        // Given
+        projectViewCounter.record(projectId);
+        projectViewCounter.record(projectId);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(Project.class))).thenThrow(new UncategorizedMongoDbException("Mongo unavailable", null));
+
+        // When
+        long written = projectViewCounter.flush();
+
+        // Then
+        assertThat(written).isZero();
+        assertThat(projectViewCounter.pendingViews(projectId)).isEqualTo(2);
+        verify(emailService, never()).sendPortfolioViewMilestone(anyString(), anyLong());
+    }
+
+    @Test
+    void shouldStopTrackingDeletedProject() {
+        // Given
+        projectViewCounter.record(projectId);
+
+        // When
+        long written = projectViewCounter.flush();
+
+        // Then: findAndModify found no project
+        assertThat(written).isZero();
+        assertThat(projectViewCounter.pendingViews(projectId)).isZero();
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void shouldSkipFlushWithoutViews() {
+        // Given
+        projectViewCounter.record("not-an-object-id");
+
+        // When
+        long written = projectViewCounter.flush();
+
+        // Then
+        assertThat(written).isZero();
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,147 @@
+package com.mytechfolio.portfolio.service;
+
+import com.mytechfolio.portfolio.domain.TechStack;
+import com.mytechfolio.portfolio.repository.TechStackRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechStackCatalogTest {
+
+    @Mock
+    private TechStackRepository techStackRepository;
+
+    @InjectMocks
+    private TechStackCatalog techStackCatalog;
+
+    private static TechStack techStack(String id, String name, TechStack.TechType type) {
+        return TechStack.builder().id(id).name(name).type(type).build();
+    }
+
+    @Test
+    void shouldIndexSnapshotByIdNameAndType() {
+        // Given
+        when(techStackRepository.findAll()).thenReturn(List.of(
+            techStack("1", "Spring Boot", TechStack.TechType.BACKEND),
+            techStack("2", "React", TechStack.TechType.FRONTEND),
+            techStack("3", "Java", TechStack.TechType.BACKEND)));
+
+        // When
+        TechStackCatalog.Snapshot snapshot = techStackCatalog.snapshot();
+
+        // Then
+        assertThat(snapshot.findById("2")).map(TechStackCatalog.TechStackRef::name).contains("React");
+        assertThat(snapshot.findByName("spring boot")).map(TechStackCatalog.TechStackRef::id).contains("1");
+        assertThat(snapshot.findByType(TechStack.TechType.BACKEND))
+            .extracting(TechStackCatalog.TechStackRef::name)
+            .containsExactly("Java", "Spring Boot");
+        assertThat(snapshot.findByType(TechStack.TechType.MOBILE)).isEmpty();
+    }
+
+    @Test
+    void shouldResolveNamesWithoutQueryingAgain() {
+        // Given
+        when(techStackRepository.findAll()).thenReturn(List.of(
+            techStack("1", "Spring Boot", TechStack.TechType.BACKEND),
+            techStack("2", "React", TechStack.TechType.FRONTEND)));
+
+        // When
+        techStackCatalog.namesById(List.of("1"));
+        var names = techStackCatalog.namesById(List.of("2", "1"));
+
+        // Then
+        assertThat(names).containsExactly(
+            Map.entry("2", "React"),
+            Map.entry("1", "Spring Boot"));
+        verify(techStackRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldSwapSnapshotOnChangeEvent() {
+        // Given
+        when(techStackRepository.findAll())
+            .thenReturn(List.of(techStack("1", "Spring", TechStack.TechType.BACKEND)))
+            .thenReturn(List.of(techStack("1", "Spring Boot", TechStack.TechType.BACKEND)));
+        TechStackCatalog.Snapshot before = techStackCatalog.snapshot();
+
+        // When
+        techStackCatalog.onTechStackChanged(new TechStackChangedEvent("1"));
+
+        // Then
+        assertThat(techStackCatalog.snapshot()).isNotSameAs(before);
+        assertThat(techStackCatalog.namesById(List.of("1"))).containsEntry("1", "Spring Boot");
+        // The old snapshot is unchanged for readers still holding it
+        assertThat(before.findById("1")).map(TechStackCatalog.TechStackRef::name).contains("Spring");
+    }
+
+    @Test
+    void shouldThrottleReloadsOnUnknownIds() {
+        // Given
+        when(techStackRepository.findAll())
+            .thenReturn(List.of(techStack("1", "Java", TechStack.TechType.BACKEND)));
+
+        // When: a fresh snapshot is not reloaded for a miss
+        assertThat(techStackCatalog.namesById(List.of("1", "missing"))).containsOnlyKeys("1");
+        verify(techStackRepository, times(1)).findAll();
+
+        // When: an older snapshot is reloaded once
+        ReflectionTestUtils.setField(techStackCatalog, "missRefreshInterval", Duration.ofMillis(-1));
+        techStackCatalog.namesById(List.of("1", "missing"));
+
+        // Then
+        verify(techStackRepository, times(2)).findAll();
+    }
+
+    @Test
+    void shouldReuseReloadThatStartedWhileWaiting() throws Exception {
+        // Given: the first reload blocks inside the query
+        CountDownLatch release = new CountDownLatch(1);
+        List<TechStack> techStacks = List.of(techStack("1", "Java", TechStack.TechType.BACKEND));
+        when(techStackRepository.findAll())
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return techStacks;
+            })
+            .thenReturn(techStacks);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CompletableFuture<TechStackCatalog.Snapshot> inFlight =
+            CompletableFuture.supplyAsync(techStackCatalog::refresh, executor);
+        ReentrantLock refreshLock = (ReentrantLock) ReflectionTestUtils.getField(techStackCatalog, "refreshLock");
+        while (!refreshLock.isLocked()) {
+            Thread.onSpinWait();
+        }
+
+        // When: two more reloads queue behind it
+        CompletableFuture<TechStackCatalog.Snapshot> second =
+            CompletableFuture.supplyAsync(techStackCatalog::refresh, executor);
+        CompletableFuture<TechStackCatalog.Snapshot> third =
+            CompletableFuture.supplyAsync(techStackCatalog::refresh, executor);
+        while (refreshLock.getQueueLength() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        CompletableFuture.allOf(inFlight, second, third).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then: the blocked reload started before their requests, so one more reload serves both
+        verify(techStackRepository, times(2)).findAll();
+        assertThat(second.get()).isSameAs(third.get()).isNotSameAs(inFlight.get());
+    }
+}
@@ -0,0 +1,213 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.domain.PerformanceSnapshot;
+import com.mytechfolio.portfolio.repository.PerformanceSnapshotRepository;
+import com.mytechfolio.portfolio.service.PerformanceMonitoringService;
+import com.mytechfolio.portfolio.util.PerformanceMetrics;
+import com.mytechfolio.portfolio.util.RouteMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsHistoryServiceTest {
+
+    @Mock
+    private PerformanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PerformanceMonitoringService performanceMonitoringService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private MetricsHistoryService metricsHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(metricsHistoryService, "enabled", true);
+        ReflectionTestUtils.setField(metricsHistoryService, "instanceId", "instance-a");
+        ReflectionTestUtils.setField(metricsHistoryService, "minuteRetentionHours", 24);
+        ReflectionTestUtils.setField(metricsHistoryService, "hourRetentionDays", 30);
+        ReflectionTestUtils.setField(metricsHistoryService, "maxRoutesPerSnapshot", 100);
+        metricsHistoryService.init();
+    }
+
+    private static RouteMetrics route(String route, int requests, int errors) {
+        RouteMetrics metrics = new RouteMetrics(route);
+        for (int i = 0; i < requests; i++) {
+            metrics.record(PerformanceMetrics.builder()
+                    .route(route)
+                    .statusCode(i < errors ? 500 : 200)
+                    .responseTimeMs(40)
+                    .build());
+        }
+        return metrics;
+    }
+
+    private static PerformanceSnapshot.RouteWindow window(String route, int requests, int errors) {
+        RouteMetrics metrics = route(route, requests, errors);
+        return PerformanceSnapshot.RouteWindow.builder()
+                .route(route)
+                .requestCount(metrics.getRequestCount().sum())
+                .errorCount(metrics.getErrorCount().sum())
+                .latencies(metrics.getLatencies().snapshot())
+                .dbTimes(metrics.getDbTimes().snapshot())
+                .responseSizes(metrics.getResponseSizes().snapshot())
+                .cpuTimes(metrics.getCpuTimes().snapshot())
+                .allocations(metrics.getAllocations().snapshot())
+                .build();
+    }
+
+    private PerformanceSnapshot savedSnapshot() {
+        ArgumentCaptor<PerformanceSnapshot> saved = ArgumentCaptor.forClass(PerformanceSnapshot.class);
+        verify(mongoTemplate).findAndReplace(any(Query.class), saved.capture(), any(FindAndReplaceOptions.class));
+        return saved.getValue();
+    }
+
+    private static Map<String, Long> requestCounts(PerformanceSnapshot snapshot) {
+        return snapshot.getRoutes().stream().collect(Collectors.toMap(
+                PerformanceSnapshot.RouteWindow::getRoute, PerformanceSnapshot.RouteWindow::getRequestCount));
+    }
+
+    @Test
+    void shouldMergeCaptureIntoWindowStoredForSameMinute() {
+        // Given: a shutdown flush already stored part of this minute
+        LocalDateTime lastCapture = (LocalDateTime) ReflectionTestUtils.getField(metricsHistoryService, "lastCapture");
+        LocalDateTime windowStart = lastCapture.truncatedTo(ChronoUnit.MINUTES);
+        Date storedExpireAt = new Date(System.currentTimeMillis() + 48 * 3_600_000L);
+        PerformanceSnapshot stored = PerformanceSnapshot.builder()
+                .id("stored-id")
+                .resolution(PerformanceSnapshot.Resolution.MINUTE)
+                .instanceId("instance-a")
+                .windowStart(windowStart)
+                .windowEnd(windowStart)
+                .partial(true)
+                .routes(List.of(window("GET /api/v1/projects", 2, 1), window("GET /api/v1/academics", 1, 0)))
+                .expireAt(storedExpireAt)
+                .build();
+        when(performanceMonitoringService.getRouteMetrics())
+                .thenReturn(List.of(route("GET /api/v1/projects", 3, 0)));
+        when(mongoTemplate.findOne(any(Query.class), eq(PerformanceSnapshot.class))).thenReturn(stored);
+
+        // When
+        metricsHistoryService.captureMinute();
+
+        // Then
+        ArgumentCaptor<Query> key = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(key.capture(), eq(PerformanceSnapshot.class));
+        assertThat(key.getValue().getQueryObject())
+                .containsEntry("instanceId", "instance-a")
+                .containsEntry("resolution", PerformanceSnapshot.Resolution.MINUTE)
+                .containsEntry("windowStart", windowStart);
+
+        PerformanceSnapshot merged = savedSnapshot();
+        assertThat(merged.getId()).isNull();
+        assertThat(merged.getWindowStart()).isEqualTo(windowStart);
+        assertThat(merged.getWindowEnd()).isAfterOrEqualTo(windowStart);
+        assertThat(merged.isPartial()).isTrue();
+        assertThat(merged.getExpireAt()).isEqualTo(storedExpireAt);
+        assertThat(requestCounts(merged))
+                .containsOnly(Map.entry("GET /api/v1/projects", 5L), Map.entry("GET /api/v1/academics", 1L));
+        PerformanceSnapshot.RouteWindow projects = merged.getRoutes().stream()
+                .filter(route -> route.getRoute().equals("GET /api/v1/projects"))
+                .findFirst().orElseThrow();
+        assertThat(projects.getErrorCount()).isEqualTo(1);
+        assertThat(projects.getLatencies().getCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldFoldQuietestRoutesIntoOtherBeyondRouteLimit() {
+        // Given
+        ReflectionTestUtils.setField(metricsHistoryService, "maxRoutesPerSnapshot", 3);
+        when(performanceMonitoringService.getRouteMetrics()).thenReturn(List.of(
+                route("GET /a", 1, 0), route("GET /b", 4, 0), route("GET /c", 2, 1), route("GET /d", 3, 0)));
+
+        // When
+        metricsHistoryService.captureMinute();
+
+        // Then: the two busiest routes are kept, the other two share one entry
+        PerformanceSnapshot saved = savedSnapshot();
+        assertThat(saved.getRoutes()).hasSize(3);
+        assertThat(requestCounts(saved))
+                .containsOnly(Map.entry("GET /b", 4L), Map.entry("GET /d", 3L), Map.entry("OTHER", 3L));
+        PerformanceSnapshot.RouteWindow other = saved.getRoutes().get(2);
+        assertThat(other.getRoute()).isEqualTo("OTHER");
+        assertThat(other.getErrorCount()).isEqualTo(1);
+        assertThat(other.getLatencies().getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipEmptyCapture() {
+        // Given
+        when(performanceMonitoringService.getRouteMetrics()).thenReturn(List.of());
+
+        // When
+        metricsHistoryService.captureMinute();
+
+        // Then
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void shouldReplaceHourRollupPerInstanceWithoutReadingIt() {
+        // Given
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusMinutes(30);
+        when(snapshotRepository.findByResolutionAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc(
+                eq(PerformanceSnapshot.Resolution.MINUTE), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of())
+                .thenReturn(List.of(
+                        minuteWindow("instance-a", minute, window("GET /a", 2, 0)),
+                        minuteWindow("instance-a", minute.plusMinutes(1), window("GET /a", 3, 1)),
+                        minuteWindow("instance-b", minute, window("GET /a", 1, 0))));
+
+        // When
+        metricsHistoryService.rollupHours();
+
+        // Then
+        ArgumentCaptor<PerformanceSnapshot> saved = ArgumentCaptor.forClass(PerformanceSnapshot.class);
+        verify(mongoTemplate, times(2)).findAndReplace(any(Query.class), saved.capture(), any(FindAndReplaceOptions.class));
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(PerformanceSnapshot.class));
+        Map<String, PerformanceSnapshot> byInstance = saved.getAllValues().stream()
+                .collect(Collectors.toMap(PerformanceSnapshot::getInstanceId, snapshot -> snapshot));
+        PerformanceSnapshot hour = byInstance.get("instance-a");
+        assertThat(hour.getResolution()).isEqualTo(PerformanceSnapshot.Resolution.HOUR);
+        assertThat(hour.getWindowStart()).isEqualTo(minute.truncatedTo(ChronoUnit.HOURS));
+        assertThat(hour.getWindowEnd()).isEqualTo(minute.truncatedTo(ChronoUnit.HOURS).plusHours(1));
+        assertThat(requestCounts(hour)).containsOnly(Map.entry("GET /a", 5L));
+        assertThat(requestCounts(byInstance.get("instance-b"))).containsOnly(Map.entry("GET /a", 1L));
+    }
+
+    private static PerformanceSnapshot minuteWindow(String instanceId, LocalDateTime windowStart,
+                                                    PerformanceSnapshot.RouteWindow route) {
+        return PerformanceSnapshot.builder()
+                .resolution(PerformanceSnapshot.Resolution.MINUTE)
+                .instanceId(instanceId)
+                .windowStart(windowStart)
+                .windowEnd(windowStart.plusMinutes(1))
+                .routes(List.of(route))
+                .build();
+    }
+}
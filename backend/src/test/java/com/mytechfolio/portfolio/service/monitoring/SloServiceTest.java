@@ -0,0 +1,178 @@
+package com.mytechfolio.portfolio.service.monitoring;
+
+import com.mytechfolio.portfolio.config.SloProperties;
+import com.mytechfolio.portfolio.util.PerformanceMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SloServiceTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private SloService sloService;
+
+    @BeforeEach
+    void setUp() {
+        SloProperties.Objective objective = new SloProperties.Objective();
+        objective.setName("api");
+        objective.setAvailabilityObjective(0.99);
+
+        SloProperties properties = new SloProperties();
+        properties.setObjectives(List.of(objective));
+        properties.setMinRequests(20);
+
+        sloService = new SloService(properties);
+        at(Duration.ZERO);
+    }
+
+    @Test
+    void shouldComputeBurnRatePerWindow() {
+        // Given: 10% errors 30 minutes ago, just outside the 30m window, and 50% errors now
+        at(Duration.ofMinutes(-30));
+        requests(100, 10);
+        at(Duration.ZERO);
+        requests(10, 5);
+
+        // When
+        Map<String, SloService.WindowStatus> availability = sloService.getStatus().get(0).getAvailability();
+
+        // Then: burn rate = bad ratio / error budget (1%)
+        assertThat(availability.get("5m").getTotal()).isEqualTo(10);
+        assertThat(availability.get("5m").getBurnRate()).isCloseTo(50.0, within(1e-9));
+        assertThat(availability.get("30m").getBurnRate()).isCloseTo(50.0, within(1e-9));
+        assertThat(availability.get("1h").getTotal()).isEqualTo(110);
+        assertThat(availability.get("1h").getBurnRate()).isCloseTo(15.0 / 110 / 0.01, within(1e-9));
+        assertThat(availability.get("6h").getBurnRate()).isCloseTo(15.0 / 110 / 0.01, within(1e-9));
+        assertThat(availability.get("6h").getCompliance()).isCloseTo(95.0 / 110, within(1e-9));
+        assertThat(sloService.getStatus().get(0).getLatency().get("6h").getBurnRate()).isZero();
+    }
+
+    @Test
+    void shouldPageOnlyWhenLongAndShortWindowsBurn() {
+        // Given: the 1h window burns fast, but the last 5 minutes are clean
+        at(Duration.ofMinutes(-40));
+        requests(100, 50);
+        at(Duration.ZERO);
+        requests(10, 0);
+
+        // When
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).isEmpty();
+
+        // When: errors resume
+        requests(10, 10);
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.getSeverity()).isEqualTo("page");
+            assertThat(alert.getSli()).isEqualTo("availability");
+            assertThat(alert.getLongWindow()).isEqualTo("1h");
+            assertThat(alert.getShortWindow()).isEqualTo("5m");
+            assertThat(alert.getShortWindowBurnRate()).isCloseTo(50.0, within(1e-9));
+        });
+    }
+
+    @Test
+    void shouldRaiseTicketForSlowBurn() {
+        // Given: burn rate 10 over 6h and 30m, below the 14.4 page threshold over 1h
+        at(Duration.ofMinutes(-20));
+        requests(100, 10);
+        at(Duration.ZERO);
+
+        // When
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.getSeverity()).isEqualTo("ticket");
+            assertThat(alert.getLongWindow()).isEqualTo("6h");
+            assertThat(alert.getShortWindow()).isEqualTo("30m");
+        });
+    }
+
+    @Test
+    void shouldNotAlertBelowMinimumRequests() {
+        // Given: every request failed, but there were only 19
+        requests(19, 19);
+
+        // When
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).isEmpty();
+    }
+
+    @Test
+    void shouldSuppressRepeatAlertDuringCooldown() {
+        // Given
+        requests(20, 20);
+        sloService.evaluate();
+
+        // When: still burning 10 minutes later, inside the 15 minute cooldown
+        at(Duration.ofMinutes(10));
+        requests(20, 20);
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).hasSize(1);
+
+        // When: still burning after the cooldown
+        at(Duration.ofMinutes(16));
+        requests(20, 20);
+        sloService.evaluate();
+
+        // Then
+        assertThat(sloService.getRecentAlerts()).hasSize(2)
+                .extracting(SloService.SloAlert::getSeverity)
+                .containsOnly("page");
+    }
+
+    @Test
+    void shouldResetReusedRingSlotAndDropExpiredMinutes() {
+        // Given
+        requests(50, 10);
+
+        // When: 6 hours later the same ring slot is written again
+        at(Duration.ofMinutes(360));
+        requests(1, 0);
+
+        // Then
+        SloService.WindowStatus longest = sloService.getStatus().get(0).getAvailability().get("6h");
+        assertThat(longest.getTotal()).isEqualTo(1);
+        assertThat(longest.getBad()).isZero();
+
+        // When: the remaining minute falls out of every window
+        at(Duration.ofMinutes(720));
+
+        // Then
+        assertThat(sloService.getStatus().get(0).getAvailability().get("6h").getTotal()).isZero();
+        assertThat(sloService.getStatus().get(0).getAvailabilityBudgetRemaining()).isEqualTo(1.0);
+    }
+
+    private void at(Duration offset) {
+        sloService.setClock(Clock.fixed(START.plus(offset), ZoneOffset.UTC));
+    }
+
+    private void requests(int total, int errors) {
+        for (int i = 0; i < total; i++) {
+            sloService.record(PerformanceMetrics.builder()
+                    .route("GET /api/v1/projects")
+                    .statusCode(i < errors ? 500 : 200)
+                    .responseTimeMs(20)
+                    .build());
+        }
+    }
+}
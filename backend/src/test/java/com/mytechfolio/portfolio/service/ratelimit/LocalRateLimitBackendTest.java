@@ -0,0 +1,54 @@
+package com.mytechfolio.portfolio.service.ratelimit;
+
+import com.mytechfolio.portfolio.config.RateLimitProperties;
+import com.mytechfolio.portfolio.util.RouteClass;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitBackendTest {
+
+    private final LocalRateLimitBackend backend = new LocalRateLimitBackend(new RateLimitProperties());
+
+    @Test
+    void shouldRoundRetryAfterUpToWholeSeconds() {
+        // Given: 120 per minute refills one token every 500 ms
+        for (int i = 0; i < 120; i++) {
+            assertThat(backend.tryAcquire(RouteClass.PUBLIC_READ, "client", 120).isAllowed()).isTrue();
+        }
+
+        // When
+        RateLimitDecision decision = backend.tryAcquire(RouteClass.PUBLIC_READ, "client", 120);
+
+        // Then: a sub-second wait is reported as one second, never zero
+        assertThat(decision.isAllowed()).isFalse();
+        assertThat(decision.getRemaining()).isZero();
+        assertThat(decision.getRetryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportFullIntervalForSingleTokenBucket() {
+        // Given
+        backend.tryAcquire(RouteClass.AUTH, "client", 1);
+
+        // When
+        RateLimitDecision decision = backend.tryAcquire(RouteClass.AUTH, "client", 1);
+
+        // Then: just under 60 s left rounds up to 60
+        assertThat(decision.getRetryAfterSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    void shouldKeepBucketsPerRouteClassAndClient() {
+        // Given
+        backend.tryAcquire(RouteClass.AUTH, "client", 1);
+
+        // When
+        RateLimitDecision otherClass = backend.tryAcquire(RouteClass.PUBLIC_READ, "client", 1);
+        RateLimitDecision otherClient = backend.tryAcquire(RouteClass.AUTH, "other", 1);
+
+        // Then
+        assertThat(otherClass.isAllowed()).isTrue();
+        assertThat(otherClient.isAllowed()).isTrue();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mytechfolio.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int WINDOW = 5;
+    private static final int MIN_LIMIT = 10;
+    private static final int MAX_LIMIT = 40;
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, MIN_LIMIT, MAX_LIMIT, WINDOW);
+
+    /**
+     * Runs one sample window with the limit saturated, so it is not treated as application-limited.
+     */
+    private void saturatedWindow(long rttMs) {
+        while (limiter.tryAcquire()) {
+            // fill every slot
+        }
+        for (int i = 0; i < WINDOW; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMs), true);
+        }
+        while (limiter.getInFlight() > 0) {
+            limiter.release(0, false);
+        }
+    }
+
+    @Test
+    void shouldRejectAboveLimit() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // When
+        boolean admitted = limiter.tryAcquire();
+
+        // Then
+        assertThat(admitted).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(20);
+        assertThat(limiter.getAccepted()).isEqualTo(20);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyRecordBaselineInFirstWindow() {
+        // When
+        saturatedWindow(10);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getLongRttMs()).isEqualTo(10.0);
+        assertThat(limiter.getShortRttMs()).isEqualTo(10.0);
+    }
+
+    @Test
+    void shouldGrowUpToMaxWhileLatencyStaysAtBaseline() {
+        // Given
+        saturatedWindow(10);
+
+        // When: each window adds a smoothed sqrt(limit)
+        for (int i = 0; i < 3; i++) {
+            saturatedWindow(10);
+        }
+        int afterThreeWindows = limiter.getLimit();
+        for (int i = 0; i < 100; i++) {
+            saturatedWindow(10);
+        }
+
+        // Then
+        assertThat(afterThreeWindows).isGreaterThan(20);
+        assertThat(limiter.getLimit()).isEqualTo(MAX_LIMIT);
+    }
+
+    @Test
+    void shouldShrinkToMinWhileLatencyRises() {
+        // Given
+        saturatedWindow(10);
+
+        // When
+        saturatedWindow(60);
+        int afterOneWindow = limiter.getLimit();
+        for (int i = 0; i < 100; i++) {
+            saturatedWindow(60);
+        }
+
+        // Then
+        assertThat(afterOneWindow).isLessThan(20);
+        assertThat(limiter.getLimit()).isEqualTo(MIN_LIMIT);
+        assertThat(limiter.getShortRttMs()).isEqualTo(60.0);
+    }
+
+    @Test
+    void shouldRecoverOnceLatencyFalls() {
+        // Given: the limit collapsed under high latency
+        saturatedWindow(10);
+        for (int i = 0; i < 50; i++) {
+            saturatedWindow(60);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(MIN_LIMIT);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            saturatedWindow(10);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(MIN_LIMIT);
+    }
+
+    @Test
+    void shouldNotGrowWhenApplicationLimited() {
+        // Given
+        saturatedWindow(10);
+
+        // When: one request at a time never uses the limit
+        for (int i = 0; i < 10 * WINDOW; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldIgnoreUnsampledReleases() {
+        // Given
+        saturatedWindow(10);
+
+        // When: failures ending early carry no latency signal
+        for (int i = 0; i < 10 * WINDOW; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.SECONDS.toNanos(5), false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getShortRttMs()).isEqualTo(10.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,159 @@
+package com.mytechfolio.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BucketHistogramTest {
+
+    private static final long[] BOUNDS = {10, 100, 1_000};
+
+    private static BucketHistogram histogram(long... values) {
+        BucketHistogram histogram = new BucketHistogram(BOUNDS);
+        for (long value : values) {
+            histogram.record(value);
+        }
+        return histogram;
+    }
+
+    @Test
+    void shouldPlaceValuesOnBucketEdgesInLowerBucket() {
+        // Given: 10 and 100 are exactly on an upper bound, 11 is just above one
+        BucketHistogram.Snapshot snapshot = histogram(10, 11, 100, 1_000).snapshot();
+
+        // Then
+        assertThat(snapshot.getBucketCounts()).containsExactly(1, 2, 1, 0);
+        assertThat(snapshot.percentile(25)).isEqualTo(10);
+        assertThat(snapshot.percentile(50)).isEqualTo(100);
+        assertThat(snapshot.percentile(75)).isEqualTo(100);
+        assertThat(snapshot.percentile(100)).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldCapPercentileAtObservedMaximum() {
+        // Given
+        BucketHistogram.Snapshot snapshot = histogram(3, 40).snapshot();
+
+        // Then: the buckets end at 10 and 100, but no value exceeded 40
+        assertThat(snapshot.percentile(50)).isEqualTo(10);
+        assertThat(snapshot.percentile(99)).isEqualTo(40);
+        assertThat(snapshot.getMean()).isEqualTo(21.5);
+    }
+
+    @Test
+    void shouldReportMaximumForOverflowBucket() {
+        // Given
+        BucketHistogram.Snapshot snapshot = histogram(5, 7_500).snapshot();
+
+        // Then
+        assertThat(snapshot.getBucketCounts()).containsExactly(1, 0, 0, 1);
+        assertThat(snapshot.percentile(100)).isEqualTo(7_500);
+    }
+
+    @Test
+    void shouldIgnoreNegativeValuesAndReportZeroWhenEmpty() {
+        // Given
+        BucketHistogram.Snapshot snapshot = histogram(-1).snapshot();
+
+        // Then
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.percentile(50)).isZero();
+        assertThat(snapshot.getMean()).isZero();
+    }
+
+    @Test
+    void shouldUseNewMaximumWhenIntervalRaisedIt() {
+        // Given
+        BucketHistogram histogram = histogram(50);
+        BucketHistogram.Snapshot earlier = histogram.snapshot();
+        histogram.record(700);
+
+        // When
+        BucketHistogram.Snapshot interval = histogram.snapshot().minus(earlier);
+
+        // Then
+        assertThat(interval.getCount()).isEqualTo(1);
+        assertThat(interval.getSum()).isEqualTo(700);
+        assertThat(interval.getBucketCounts()).containsExactly(0, 0, 1, 0);
+        assertThat(interval.getMax()).isEqualTo(700);
+    }
+
+    @Test
+    void shouldEstimateIntervalMaximumFromHighestBucketWhenMaximumDidNotRise() {
+        // Given: the overall maximum 700 predates the interval
+        BucketHistogram histogram = histogram(700);
+        BucketHistogram.Snapshot earlier = histogram.snapshot();
+        histogram.record(20);
+        histogram.record(50);
+
+        // When
+        BucketHistogram.Snapshot interval = histogram.snapshot().minus(earlier);
+
+        // Then: bounded by the upper bound of the highest non-empty bucket
+        assertThat(interval.getCount()).isEqualTo(2);
+        assertThat(interval.getMax()).isEqualTo(100);
+        assertThat(interval.percentile(100)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldUseOverallMaximumWhenIntervalOnlyReachedOverflowBucket() {
+        // Given
+        BucketHistogram histogram = histogram(9_000);
+        BucketHistogram.Snapshot earlier = histogram.snapshot();
+        histogram.record(2_000);
+
+        // When
+        BucketHistogram.Snapshot interval = histogram.snapshot().minus(earlier);
+
+        // Then: the overflow bucket has no upper bound, so the overall maximum is the estimate
+        assertThat(interval.getBucketCounts()).containsExactly(0, 0, 0, 1);
+        assertThat(interval.getMax()).isEqualTo(9_000);
+    }
+
+    @Test
+    void shouldReportEmptyIntervalWithZeroMaximum() {
+        // Given
+        BucketHistogram histogram = histogram(30);
+
+        // When
+        BucketHistogram.Snapshot interval = histogram.snapshot().minus(histogram.snapshot());
+
+        // Then
+        assertThat(interval.getCount()).isZero();
+        assertThat(interval.getMax()).isZero();
+    }
+
+    @Test
+    void shouldMergeSnapshots() {
+        // Given
+        BucketHistogram.Snapshot first = histogram(5, 50).snapshot();
+        BucketHistogram.Snapshot second = histogram(500, 5_000).snapshot();
+
+        // When
+        BucketHistogram.Snapshot merged = first.plus(second);
+
+        // Then
+        assertThat(merged.getBucketCounts()).containsExactly(1, 1, 1, 1);
+        assertThat(merged.getCount()).isEqualTo(4);
+        assertThat(merged.getSum()).isEqualTo(5_555);
+        assertThat(merged.getMax()).isEqualTo(5_000);
+    }
+
+    @Test
+    void shouldReturnCopyForNullOrIncompatibleLayout() {
+        // Given
+        BucketHistogram.Snapshot snapshot = histogram(5, 50).snapshot();
+        BucketHistogram.Snapshot otherLayout = BucketHistogram.latencyMillis().snapshot();
+
+        // When
+        BucketHistogram.Snapshot minus = snapshot.minus(otherLayout);
+        BucketHistogram.Snapshot plus = snapshot.plus(otherLayout);
+        BucketHistogram.Snapshot copy = snapshot.minus(null);
+
+        // Then
+        for (BucketHistogram.Snapshot result : new BucketHistogram.Snapshot[] {minus, plus, copy}) {
+            assertThat(result).isEqualTo(snapshot).isNotSameAs(snapshot);
+            assertThat(result.getBucketCounts()).isNotSameAs(snapshot.getBucketCounts());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.mytechfolio.portfolio.util;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryShapeNormalizerTest {
+
+    @Test
+    void shouldReplaceLiteralsAndKeepSort() {
+        // Given
+        BsonDocument command = BsonDocument.parse("""
+            {"find": "projects",
+             "filter": {"techStackIds": {"$in": ["a", "b"]}, "isFeatured": true},
+             "sort": {"createdAt": -1}, "limit": 20}""");
+
+        // When
+        String shape = QueryShapeNormalizer.normalize("find", command);
+
+        // Then
+        assertThat(shape).isEqualTo(
+            "find filter={techStackIds:{$in:?},isFeatured:?} sort={\"createdAt\": -1}");
+    }
+
+    @Test
+    void shouldGroupQueriesDifferingOnlyInValues() {
+        // Given
+        BsonDocument first = BsonDocument.parse("{\"filter\": {\"status\": \"COMPLETED\", \"viewCount\": {\"$gte\": 10}}}");
+        BsonDocument second = BsonDocument.parse("{\"filter\": {\"status\": \"PLANNED\", \"viewCount\": {\"$gte\": 999}}}");
+
+        // When / Then
+        assertThat(QueryShapeNormalizer.normalize("find", first))
+            .isEqualTo(QueryShapeNormalizer.normalize("find", second))
+            .doesNotContain("COMPLETED", "10");
+    }
+
+    @Test
+    void shouldKeepStructuralArraysOfDocuments() {
+        // Given
+        BsonDocument command = BsonDocument.parse("""
+            {"pipeline": [
+                {"$match": {"_id": {"$oid": "65a1b2c3d4e5f6a7b8c9d0e1"}}},
+                {"$lookup": {"from": "tech_stacks", "localField": "ids", "foreignField": "_id", "as": "techStacks"}}]}""");
+
+        // When
+        String shape = QueryShapeNormalizer.normalize("aggregate", command);
+
+        // Then
+        assertThat(shape).isEqualTo(
+            "aggregate pipeline=[{$match:{_id:?}},{$lookup:{from:?,localField:?,foreignField:?,as:?}}]");
+    }
+
+    @Test
+    void shouldNormalizeOrBranches() {
+        // Given
+        BsonDocument command = BsonDocument.parse("""
+            {"query": {"$or": [{"email": "a@example.com"}, {"ipAddress": "10.0.0.1"}]}}""");
+
+        // When
+        String shape = QueryShapeNormalizer.normalize("count", command);
+
+        // Then
+        assertThat(shape).isEqualTo("count query={$or:[{email:?},{ipAddress:?}]}");
+    }
+
+    @Test
+    void shouldUseFirstStatementOfWriteCommands() {
+        // Given
+        BsonDocument update = BsonDocument.parse("""
+            {"update": "projects", "updates": [
+                {"q": {"_id": "1"}, "u": {"$inc": {"viewCount": 3}}},
+                {"q": {"title": "x"}, "u": {"$set": {"title": "y"}}}]}""");
+        BsonDocument delete = BsonDocument.parse("{\"delete\": \"contacts\", \"deletes\": [{\"q\": {\"email\": \"a@example.com\"}, \"limit\": 1}]}");
+
+        // When / Then
+        assertThat(QueryShapeNormalizer.normalize("update", update)).isEqualTo("update q={_id:?}");
+        assertThat(QueryShapeNormalizer.normalize("delete", delete)).isEqualTo("delete q={email:?}");
+    }
+
+    @Test
+    void shouldKeepDistinctKeyVerbatim() {
+        // Given
+        BsonDocument command = BsonDocument.parse("{\"distinct\": \"projects\", \"key\": \"status\", \"query\": {\"isFeatured\": true}}");
+
+        // When
+        String shape = QueryShapeNormalizer.normalize("distinct", command);
+
+        // Then
+        assertThat(shape).isEqualTo("distinct key=status query={isFeatured:?}");
+    }
+
+    @Test
+    void shouldReduceOtherCommandsToTheirName() {
+        // Given
+        BsonDocument command = BsonDocument.parse("{\"insert\": \"contacts\", \"documents\": [{\"email\": \"a@example.com\"}]}");
+
+        // When / Then
+        assertThat(QueryShapeNormalizer.normalize("insert", command)).isEqualTo("insert");
+        assertThat(QueryShapeNormalizer.normalize("find", new BsonDocument())).isEqualTo("find");
+    }
+}
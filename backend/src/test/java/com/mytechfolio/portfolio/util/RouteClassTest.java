@@ -0,0 +1,32 @@
+package com.mytechfolio.portfolio.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassTest {
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @CsvSource({
+        "GET,     /api/v1/projects,                      PUBLIC_READ",
+        "GET,     /api/v1/projects/abc/media/1,          PUBLIC_READ",
+        "HEAD,    /api/v1/techstacks,                    PUBLIC_READ",
+        "OPTIONS, /api/v1/projects,                      PUBLIC_READ",
+        "GET,     /api/v1/engagement/stats,              PUBLIC_READ",
+        "POST,    /api/v1/contact,                       ENGAGEMENT_WRITE",
+        "POST,    /api/v1/engagement/track,              ENGAGEMENT_WRITE",
+        "PATCH,   /api/v1/engagement/abc,                ENGAGEMENT_WRITE",
+        "POST,    /api/v1/auth/refresh,                  AUTH",
+        "GET,     /api/v1/auth/profile,                  AUTH",
+        "POST,    /api/v1/auth/2fa/verify,               AUTH",
+        "GET,     /api/v1/admin/dashboard,               ADMIN",
+        "POST,    /api/v1/admin/projects,                ADMIN",
+        "POST,    /api/v1/projects,                      ADMIN",
+        "DELETE,  /api/v1/projects/abc,                  ADMIN",
+        "PATCH,   /api/v1/contact,                       ADMIN"
+    })
+    void shouldClassifyRequest(String method, String path, RouteClass expected) {
+        assertThat(RouteClass.classify(method, path)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mytechfolio.portfolio.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long CAPACITY = 4;
+    private static final long PERIOD = TimeUnit.MINUTES.toNanos(1);
+    private static final long INTERVAL = PERIOD / CAPACITY;
+
+    private final TokenBucket bucket = new TokenBucket(0);
+
+    @Test
+    void shouldAllowFullBurstCountingDownRemaining() {
+        // When
+        long first = bucket.tryTake(CAPACITY, PERIOD, 0);
+        long second = bucket.tryTake(CAPACITY, PERIOD, 0);
+        long third = bucket.tryTake(CAPACITY, PERIOD, 0);
+        long fourth = bucket.tryTake(CAPACITY, PERIOD, 0);
+
+        // Then
+        assertThat(new long[] {first, second, third, fourth}).containsExactly(3, 2, 1, 0);
+    }
+
+    @Test
+    void shouldReturnNanosUntilNextTokenWhenEmpty() {
+        // Given
+        drain(0);
+
+        // When
+        long atOnce = bucket.tryTake(CAPACITY, PERIOD, 0);
+        long oneSecondLater = bucket.tryTake(CAPACITY, PERIOD, TimeUnit.SECONDS.toNanos(1));
+
+        // Then: a rejected take does not consume anything
+        assertThat(atOnce).isEqualTo(-INTERVAL);
+        assertThat(oneSecondLater).isEqualTo(-(INTERVAL - TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        // Given
+        drain(0);
+
+        // When
+        long justBefore = bucket.tryTake(CAPACITY, PERIOD, INTERVAL - 1);
+        long atInterval = bucket.tryTake(CAPACITY, PERIOD, INTERVAL);
+        long again = bucket.tryTake(CAPACITY, PERIOD, INTERVAL);
+
+        // Then
+        assertThat(justBefore).isEqualTo(-1);
+        assertThat(atInterval).isZero();
+        assertThat(again).isEqualTo(-INTERVAL);
+    }
+
+    @Test
+    void shouldCapBurstAfterLongIdle() {
+        // Given
+        drain(0);
+
+        // When: idle for many periods
+        long afterIdle = bucket.tryTake(CAPACITY, PERIOD, 100 * PERIOD);
+
+        // Then: only one period worth of tokens is available
+        assertThat(afterIdle).isEqualTo(CAPACITY - 1);
+    }
+
+    private void drain(long nowNanos) {
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryTake(CAPACITY, PERIOD, nowNanos);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.mytechfolio.portfolio.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceContextTest {
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.end();
+    }
+
+    @Test
+    void shouldRecordNothingWhileTailCandidateIsBelowThreshold() {
+        // Given
+        TraceContext trace = TraceContext.begin("request-1", false, TimeUnit.MINUTES.toNanos(1), 16);
+
+        // When
+        TraceContext.Span span = TraceContext.startSpan("ProjectService.getProject", TraceContext.Kind.INTERNAL);
+        trace.addCompletedSpan("mongodb.find projects", TraceContext.Kind.CLIENT, 1_000, Map.of(), false);
+
+        // Then
+        assertThat(span).isNull();
+        assertThat(TraceContext.recording()).isNull();
+        assertThat(trace.getFinishedSpans()).isEmpty();
+    }
+
+    @Test
+    void shouldRecordUnderRootOnceTailCandidateReachesThreshold() {
+        // Given: a zero threshold is reached immediately
+        TraceContext trace = TraceContext.begin("request-2", false, 0, 16);
+
+        // When
+        TraceContext.Span span = TraceContext.startSpan("ProjectService.getProject", TraceContext.Kind.INTERNAL);
+        span.end();
+        TraceContext.Span root = trace.getRootSpan().setName("GET /api/v1/projects/{id}");
+        root.end();
+
+        // Then
+        assertThat(span.getParentSpanId()).isEqualTo(root.getSpanId());
+        assertThat(root.getKind()).isEqualTo(TraceContext.Kind.SERVER);
+        assertThat(root.getStartEpochNanos()).isLessThanOrEqualTo(span.getStartEpochNanos());
+        assertThat(trace.getFinishedSpans()).containsExactly(span, root);
+    }
+
+    @Test
+    void shouldRecordHeadSampledTraceFromStart() {
+        // Given
+        TraceContext trace = TraceContext.begin("123e4567-e89b-12d3-a456-426614174000", true, TimeUnit.MINUTES.toNanos(1), 16);
+
+        // When
+        TraceContext.Span span = TraceContext.startSpan("filter chain", TraceContext.Kind.INTERNAL);
+
+        // Then
+        assertThat(span).isNotNull();
+        assertThat(span.getParentSpanId()).isEqualTo(trace.getRootSpan().getSpanId());
+        assertThat(trace.getTraceId()).isEqualTo("123e4567e89b12d3a456426614174000");
+    }
+}
@@ -1,5 +1,6 @@
 package com.mytechfolio.portfolio.validation;
 
+import com.mytechfolio.portfolio.domain.Contact;
 import com.mytechfolio.portfolio.exception.DuplicateResourceException;
 import com.mytechfolio.portfolio.repository.ContactRepository;
 import org.junit.jupiter.api.Test;
@@ -10,9 +11,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +71,97 @@ class ValidationServiceTest {
             .hasMessageContaining("Too many submissions");
     }
 
+    @Test
+    void shouldRejectFloodFromSameIpWithoutQueryingDatabase() {
+        // Given
+        String ipAddress = "10.0.0.1";
+        when(contactRepository.countByIpAddressAndCreatedAtAfter(any(), any())).thenReturn(0L);
+        when(contactRepository.existsByEmailAndMessageAndCreatedAtAfter(any(), any(), any())).thenReturn(false);
+        for (int i = 0; i < 3; i++) {
+            validationService.validateContactSubmission("user" + i + "@example.com", "Message " + i, "", ipAddress);
+            validationService.recordContactSubmission("user" + i + "@example.com", "Message " + i, ipAddress);
+        }
+        
+        // When/Then - the fourth submission within the hour is rejected in memory
+        assertThatThrownBy(() -> 
+            validationService.validateContactSubmission("user3@example.com", "Message 3", "", ipAddress))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Too many submissions");
+        verify(contactRepository, times(3)).countByIpAddressAndCreatedAtAfter(any(), any());
+    }
+
+    @Test
+    void shouldRejectRepeatedContentWithoutQueryingDatabase() {
+        // Given
+        when(contactRepository.countByIpAddressAndCreatedAtAfter(any(), any())).thenReturn(0L);
+        when(contactRepository.existsByEmailAndMessageAndCreatedAtAfter(any(), any(), any())).thenReturn(false);
+        validationService.validateContactSubmission("test@example.com", "Same message", "", "10.0.0.2");
+        validationService.recordContactSubmission("test@example.com", "Same message", "10.0.0.2");
+        
+        // When/Then
+        assertThatThrownBy(() -> 
+            validationService.validateContactSubmission("test@example.com", "Same message", "", "10.0.0.3"))
+            .isInstanceOf(DuplicateResourceException.class);
+        verify(contactRepository, times(1)).existsByEmailAndMessageAndCreatedAtAfter(any(), any(), any());
+    }
+
+    @Test
+    void shouldNotCountSubmissionsThatWereNeverSaved() {
+        // Given
+        String ipAddress = "10.0.0.4";
+        when(contactRepository.countByIpAddressAndCreatedAtAfter(any(), any())).thenReturn(0L);
+        when(contactRepository.existsByEmailAndMessageAndCreatedAtAfter(any(), any(), any())).thenReturn(false);
+        
+        // When/Then - validated but not recorded, e.g. because the save failed
+        for (int i = 0; i < 4; i++) {
+            String email = "retry@example.com";
+            assertThatCode(() -> validationService.validateContactSubmission(email, "Message", "", ipAddress))
+                .doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    void shouldBlockInMemoryWithStoredSubmissionTimes() {
+        // Given
+        String ipAddress = "10.0.0.5";
+        LocalDateTime now = LocalDateTime.now();
+        when(contactRepository.countByIpAddressAndCreatedAtAfter(any(), any())).thenReturn(3L);
+        when(contactRepository.findTop3ByIpAddressAndCreatedAtAfterOrderByCreatedAtDesc(any(), any()))
+            .thenReturn(List.of(contact(now.minusMinutes(1)), contact(now.minusMinutes(20)), contact(now.minusMinutes(50))));
+        assertThatThrownBy(() ->
+            validationService.validateContactSubmission("user@example.com", "Message", "", ipAddress))
+            .hasMessageContaining("Too many submissions");
+        
+        // When/Then - rejected in memory while the stored submissions are within the hour
+        assertThatThrownBy(() ->
+            validationService.validateContactSubmission("user@example.com", "Message", "", ipAddress))
+            .hasMessageContaining("Too many submissions");
+        verify(contactRepository, times(1)).countByIpAddressAndCreatedAtAfter(any(), any());
+    }
+
+    @Test
+    void shouldNotBlockInMemoryBeyondStoredSubmissionTimes() {
+        // Given: the stored submissions leave the window right away
+        String ipAddress = "10.0.0.6";
+        LocalDateTime anHourAgo = LocalDateTime.now().minusHours(1);
+        when(contactRepository.countByIpAddressAndCreatedAtAfter(any(), any())).thenReturn(3L);
+        when(contactRepository.findTop3ByIpAddressAndCreatedAtAfterOrderByCreatedAtDesc(any(), any()))
+            .thenReturn(List.of(contact(anHourAgo), contact(anHourAgo), contact(anHourAgo)));
+        assertThatThrownBy(() ->
+            validationService.validateContactSubmission("user@example.com", "Message", "", ipAddress))
+            .hasMessageContaining("Too many submissions");
+        
+        // When/Then - MongoDB decides again instead of a full hour of in-memory rejections
+        assertThatThrownBy(() ->
+            validationService.validateContactSubmission("user@example.com", "Message", "", ipAddress))
+            .hasMessageContaining("Too many submissions");
+        verify(contactRepository, times(2)).countByIpAddressAndCreatedAtAfter(any(), any());
+    }
+
+    private static Contact contact(LocalDateTime createdAt) {
+        return Contact.builder().createdAt(createdAt).build();
+    }
+
     @Test
     void shouldThrowExceptionWhenHoneypotFilled() {
         // Given